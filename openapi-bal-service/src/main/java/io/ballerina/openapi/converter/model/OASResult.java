@@ -17,23 +17,44 @@
  */
 package io.ballerina.openapi.converter.model;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import io.ballerina.openapi.converter.diagnostic.OpenAPIConverterDiagnostic;
 import io.swagger.v3.core.util.Json;
 import io.swagger.v3.core.util.Yaml;
 import io.swagger.v3.oas.models.OpenAPI;
 
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.PosixFileAttributeView;
 import java.util.List;
 import java.util.Optional;
+import java.util.UUID;
 
 /**
- * This {@code OASResult} is used to contain OpenAPI definition in string format and error list.
+ * This {@code OASResult} is used to contain OpenAPI definition in string format and error list. The YAML and JSON
+ * forms of the definition are serialized at most once, and they can be streamed to a file without building the
+ * serialized string.
  *
  * @since 2.0.0
  */
 public class OASResult {
+    private static final String TEMP_FILE_SUFFIX = ".tmp";
+
     private OpenAPI openAPI;
     private String serviceName; // added base path for key to definition
     private final List<OpenAPIConverterDiagnostic> diagnostics;
+    private String yaml;
+    private String json;
+    private boolean isYamlSerialized;
+    private boolean isJsonSerialized;
 
     /**
      * This constructor is used to store the details that Map of {@code OpenAPI} objects and diagnostic list.
@@ -55,19 +76,108 @@ public class OASResult {
         return this.serviceName;
     }
 
-    public Optional<String> getYaml() {
-        return Optional.ofNullable(Yaml.pretty(this.openAPI));
+    public synchronized Optional<String> getYaml() {
+        if (!isYamlSerialized) {
+            yaml = Yaml.pretty(this.openAPI);
+            isYamlSerialized = true;
+        }
+        return Optional.ofNullable(yaml);
+    }
+
+    public synchronized Optional<String> getJson() {
+        if (!isJsonSerialized) {
+            json = Json.pretty(this.openAPI);
+            isJsonSerialized = true;
+        }
+        return Optional.ofNullable(json);
+    }
+
+    /**
+     * Writes the YAML form of the definition to the given file. The file is replaced only when the definition is
+     * written completely.
+     */
+    public void writeYaml(Path filePath) throws IOException {
+        writeFile(filePath, this::writeYaml);
+    }
+
+    /**
+     * Writes the YAML form of the definition to the given stream, the stream is not closed.
+     */
+    public synchronized void writeYaml(OutputStream outputStream) throws IOException {
+        write(outputStream, isYamlSerialized ? yaml : null, Yaml.pretty());
     }
 
-    public Optional<String> getJson() {
-        return Optional.ofNullable(Json.pretty(this.openAPI));
+    /**
+     * Writes the JSON form of the definition to the given file. The file is replaced only when the definition is
+     * written completely.
+     */
+    public void writeJson(Path filePath) throws IOException {
+        writeFile(filePath, this::writeJson);
+    }
+
+    /**
+     * Writes the JSON form of the definition to the given stream, the stream is not closed.
+     */
+    public synchronized void writeJson(OutputStream outputStream) throws IOException {
+        write(outputStream, isJsonSerialized ? json : null, Json.pretty());
+    }
+
+    /**
+     * Writes the definition to a temporary file next to the given file and moves it in place, so that a failure of
+     * the serialization does not leave a truncated file behind. The temporary file is created with the default
+     * permissions of a new file, or the permissions of the replaced file, since it becomes the written file.
+     */
+    private static void writeFile(Path filePath, StreamWriter streamWriter) throws IOException {
+        Path absolutePath = filePath.toAbsolutePath();
+        Path tempFile = absolutePath.resolveSibling(absolutePath.getFileName() + "." + UUID.randomUUID() +
+                TEMP_FILE_SUFFIX);
+        try {
+            try (OutputStream outputStream = new BufferedOutputStream(Files.newOutputStream(tempFile,
+                    StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE))) {
+                streamWriter.write(outputStream);
+            }
+            if (Files.exists(absolutePath) &&
+                    Files.getFileAttributeView(absolutePath, PosixFileAttributeView.class) != null) {
+                Files.setPosixFilePermissions(tempFile, Files.getPosixFilePermissions(absolutePath));
+            }
+            try {
+                Files.move(tempFile, absolutePath, StandardCopyOption.REPLACE_EXISTING,
+                        StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(tempFile, absolutePath, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(tempFile);
+            throw e;
+        }
+    }
+
+    private void write(OutputStream outputStream, String serialized, ObjectWriter writer) throws IOException {
+        if (serialized != null) {
+            // Already serialized, write it as it is
+            outputStream.write(serialized.getBytes(StandardCharsets.UTF_8));
+            return;
+        }
+        writer.without(JsonGenerator.Feature.AUTO_CLOSE_TARGET).writeValue(outputStream, this.openAPI);
     }
 
     public void setServiceName(String serviceName) {
         this.serviceName = serviceName;
     }
 
-    public void setOpenAPI(OpenAPI openAPI) {
+    public synchronized void setOpenAPI(OpenAPI openAPI) {
         this.openAPI = openAPI;
+        this.yaml = null;
+        this.json = null;
+        this.isYamlSerialized = false;
+        this.isJsonSerialized = false;
+    }
+
+    /**
+     * Writes a serialized form of the definition to a stream.
+     */
+    @FunctionalInterface
+    private interface StreamWriter {
+        void write(OutputStream outputStream) throws IOException;
     }
 }
@@ -0,0 +1,83 @@
+/*
+ * Copyright (c) 2022, WSO2 LLC. (http://www.wso2.com). All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.openapi.converter.service;
+
+import io.ballerina.compiler.api.ModuleID;
+import io.ballerina.compiler.api.symbols.TypeSymbol;
+import io.ballerina.openapi.converter.diagnostic.OpenAPIConverterDiagnostic;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Registry of the types which are mapped to the component schemas of an OpenAPI definition.
+ * <p>
+ * The component schema of a type is derived once, together with the schemas of the types it refers to, and the
+ * later references to the type get only the `$ref` to the schema. A registry is shared by the
+ * {@link OpenAPIComponentMapper}s of a service, since the schemas of a service are the components of its OpenAPI
+ * definition. The diagnostics reported while mapping a type are kept, so that they are reported for each reference
+ * as before.
+ * </p>
+ *
+ * @since 1.4.0
+ */
+public final class ComponentSchemaRegistry {
+    private final Map<String, List<OpenAPIConverterDiagnostic>> mappedTypes = new HashMap<>();
+    private final Set<String> typesInProgress = new HashSet<>();
+
+    /**
+     * Checks whether the type of the given key is being mapped, which means that it is referred to by one of the
+     * types it refers to.
+     */
+    boolean isInProgress(String typeKey) {
+        return typesInProgress.contains(typeKey);
+    }
+
+    /**
+     * Returns the diagnostics reported while mapping the type of the given key, if the type is mapped.
+     */
+    Optional<List<OpenAPIConverterDiagnostic>> getMappedType(String typeKey) {
+        return Optional.ofNullable(mappedTypes.get(typeKey));
+    }
+
+    void startMapping(String typeKey) {
+        typesInProgress.add(typeKey);
+    }
+
+    void endMapping(String typeKey, List<OpenAPIConverterDiagnostic> diagnostics) {
+        typesInProgress.remove(typeKey);
+        mappedTypes.put(typeKey, diagnostics);
+    }
+
+    /**
+     * Returns the key of the given type, which is the type name qualified by its module, since the types of the
+     * different modules can have the same name.
+     */
+    static String getTypeKey(TypeSymbol typeSymbol, String typeName) {
+        if (typeSymbol.getModule().isEmpty()) {
+            return typeName;
+        }
+        ModuleID moduleID = typeSymbol.getModule().get().id();
+        return moduleID.orgName() + "/" + moduleID.moduleName() + ":" + moduleID.version() + ":" + typeName;
+    }
+}
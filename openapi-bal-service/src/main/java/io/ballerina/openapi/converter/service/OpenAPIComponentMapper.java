@@ -68,12 +68,24 @@ import static io.ballerina.openapi.converter.Constants.FLOAT;
  */
 public class OpenAPIComponentMapper {
     private final Components components;
+    private final ComponentSchemaRegistry componentSchemas;
     private final List<OpenAPIConverterDiagnostic> diagnostics;
 
 
     public OpenAPIComponentMapper(Components components) {
-         this.components = components;
-         this.diagnostics = new ArrayList<>();
+        this(components, new ComponentSchemaRegistry());
+    }
+
+    /**
+     * Creates a mapper which shares the already mapped component schemas of the given registry.
+     *
+     * @param components       OAS Components
+     * @param componentSchemas registry of the types mapped to the given components
+     */
+    public OpenAPIComponentMapper(Components components, ComponentSchemaRegistry componentSchemas) {
+        this.components = components;
+        this.componentSchemas = componentSchemas;
+        this.diagnostics = new ArrayList<>();
     }
 
     public List<OpenAPIConverterDiagnostic> getDiagnostics() {
@@ -86,11 +98,33 @@ public class OpenAPIComponentMapper {
      * @param typeSymbol     Record Name as a TypeSymbol
      */
     public void createComponentSchema(Map<String, Schema> schema, TypeSymbol typeSymbol) {
+        String componentName = ConverterCommonUtils.unescapeIdentifier(typeSymbol.getName().orElseThrow().trim());
+        String typeKey = ComponentSchemaRegistry.getTypeKey(typeSymbol, componentName);
+        if (componentSchemas.isInProgress(typeKey)) {
+            // The type refers to itself through the other types, its schema is added once it is mapped
+            return;
+        }
+        Optional<List<OpenAPIConverterDiagnostic>> mappedDiagnostics = componentSchemas.getMappedType(typeKey);
+        if (mappedDiagnostics.isPresent() && components.getSchemas() != null &&
+                components.getSchemas().containsKey(componentName)) {
+            diagnostics.addAll(mappedDiagnostics.get());
+            return;
+        }
+        int diagnosticCount = diagnostics.size();
+        componentSchemas.startMapping(typeKey);
+        try {
+            mapComponentSchema(schema, typeSymbol, componentName);
+        } finally {
+            componentSchemas.endMapping(typeKey,
+                    new ArrayList<>(diagnostics.subList(diagnosticCount, diagnostics.size())));
+        }
+    }
+
+    private void mapComponentSchema(Map<String, Schema> schema, TypeSymbol typeSymbol, String componentName) {
         if (schema == null) {
             schema = new HashMap<>();
         }
         // Getting main record description
-        String componentName = ConverterCommonUtils.unescapeIdentifier(typeSymbol.getName().orElseThrow().trim());
         Map<String, String> apiDocs = getRecordFieldsAPIDocsMap((TypeReferenceTypeSymbol) typeSymbol, componentName);
         String typeDoc = null;
         if (apiDocs.size() > 0) {
@@ -68,6 +68,7 @@ public class OpenAPIParameterMapper {
     private final Map<String, String> apidocs;
     private final List<OpenAPIConverterDiagnostic> errors = new ArrayList<>();
     private final Components components;
+    private final ComponentSchemaRegistry componentSchemas;
     private final SemanticModel semanticModel;
 
     public List<OpenAPIConverterDiagnostic> getErrors() {
@@ -77,11 +78,20 @@ public class OpenAPIParameterMapper {
     public OpenAPIParameterMapper(FunctionDefinitionNode functionDefinitionNode,
                                   OperationAdaptor operationAdaptor, Map<String, String> apidocs,
                                   Components components, SemanticModel semanticModel) {
+        this(functionDefinitionNode, operationAdaptor, apidocs, components, new ComponentSchemaRegistry(),
+                semanticModel);
+    }
+
+    public OpenAPIParameterMapper(FunctionDefinitionNode functionDefinitionNode,
+                                  OperationAdaptor operationAdaptor, Map<String, String> apidocs,
+                                  Components components, ComponentSchemaRegistry componentSchemas,
+                                  SemanticModel semanticModel) {
 
         this.functionDefinitionNode = functionDefinitionNode;
         this.operationAdaptor = operationAdaptor;
         this.apidocs = apidocs;
         this.components = components;
+        this.componentSchemas = componentSchemas;
         this.semanticModel = semanticModel;
     }
 
@@ -100,7 +110,7 @@ public class OpenAPIParameterMapper {
         SeparatedNodeList<ParameterNode> parameterList = functionSignature.parameters();
         for (ParameterNode parameterNode : parameterList) {
             OpenAPIQueryParameterMapper queryParameterMapper = new OpenAPIQueryParameterMapper(apidocs, components,
-                    semanticModel);
+                    componentSchemas, semanticModel);
             if (parameterNode.kind() == SyntaxKind.REQUIRED_PARAM) {
                 RequiredParameterNode requiredParameterNode = (RequiredParameterNode) parameterNode;
                 // Handle query parameter
@@ -159,7 +169,7 @@ public class OpenAPIParameterMapper {
                 ResourcePathParameterNode pathParam = (ResourcePathParameterNode) param;
                 if (pathParam.typeDescriptor().kind() == SyntaxKind.SIMPLE_NAME_REFERENCE) {
                     SimpleNameReferenceNode queryNode = (SimpleNameReferenceNode) pathParam.typeDescriptor();
-                    OpenAPIComponentMapper componentMapper = new OpenAPIComponentMapper(components);
+                    OpenAPIComponentMapper componentMapper = new OpenAPIComponentMapper(components, componentSchemas);
                     TypeSymbol typeSymbol = (TypeSymbol) semanticModel.symbol(queryNode).orElseThrow();
                     componentMapper.createComponentSchema(components.getSchemas(), typeSymbol);
                     Schema schema = new Schema();
@@ -204,9 +214,9 @@ public class OpenAPIParameterMapper {
                 // Handle request payload.
                 Optional<String> customMediaType = extractCustomMediaType(functionDefinitionNode);
                 OpenAPIRequestBodyMapper openAPIRequestBodyMapper = customMediaType.map(
-                        value -> new OpenAPIRequestBodyMapper(components,
+                        value -> new OpenAPIRequestBodyMapper(components, componentSchemas,
                         operationAdaptor, semanticModel, value)).orElse(new OpenAPIRequestBodyMapper(components,
-                        operationAdaptor, semanticModel));
+                        componentSchemas, operationAdaptor, semanticModel, null));
                 openAPIRequestBodyMapper.handlePayloadAnnotation(requiredParameterNode, schema, annotation, apidocs);
                 errors.addAll(openAPIRequestBodyMapper.getDiagnostics());
             } else if ((annotation.annotReference().toString()).trim().equals(Constants.HTTP_PAYLOAD) &&
@@ -62,6 +62,7 @@ import static io.ballerina.openapi.converter.utils.ConverterCommonUtils.unescape
  */
 public class OpenAPIQueryParameterMapper {
     private final Components components;
+    private final ComponentSchemaRegistry componentSchemas;
     private final SemanticModel semanticModel;
     private final Map<String, String> apidocs;
     private final SyntaxKind[] validExpressionKind = {STRING_LITERAL, NUMERIC_LITERAL, BOOLEAN_LITERAL,
@@ -69,8 +70,14 @@ public class OpenAPIQueryParameterMapper {
 
     public OpenAPIQueryParameterMapper(Map<String, String> apidocs, Components components,
                                        SemanticModel semanticModel) {
+        this(apidocs, components, new ComponentSchemaRegistry(), semanticModel);
+    }
+
+    public OpenAPIQueryParameterMapper(Map<String, String> apidocs, Components components,
+                                       ComponentSchemaRegistry componentSchemas, SemanticModel semanticModel) {
         this.apidocs = apidocs;
         this.components = components;
+        this.componentSchemas = componentSchemas;
         this.semanticModel = semanticModel;
     }
 
@@ -112,7 +119,7 @@ public class OpenAPIQueryParameterMapper {
             QueryParameter queryParameter = new QueryParameter();
             queryParameter.setName(ConverterCommonUtils.unescapeIdentifier(queryParamName));
             SimpleNameReferenceNode queryNode = (SimpleNameReferenceNode) queryParam.typeName();
-            OpenAPIComponentMapper componentMapper = new OpenAPIComponentMapper(components);
+            OpenAPIComponentMapper componentMapper = new OpenAPIComponentMapper(components, componentSchemas);
             TypeSymbol typeSymbol = (TypeSymbol) semanticModel.symbol(queryNode).orElseThrow();
             componentMapper.createComponentSchema(components.getSchemas(), typeSymbol);
             Schema schema = new Schema();
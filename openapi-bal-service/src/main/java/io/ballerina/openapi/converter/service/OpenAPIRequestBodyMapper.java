@@ -68,6 +68,7 @@ import static io.ballerina.openapi.converter.utils.ConverterCommonUtils.extractA
  */
 public class OpenAPIRequestBodyMapper {
     private final Components components;
+    private final ComponentSchemaRegistry componentSchemas;
     private final OperationAdaptor operationAdaptor;
     private final SemanticModel semanticModel;
     private final String customMediaType;
@@ -83,7 +84,24 @@ public class OpenAPIRequestBodyMapper {
      */
     public OpenAPIRequestBodyMapper(Components components, OperationAdaptor operationAdaptor,
                                     SemanticModel semanticModel, String customMediaType) {
+        this(components, new ComponentSchemaRegistry(), operationAdaptor, semanticModel, customMediaType);
+    }
+
+    /**
+     * This constructor uses to create OpenAPIRequestBodyMapper instance which shares the mapped component schemas
+     * of the service.
+     *
+     * @param components        - OAS Components
+     * @param componentSchemas  - Registry of the types mapped to the components
+     * @param operationAdaptor  - Model of operation
+     * @param semanticModel     - Semantic model for given ballerina service
+     * @param customMediaType   - custom media type, null when absent
+     */
+    public OpenAPIRequestBodyMapper(Components components, ComponentSchemaRegistry componentSchemas,
+                                    OperationAdaptor operationAdaptor, SemanticModel semanticModel,
+                                    String customMediaType) {
         this.components = components;
+        this.componentSchemas = componentSchemas;
         this.operationAdaptor = operationAdaptor;
         this.semanticModel = semanticModel;
         this.customMediaType = customMediaType;
@@ -228,7 +246,7 @@ public class OpenAPIRequestBodyMapper {
             //handle record for components
             SimpleNameReferenceNode referenceNode = (SimpleNameReferenceNode) typeDescriptorNode;
             TypeSymbol typeSymbol = getReferenceTypeSymbol(semanticModel.symbol(referenceNode));
-            OpenAPIComponentMapper componentMapper = new OpenAPIComponentMapper(components);
+            OpenAPIComponentMapper componentMapper = new OpenAPIComponentMapper(components, componentSchemas);
             componentMapper.createComponentSchema(schema, typeSymbol);
             diagnostics.addAll(componentMapper.getDiagnostics());
             Schema itemSchema = new Schema();
@@ -283,7 +301,7 @@ public class OpenAPIRequestBodyMapper {
     private void handleReferencePayload(TypeSymbol typeSymbol, String recordName,
                                         Map<String, Schema> schema, String mediaType, RequestBody bodyParameter) {
         //handle record for components
-        OpenAPIComponentMapper componentMapper = new OpenAPIComponentMapper(components);
+        OpenAPIComponentMapper componentMapper = new OpenAPIComponentMapper(components, componentSchemas);
         componentMapper.createComponentSchema(schema, typeSymbol);
         diagnostics.addAll(componentMapper.getDiagnostics());
         io.swagger.v3.oas.models.media.MediaType media = new io.swagger.v3.oas.models.media.MediaType();
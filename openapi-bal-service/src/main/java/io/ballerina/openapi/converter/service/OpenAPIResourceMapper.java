@@ -60,6 +60,7 @@ public class OpenAPIResourceMapper {
     private final SemanticModel semanticModel;
     private final Paths pathObject = new Paths();
     private final Components components = new Components();
+    private final ComponentSchemaRegistry componentSchemas = new ComponentSchemaRegistry();
     private final List<OpenAPIConverterDiagnostic> errors;
 
     public List<OpenAPIConverterDiagnostic> getErrors() {
@@ -211,7 +212,7 @@ public class OpenAPIResourceMapper {
         Map<String, String> apiDocs = listAPIDocumentations(resource, op);
         //Add path parameters if in path and query parameters
         OpenAPIParameterMapper openAPIParameterMapper = new OpenAPIParameterMapper(resource, op, apiDocs, components,
-                semanticModel);
+                componentSchemas, semanticModel);
         openAPIParameterMapper.getResourceInputs(components, semanticModel);
         if (openAPIParameterMapper.getErrors().size() > 1 || (openAPIParameterMapper.getErrors().size() == 1 &&
                 !openAPIParameterMapper.getErrors().get(0).getCode().equals("OAS_CONVERTOR_113"))) {
@@ -221,7 +222,7 @@ public class OpenAPIResourceMapper {
         errors.addAll(openAPIParameterMapper.getErrors());
 
         OpenAPIResponseMapper openAPIResponseMapper = new OpenAPIResponseMapper(semanticModel, components,
-                resource.location());
+                componentSchemas, resource.location());
         openAPIResponseMapper.getResourceOutput(resource, op);
         if (!openAPIResponseMapper.getErrors().isEmpty()) {
             errors.addAll(openAPIResponseMapper.getErrors());
@@ -140,6 +140,7 @@ public class OpenAPIResponseMapper {
 
     private final SemanticModel semanticModel;
     private final Components components;
+    private final ComponentSchemaRegistry componentSchemas;
     private final List<OpenAPIConverterDiagnostic> errors = new ArrayList<>();
     private final Location location;
     private String httpMethod;
@@ -149,8 +150,14 @@ public class OpenAPIResponseMapper {
     }
 
     public OpenAPIResponseMapper(SemanticModel semanticModel, Components components, Location location) {
+        this(semanticModel, components, new ComponentSchemaRegistry(), location);
+    }
+
+    public OpenAPIResponseMapper(SemanticModel semanticModel, Components components,
+                                 ComponentSchemaRegistry componentSchemas, Location location) {
         this.semanticModel = semanticModel;
         this.components = components;
+        this.componentSchemas = componentSchemas;
         this.location = location;
     }
 
@@ -559,8 +566,8 @@ public class OpenAPIResponseMapper {
                 }
                 if (typeSymbol.typeKind() == TypeDescKind.RECORD) {
                     ApiResponses responses = handleRecordTypeSymbol(qNode.identifier().text().trim(),
-                            components.getSchemas(), customMediaPrefix, typeRef, new OpenAPIComponentMapper(components),
-                            headers);
+                            components.getSchemas(), customMediaPrefix, typeRef,
+                            new OpenAPIComponentMapper(components, componentSchemas), headers);
                     apiResponses.putAll(responses);
                     return Optional.of(apiResponses);
                 }
@@ -818,7 +825,7 @@ public class OpenAPIResponseMapper {
         Optional<Symbol> symbol = semanticModel.symbol(referenceNode);
         TypeSymbol typeSymbol = (TypeSymbol) symbol.orElseThrow();
         //handle record for components
-        OpenAPIComponentMapper componentMapper = new OpenAPIComponentMapper(components);
+        OpenAPIComponentMapper componentMapper = new OpenAPIComponentMapper(components, componentSchemas);
         String mediaTypeString;
         // Check typeInclusion is related to the http status code
         if (referenceNode.parent().kind().equals(ARRAY_TYPE_DESC)) {
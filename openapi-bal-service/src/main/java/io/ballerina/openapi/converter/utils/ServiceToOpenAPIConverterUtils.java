@@ -61,6 +61,10 @@ import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import static io.ballerina.openapi.converter.Constants.CONTRACT;
 import static io.ballerina.openapi.converter.Constants.HYPHEN;
@@ -93,6 +97,25 @@ public class ServiceToOpenAPIConverterUtils {
     public static List<OASResult> generateOAS3Definition(SyntaxTree syntaxTree, SemanticModel semanticModel,
                                                          String serviceName, Boolean needJson,
                                                          Path inputPath) {
+        return generateOAS3Definition(syntaxTree, semanticModel, serviceName, needJson, inputPath, false);
+    }
+
+    /**
+     * This method will generate openapi definition Map lists with ballerina code. When {@code isParallel} is
+     * enabled the services are mapped concurrently on a dedicated pool, while the results are kept in the
+     * same order as the sequential generation.
+     *
+     * @param syntaxTree    - Syntax tree the related to ballerina service
+     * @param semanticModel - Semantic model related to ballerina module
+     * @param serviceName   - Service name that need to generate the openAPI specification
+     * @param needJson      - Flag for enabling the generated file format with json or YAML
+     * @param inputPath     - Input file path for resolve the annotation details
+     * @param isParallel    - Flag for generating the services in parallel
+     * @return - {@link java.util.Map} with openAPI definitions for service nodes
+     */
+    public static List<OASResult> generateOAS3Definition(SyntaxTree syntaxTree, SemanticModel semanticModel,
+                                                         String serviceName, Boolean needJson,
+                                                         Path inputPath, boolean isParallel) {
         List<ListenerDeclarationNode> endpoints = new ArrayList<>();
         Map<String, ServiceDeclarationNode> servicesToGenerate = new HashMap<>();
         List<String> availableService = new ArrayList<>();
@@ -115,12 +138,14 @@ public class ServiceToOpenAPIConverterUtils {
                 diagnostics.add(error);
             }
             // Generating openapi specification for selected services
-            for (Map.Entry<String, ServiceDeclarationNode> serviceNode : servicesToGenerate.entrySet()) {
-                String openApiName = getOpenApiFileName(syntaxTree.filePath(), serviceNode.getKey(), needJson);
-                OASResult oasDefinition = generateOAS(serviceNode.getValue(), endpoints, semanticModel, openApiName,
-                        inputPath);
-                oasDefinition.setServiceName(openApiName);
-                outputs.add(oasDefinition);
+            if (isParallel && servicesToGenerate.size() > 1) {
+                outputs.addAll(generateServicesInParallel(syntaxTree, semanticModel, needJson, inputPath,
+                        servicesToGenerate, endpoints, diagnostics));
+            } else {
+                for (Map.Entry<String, ServiceDeclarationNode> serviceNode : servicesToGenerate.entrySet()) {
+                    outputs.add(generateService(syntaxTree, semanticModel, needJson, inputPath, serviceNode,
+                            endpoints));
+                }
             }
         }
         if (!diagnostics.isEmpty()) {
@@ -130,6 +155,60 @@ public class ServiceToOpenAPIConverterUtils {
         return outputs;
     }
 
+    private static OASResult generateService(SyntaxTree syntaxTree, SemanticModel semanticModel, Boolean needJson,
+                                             Path inputPath, Map.Entry<String, ServiceDeclarationNode> serviceNode,
+                                             List<ListenerDeclarationNode> endpoints) {
+        String openApiName = getOpenApiFileName(syntaxTree.filePath(), serviceNode.getKey(), needJson);
+        OASResult oasDefinition = generateOAS(serviceNode.getValue(), endpoints, semanticModel, openApiName,
+                inputPath);
+        oasDefinition.setServiceName(openApiName);
+        return oasDefinition;
+    }
+
+    /**
+     * Maps the given services on a dedicated pool bounded by the number of processors, and returns the results in
+     * the order of the services. A dedicated pool is used rather than the common pool, since the callers, such as
+     * the language server extension, may already run on the common pool.
+     * <p>
+     * The services share the semantic model of the module. The mappers only look up the symbols and the types of a
+     * completed compilation, and do not modify the model, which is how the language server also queries a model
+     * from its concurrent requests. Hence the mappers must not cache state in the model or in shared static fields.
+     * </p>
+     */
+    private static List<OASResult> generateServicesInParallel(SyntaxTree syntaxTree, SemanticModel semanticModel,
+                                                              Boolean needJson, Path inputPath,
+                                                              Map<String, ServiceDeclarationNode> services,
+                                                              List<ListenerDeclarationNode> endpoints,
+                                                              List<OpenAPIConverterDiagnostic> diagnostics) {
+        ExecutorService executor = Executors.newFixedThreadPool(Math.min(services.size(),
+                Runtime.getRuntime().availableProcessors()));
+        List<Future<OASResult>> futures = new ArrayList<>();
+        List<OASResult> outputs = new ArrayList<>();
+        try {
+            for (Map.Entry<String, ServiceDeclarationNode> serviceNode : services.entrySet()) {
+                futures.add(executor.submit(() -> generateService(syntaxTree, semanticModel, needJson, inputPath,
+                        serviceNode, endpoints)));
+            }
+            for (Future<OASResult> future : futures) {
+                outputs.add(future.get());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            DiagnosticMessages messages = DiagnosticMessages.OAS_CONVERTOR_108;
+            diagnostics.add(new ExceptionDiagnostic(messages.getCode(), messages.getDescription(), null,
+                    "the generation is interrupted"));
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw cause instanceof RuntimeException ? (RuntimeException) cause : new IllegalStateException(cause);
+        } finally {
+            executor.shutdownNow();
+        }
+        return outputs;
+    }
+
     /**
      * Filter all the end points and service nodes.
      */
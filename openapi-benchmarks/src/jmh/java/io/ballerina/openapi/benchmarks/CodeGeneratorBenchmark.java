@@ -0,0 +1,119 @@
+/*
+ * Copyright (c) 2022, WSO2 LLC. (http://www.wso2.com). All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.openapi.benchmarks;
+
+import io.ballerina.compiler.syntax.tree.SyntaxTree;
+import io.ballerina.openapi.core.GeneratorUtils;
+import io.ballerina.openapi.core.TypeDefinitionRegistry;
+import io.ballerina.openapi.core.exception.BallerinaOpenApiException;
+import io.ballerina.openapi.core.generators.client.BallerinaClientGenerator;
+import io.ballerina.openapi.core.generators.client.model.OASClientConfig;
+import io.ballerina.openapi.core.generators.schema.BallerinaTypesGenerator;
+import io.ballerina.openapi.core.generators.service.BallerinaServiceGenerator;
+import io.ballerina.openapi.core.generators.service.model.OASServiceMetadata;
+import io.ballerina.openapi.core.model.Filter;
+import io.swagger.v3.oas.models.OpenAPI;
+import org.apache.commons.io.FileUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Benchmarks of the OpenAPI to Ballerina code generators over the synthetic contracts.
+ *
+ * @since 1.4.0
+ */
+@State(Scope.Benchmark)
+public class CodeGeneratorBenchmark {
+
+    @Param({"10", "100", "1000", "5000"})
+    private int size;
+
+    private Path workDir;
+    private OpenAPI openAPI;
+    private SyntaxTree taggedClientSyntaxTree;
+    private SyntaxTree schemaSyntaxTree;
+
+    @Setup
+    public void setup() throws IOException, BallerinaOpenApiException {
+        workDir = Files.createTempDirectory("openapi-benchmark-");
+        Path contractPath = SyntheticContracts.writeContract(workDir, size);
+        openAPI = GeneratorUtils.normalizeOpenAPI(contractPath, true);
+        // A client of a single tag, the types which are not used by it are pruned
+        List<String> tags = new ArrayList<>();
+        tags.add("tag0");
+        taggedClientSyntaxTree = createClientGenerator(new Filter(tags, new ArrayList<>())).generateSyntaxTree();
+        schemaSyntaxTree = new BallerinaTypesGenerator(openAPI).generateSyntaxTree();
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        FileUtils.deleteDirectory(workDir.toFile());
+    }
+
+    private BallerinaClientGenerator createClientGenerator(Filter filter) {
+        OASClientConfig oasClientConfig = new OASClientConfig.Builder()
+                .withFilters(filter)
+                .withNullable(false)
+                .withPlugin(false)
+                .withOpenAPI(openAPI)
+                .withResourceMode(true)
+                .build();
+        return new BallerinaClientGenerator(oasClientConfig);
+    }
+
+    @Benchmark
+    public SyntaxTree typesGenerator() throws BallerinaOpenApiException {
+        return new BallerinaTypesGenerator(openAPI).generateSyntaxTree();
+    }
+
+    @Benchmark
+    public SyntaxTree parallelTypesGenerator() throws BallerinaOpenApiException {
+        return new BallerinaTypesGenerator(openAPI, false, new TypeDefinitionRegistry(), true).generateSyntaxTree();
+    }
+
+    @Benchmark
+    public SyntaxTree clientGenerator() throws BallerinaOpenApiException {
+        return createClientGenerator(new Filter()).generateSyntaxTree();
+    }
+
+    @Benchmark
+    public SyntaxTree serviceGenerator() throws BallerinaOpenApiException {
+        OASServiceMetadata oasServiceMetadata = new OASServiceMetadata.Builder()
+                .withOpenAPI(openAPI)
+                .withFilters(new Filter())
+                .withNullable(false)
+                .build();
+        return new BallerinaServiceGenerator(oasServiceMetadata).generateSyntaxTree();
+    }
+
+    @Benchmark
+    public SyntaxTree removeUnusedEntities() {
+        return GeneratorUtils.removeUnusedEntities(schemaSyntaxTree, taggedClientSyntaxTree);
+    }
+}
@@ -0,0 +1,83 @@
+/*
+ * Copyright (c) 2022, WSO2 LLC. (http://www.wso2.com). All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.openapi.benchmarks;
+
+import io.ballerina.compiler.api.SemanticModel;
+import io.ballerina.compiler.syntax.tree.SyntaxTree;
+import io.ballerina.openapi.converter.model.OASResult;
+import io.ballerina.openapi.converter.utils.ServiceToOpenAPIConverterUtils;
+import io.ballerina.projects.DocumentId;
+import io.ballerina.projects.Module;
+import io.ballerina.projects.Project;
+import io.ballerina.projects.directory.ProjectLoader;
+import org.apache.commons.io.FileUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+/**
+ * Benchmarks of the Ballerina service to OpenAPI conversion of a service whose resources all refer to a deep graph
+ * of records. The records are mapped to the component schemas once per service, hence the time is expected to grow
+ * with the number of resources and not with the product of the resources and the depth of the graph.
+ *
+ * @since 1.4.0
+ */
+@State(Scope.Benchmark)
+public class DtoGraphConverterBenchmark {
+
+    private static final int DEPTH = 50;
+
+    @Param({"10", "100", "1000"})
+    private int resources;
+
+    private Path workDir;
+    private Path servicePath;
+    private SyntaxTree syntaxTree;
+    private SemanticModel semanticModel;
+
+    @Setup
+    public void setup() throws IOException {
+        workDir = Files.createTempDirectory("openapi-benchmark-");
+        servicePath = SyntheticContracts.writeDtoService(workDir, DEPTH, resources);
+        Project project = ProjectLoader.loadProject(servicePath);
+        Module module = project.currentPackage().getDefaultModule();
+        DocumentId documentId = module.documentIds().iterator().next();
+        syntaxTree = module.document(documentId).syntaxTree();
+        semanticModel = project.currentPackage().getCompilation().getSemanticModel(module.moduleId());
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        FileUtils.deleteDirectory(workDir.toFile());
+    }
+
+    @Benchmark
+    public List<OASResult> generateOAS() {
+        return ServiceToOpenAPIConverterUtils.generateOAS3Definition(syntaxTree, semanticModel, null, false,
+                servicePath);
+    }
+}
@@ -0,0 +1,105 @@
+/*
+ * Copyright (c) 2022, WSO2 LLC. (http://www.wso2.com). All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.openapi.benchmarks;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import io.ballerina.compiler.syntax.tree.ExpressionNode;
+import io.ballerina.compiler.syntax.tree.NodeParser;
+import io.ballerina.openapi.core.GeneratorUtils;
+import io.ballerina.openapi.core.exception.BallerinaOpenApiException;
+import io.ballerina.openapi.extension.doc.EmbeddedOpenApiDefinition;
+import io.swagger.v3.core.util.Json;
+import io.swagger.v3.oas.models.OpenAPI;
+import org.apache.commons.io.FileUtils;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Base64;
+
+/**
+ * Benchmarks of embedding the open-api definition of a service to its {@code http:ServiceConfig} annotation, compare
+ * {@code compactEmbedding} with {@code prettyEmbedding}, the former way of embedding. The {@code literalBytes}
+ * counter reports the size of the embedded base64 literal, which is the size of the byte array held by the service
+ * at runtime times 4/3.
+ *
+ * @since 1.4.0
+ */
+@State(Scope.Benchmark)
+public class EmbeddedDefinitionBenchmark {
+
+    @Param({"10", "100", "1000", "5000"})
+    private int size;
+
+    private Path workDir;
+    private OpenAPI openAPI;
+
+    /**
+     * Size of the embedded literal, reported per operation.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    public static class LiteralSize {
+        public long literalBytes;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            literalBytes = 0;
+        }
+    }
+
+    @Setup
+    public void setup() throws IOException, BallerinaOpenApiException {
+        workDir = Files.createTempDirectory("openapi-benchmark-");
+        Path contractPath = SyntheticContracts.writeContract(workDir, size);
+        openAPI = GeneratorUtils.normalizeOpenAPI(contractPath, false);
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        FileUtils.deleteDirectory(workDir.toFile());
+    }
+
+    @Benchmark
+    public ExpressionNode compactEmbedding(LiteralSize literalSize) throws JsonProcessingException {
+        ExpressionNode expression = EmbeddedOpenApiDefinition.createDefinitionExpression(
+                EmbeddedOpenApiDefinition.serialize(openAPI));
+        literalSize.literalBytes += expression.textRangeWithMinutiae().length();
+        return expression;
+    }
+
+    @Benchmark
+    public ExpressionNode prettyEmbedding(LiteralSize literalSize) {
+        String encodedValue = Base64.getEncoder()
+                .encodeToString(Json.pretty(openAPI).getBytes(StandardCharsets.UTF_8));
+        ExpressionNode expression = NodeParser.parseExpression(
+                String.format("base64 `%s`.cloneReadOnly()", encodedValue));
+        literalSize.literalBytes += expression.textRangeWithMinutiae().length();
+        return expression;
+    }
+}
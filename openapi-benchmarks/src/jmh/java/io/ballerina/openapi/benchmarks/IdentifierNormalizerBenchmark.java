@@ -0,0 +1,142 @@
+/*
+ * Copyright (c) 2022, WSO2 LLC. (http://www.wso2.com). All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.openapi.benchmarks;
+
+import io.ballerina.openapi.core.GeneratorConstants;
+import io.ballerina.openapi.core.GeneratorUtils;
+import io.ballerina.openapi.core.IdentifierNormalizer;
+import io.ballerina.openapi.core.exception.BallerinaOpenApiException;
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.Operation;
+import io.swagger.v3.oas.models.PathItem;
+import io.swagger.v3.oas.models.media.Schema;
+import io.swagger.v3.oas.models.parameters.Parameter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.IOException;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Benchmarks of the identifier normalization over the names of a large real-world contract, the Jira contract of the
+ * client generator tests by default. The names are the schema names, properties, parameters, path segments and
+ * operationIds in the order they appear, hence the same name is normalized several times as in a generation run.
+ *
+ * @since 1.4.0
+ */
+@State(Scope.Benchmark)
+public class IdentifierNormalizerBenchmark {
+
+    private static final String SPEC_PROPERTY = "openapi.benchmark.spec";
+
+    private final List<String> names = new ArrayList<>();
+
+    @Setup
+    public void setup() throws IOException, BallerinaOpenApiException {
+        OpenAPI openAPI = GeneratorUtils.getOpenAPIFromOpenAPIV3Parser(Paths.get(System.getProperty(SPEC_PROPERTY)));
+        for (Map.Entry<String, PathItem> path : openAPI.getPaths().entrySet()) {
+            for (String segment : path.getKey().split("/")) {
+                if (!segment.isBlank()) {
+                    names.add(segment);
+                }
+            }
+            for (Operation operation : path.getValue().readOperations()) {
+                if (operation.getOperationId() != null) {
+                    names.add(operation.getOperationId());
+                }
+                if (operation.getParameters() != null) {
+                    for (Parameter parameter : operation.getParameters()) {
+                        if (parameter.getName() != null) {
+                            names.add(parameter.getName());
+                        }
+                    }
+                }
+            }
+        }
+        if (openAPI.getComponents() != null && openAPI.getComponents().getSchemas() != null) {
+            for (Map.Entry<String, Schema> schema : openAPI.getComponents().getSchemas().entrySet()) {
+                names.add(schema.getKey());
+                Map<String, Schema> properties = schema.getValue().getProperties();
+                if (properties != null) {
+                    names.addAll(properties.keySet());
+                }
+            }
+        }
+    }
+
+    /**
+     * The normalization with the regular expressions compiled on every call, as a baseline.
+     */
+    @Benchmark
+    public void regexNormalization(Blackhole blackhole) {
+        for (String name : names) {
+            blackhole.consume(getValidNameWithRegex(name));
+        }
+    }
+
+    @Benchmark
+    public void scannerNormalization(Blackhole blackhole) {
+        for (String name : names) {
+            blackhole.consume(IdentifierNormalizer.toValidName(name, false));
+        }
+    }
+
+    /**
+     * The normalization of a run, which memoizes the names in a normalizer created for the run.
+     */
+    @Benchmark
+    public void memoizedNormalization(Blackhole blackhole) {
+        IdentifierNormalizer normalizer = new IdentifierNormalizer();
+        for (String name : names) {
+            blackhole.consume(normalizer.getValidName(name, false));
+        }
+    }
+
+    private static String getValidNameWithRegex(String identifier) {
+        if (!identifier.matches("\\b[0-9]*\\b")) {
+            String[] split = identifier.split(GeneratorConstants.ESCAPE_PATTERN);
+            StringBuilder validName = new StringBuilder();
+            for (String part : split) {
+                if (!part.isBlank()) {
+                    if (split.length > 1) {
+                        part = part.substring(0, 1).toUpperCase(Locale.ENGLISH) +
+                                part.substring(1).toLowerCase(Locale.ENGLISH);
+                    }
+                    validName.append(part);
+                }
+            }
+            identifier = validName.toString();
+        }
+        identifier = identifier.substring(0, 1).toLowerCase(Locale.ENGLISH) + identifier.substring(1);
+        if (identifier.matches("\\b[0-9]*\\b")) {
+            return "'" + identifier;
+        } else if (!identifier.matches("\\b[_a-zA-Z][_a-zA-Z0-9]*\\b") ||
+                GeneratorUtils.BAL_KEYWORDS.contains(identifier)) {
+            return "'" + identifier.replaceAll(GeneratorConstants.ESCAPE_PATTERN, "\\\\$1");
+        }
+        return identifier;
+    }
+}
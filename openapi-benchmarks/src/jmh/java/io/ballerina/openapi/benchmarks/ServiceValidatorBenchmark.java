@@ -0,0 +1,100 @@
+/*
+ * Copyright (c) 2022, WSO2 LLC. (http://www.wso2.com). All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.openapi.benchmarks;
+
+import io.ballerina.projects.DiagnosticResult;
+import io.ballerina.projects.Document;
+import io.ballerina.projects.Module;
+import io.ballerina.projects.Package;
+import io.ballerina.projects.Project;
+import io.ballerina.projects.directory.ProjectLoader;
+import org.apache.commons.io.FileUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Benchmarks of the OpenAPI validator compiler plugin over the synthetic services. The validator runs within the
+ * package compilation, hence the compilation of the same service without the contract is measured as the baseline
+ * and the difference is the cost of the validation.
+ *
+ * @since 1.4.0
+ */
+@State(Scope.Benchmark)
+public class ServiceValidatorBenchmark {
+
+    @Param({"10", "100", "1000", "5000"})
+    private int size;
+
+    private Path workDir;
+    private Document validatedDocument;
+    private Document baselineDocument;
+    private Package validatedPackage;
+    private Package baselinePackage;
+
+    @Setup
+    public void setup() throws IOException {
+        workDir = Files.createTempDirectory("openapi-benchmark-");
+        Path validatedDir = Files.createDirectories(workDir.resolve("validated"));
+        SyntheticContracts.writeContract(validatedDir, size);
+        validatedDocument = loadDocument(SyntheticContracts.writeService(validatedDir, size, true));
+        Path baselineDir = Files.createDirectories(workDir.resolve("baseline"));
+        baselineDocument = loadDocument(SyntheticContracts.writeService(baselineDir, size, false));
+    }
+
+    private static Document loadDocument(Path servicePath) {
+        Project project = ProjectLoader.loadProject(servicePath);
+        Module module = project.currentPackage().getDefaultModule();
+        return module.document(module.documentIds().iterator().next());
+    }
+
+    /**
+     * Creates new package instances for each invocation, since the compilation of a package is cached.
+     */
+    @Setup(Level.Invocation)
+    public void createPackages() {
+        validatedPackage = validatedDocument.modify().withContent(validatedDocument.textDocument().toString())
+                .apply().module().packageInstance();
+        baselinePackage = baselineDocument.modify().withContent(baselineDocument.textDocument().toString())
+                .apply().module().packageInstance();
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        FileUtils.deleteDirectory(workDir.toFile());
+    }
+
+    @Benchmark
+    public DiagnosticResult validate() {
+        return validatedPackage.getCompilation().diagnosticResult();
+    }
+
+    @Benchmark
+    public DiagnosticResult baselineCompilation() {
+        return baselinePackage.getCompilation().diagnosticResult();
+    }
+}
@@ -0,0 +1,76 @@
+/*
+ * Copyright (c) 2022, WSO2 LLC. (http://www.wso2.com). All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.openapi.benchmarks;
+
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import io.ballerina.openapi.core.GeneratorUtils;
+import io.ballerina.openapi.core.exception.BallerinaOpenApiException;
+import io.ballerina.openapi.extension.OpenAPIJsonConverter;
+import io.swagger.v3.core.util.Json;
+import io.swagger.v3.oas.models.OpenAPI;
+import org.apache.commons.io.FileUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Benchmarks of the conversion of an OpenAPI model to the JSON tree of the LS extension responses, compare the
+ * allocation of {@code directConversion} with {@code stringRoundTrip} in {@code gc.alloc.rate.norm}.
+ *
+ * @since 1.4.0
+ */
+@State(Scope.Benchmark)
+public class SpecJsonBenchmark {
+
+    @Param({"10", "100", "1000", "5000"})
+    private int size;
+
+    private Path workDir;
+    private OpenAPI openAPI;
+
+    @Setup
+    public void setup() throws IOException, BallerinaOpenApiException {
+        workDir = Files.createTempDirectory("openapi-benchmark-");
+        Path contractPath = SyntheticContracts.writeContract(workDir, size);
+        openAPI = GeneratorUtils.normalizeOpenAPI(contractPath, false);
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        FileUtils.deleteDirectory(workDir.toFile());
+    }
+
+    @Benchmark
+    public JsonObject directConversion() {
+        return OpenAPIJsonConverter.toJsonObject(openAPI);
+    }
+
+    @Benchmark
+    public JsonObject stringRoundTrip() {
+        return JsonParser.parseString(Json.pretty(openAPI)).getAsJsonObject();
+    }
+}
@@ -0,0 +1,188 @@
+/*
+ * Copyright (c) 2022, WSO2 LLC. (http://www.wso2.com). All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.openapi.benchmarks;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * This generates the synthetic OpenAPI contracts and the matching Ballerina services used by the benchmarks. A
+ * contract of size {@code n} has {@code n} operations and {@code n} component schemas. The even operations are
+ * {@code GET /resource{i}/{id}} and the odd operations are {@code POST /resource{i}} with a request body. Each schema
+ * refers the next schema, so that the schemas form a single reference chain.
+ *
+ * @since 1.4.0
+ */
+public final class SyntheticContracts {
+    public static final String CONTRACT_FILE_NAME = "contract.yaml";
+    public static final String SERVICE_FILE_NAME = "service.bal";
+    public static final int TAG_COUNT = 10;
+
+    private SyntheticContracts() {
+    }
+
+    /**
+     * Writes a synthetic contract of the given size to the given directory.
+     *
+     * @return path of the contract
+     */
+    public static Path writeContract(Path directory, int size) throws IOException {
+        StringBuilder contract = new StringBuilder();
+        contract.append("openapi: 3.0.1\n")
+                .append("info:\n")
+                .append("  title: Synthetic API\n")
+                .append("  version: 1.0.0\n")
+                .append("servers:\n")
+                .append("  - url: http://localhost:9090/api\n")
+                .append("paths:\n");
+        for (int i = 0; i < size; i++) {
+            if (i % 2 == 0) {
+                contract.append("  /resource").append(i).append("/{id}:\n")
+                        .append("    get:\n")
+                        .append("      tags:\n")
+                        .append("        - tag").append(i % TAG_COUNT).append("\n")
+                        .append("      operationId: getResource").append(i).append("\n")
+                        .append("      parameters:\n")
+                        .append("        - name: id\n")
+                        .append("          in: path\n")
+                        .append("          required: true\n")
+                        .append("          schema:\n")
+                        .append("            type: string\n")
+                        .append("      responses:\n")
+                        .append("        '200':\n");
+            } else {
+                contract.append("  /resource").append(i).append(":\n")
+                        .append("    post:\n")
+                        .append("      tags:\n")
+                        .append("        - tag").append(i % TAG_COUNT).append("\n")
+                        .append("      operationId: postResource").append(i).append("\n")
+                        .append("      requestBody:\n")
+                        .append("        content:\n")
+                        .append("          application/json:\n")
+                        .append("            schema:\n")
+                        .append("              $ref: '#/components/schemas/Schema").append(i).append("'\n")
+                        .append("      responses:\n")
+                        .append("        '201':\n");
+            }
+            contract.append("          description: Ok\n")
+                    .append("          content:\n")
+                    .append("            application/json:\n")
+                    .append("              schema:\n")
+                    .append("                $ref: '#/components/schemas/Schema").append(i).append("'\n");
+        }
+        contract.append("components:\n")
+                .append("  schemas:\n");
+        for (int i = 0; i < size; i++) {
+            contract.append("    Schema").append(i).append(":\n")
+                    .append("      type: object\n")
+                    .append("      properties:\n")
+                    .append("        id:\n")
+                    .append("          type: integer\n")
+                    .append("        name:\n")
+                    .append("          type: string\n")
+                    .append("        status:\n")
+                    .append("          type: string\n")
+                    .append("          enum:\n")
+                    .append("            - active\n")
+                    .append("            - inactive\n")
+                    .append("        next:\n")
+                    .append("          $ref: '#/components/schemas/Schema").append((i + 1) % size).append("'\n");
+        }
+        Path contractPath = directory.resolve(CONTRACT_FILE_NAME);
+        Files.writeString(contractPath, contract.toString());
+        return contractPath;
+    }
+
+    /**
+     * Writes a Ballerina service of the given size, which implements the synthetic contract, to the given directory.
+     *
+     * @param withContract whether to annotate the service with the contract to be validated
+     * @return path of the service
+     */
+    public static Path writeService(Path directory, int size, boolean withContract) throws IOException {
+        StringBuilder service = new StringBuilder();
+        if (withContract) {
+            service.append("import ballerina/openapi;\n");
+        }
+        service.append("import ballerina/http;\n\n");
+        for (int i = 0; i < size; i++) {
+            service.append("public type Schema").append(i).append(" record {\n")
+                    .append("    int id?;\n")
+                    .append("    string name?;\n")
+                    .append("    \"active\"|\"inactive\" status?;\n")
+                    .append("    Schema").append((i + 1) % size).append(" next?;\n")
+                    .append("};\n\n");
+        }
+        if (withContract) {
+            service.append("@openapi:ServiceInfo {\n")
+                    .append("    contract: \"").append(CONTRACT_FILE_NAME).append("\"\n")
+                    .append("}\n");
+        }
+        service.append("service /api on new http:Listener(9090) {\n");
+        for (int i = 0; i < size; i++) {
+            if (i % 2 == 0) {
+                service.append("    resource function get resource").append(i).append("/[string id]() returns ")
+                        .append("Schema").append(i).append(" {\n");
+            } else {
+                service.append("    resource function post resource").append(i).append("(@http:Payload Schema")
+                        .append(i).append(" payload) returns Schema").append(i).append(" {\n");
+            }
+            service.append("        return {};\n")
+                    .append("    }\n\n");
+        }
+        service.append("}\n");
+        Path servicePath = directory.resolve(SERVICE_FILE_NAME);
+        Files.writeString(servicePath, service.toString());
+        return servicePath;
+    }
+
+    /**
+     * Writes a Ballerina service of the given number of resources, which all refer to the first record of a graph of
+     * records of the given depth, to the given directory. Each record refers to the next one both as a field and as
+     * an array field, and the last record refers back to the first one.
+     *
+     * @return path of the service
+     */
+    public static Path writeDtoService(Path directory, int depth, int resources) throws IOException {
+        StringBuilder service = new StringBuilder();
+        service.append("import ballerina/http;\n\n");
+        for (int i = 0; i < depth; i++) {
+            int next = (i + 1) % depth;
+            service.append("public type Dto").append(i).append(" record {\n")
+                    .append("    int id;\n")
+                    .append("    string name?;\n")
+                    .append("    map<string> attributes?;\n")
+                    .append("    Dto").append(next).append(" child?;\n")
+                    .append("    Dto").append(next).append("[] children?;\n")
+                    .append("};\n\n");
+        }
+        service.append("service /api on new http:Listener(9090) {\n");
+        for (int i = 0; i < resources; i++) {
+            service.append("    resource function post resource").append(i)
+                    .append("(@http:Payload Dto0 payload) returns Dto0[] {\n")
+                    .append("        return [];\n")
+                    .append("    }\n\n");
+        }
+        service.append("}\n");
+        Path servicePath = directory.resolve(SERVICE_FILE_NAME);
+        Files.writeString(servicePath, service.toString());
+        return servicePath;
+    }
+}
@@ -32,6 +32,7 @@ import io.ballerina.openapi.converter.model.OASResult;
 import io.ballerina.openapi.converter.service.OpenAPIEndpointMapper;
 import io.ballerina.openapi.converter.utils.ServiceToOpenAPIConverterUtils;
 import io.ballerina.projects.BuildOptions;
+import io.ballerina.projects.DocumentId;
 import io.ballerina.projects.Package;
 import io.ballerina.projects.Project;
 import io.ballerina.projects.plugins.AnalysisTask;
@@ -44,10 +45,13 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
 
 import static io.ballerina.openapi.build.PluginConstants.OAS_PATH_SEPARATOR;
 import static io.ballerina.openapi.build.PluginConstants.OPENAPI;
@@ -57,7 +61,6 @@ import static io.ballerina.openapi.converter.Constants.OPENAPI_SUFFIX;
 import static io.ballerina.openapi.converter.Constants.SLASH;
 import static io.ballerina.openapi.converter.Constants.YAML_EXTENSION;
 import static io.ballerina.openapi.converter.utils.CodegenUtils.resolveContractFileName;
-import static io.ballerina.openapi.converter.utils.CodegenUtils.writeFile;
 import static io.ballerina.openapi.converter.utils.ConverterCommonUtils.containErrors;
 import static io.ballerina.openapi.converter.utils.ConverterCommonUtils.getNormalizedFileName;
 import static io.ballerina.openapi.converter.utils.ConverterCommonUtils.isHttpService;
@@ -69,6 +72,14 @@ import static io.ballerina.openapi.converter.utils.ConverterCommonUtils.isHttpSe
  */
 public class HttpServiceAnalysisTask implements AnalysisTask<SyntaxNodeAnalysisContext> {
 
+    /**
+     * Module level details of the analysed documents. These are shared by all the services in a document, so that
+     * each service does not rescan the module members and the compilation diagnostics. The analyses are weakly keyed
+     * by the semantic model of their module, hence they are dropped with the compilation they belong to.
+     */
+    private final Map<SemanticModel, Map<DocumentId, DocumentAnalysis>> documentAnalyses =
+            Collections.synchronizedMap(new WeakHashMap<>());
+
     @Override
     public void perform(SyntaxNodeAnalysisContext context) {
         SemanticModel semanticModel = context.semanticModel();
@@ -80,10 +91,8 @@ public class HttpServiceAnalysisTask implements AnalysisTask<SyntaxNodeAnalysisC
         if (!buildOptions.exportOpenAPI()) {
             return;
         }
-        boolean hasErrors = context.compilation().diagnosticResult()
-                .diagnostics().stream()
-                .anyMatch(d -> DiagnosticSeverity.ERROR.equals(d.diagnosticInfo().severity()));
-        if (hasErrors) {
+        DocumentAnalysis documentAnalysis = getDocumentAnalysis(context);
+        if (documentAnalysis.hasErrors) {
             // if there are any compilation errors, do not proceed
             return;
         }
@@ -91,19 +100,20 @@ public class HttpServiceAnalysisTask implements AnalysisTask<SyntaxNodeAnalysisC
         Optional<Path> path = currentPackage.project().documentPath(context.documentId());
         Path inputPath = path.orElse(null);
         ServiceDeclarationNode serviceNode = (ServiceDeclarationNode) context.node();
-        List<ListenerDeclarationNode> endpoints = new ArrayList<>();
-        Map<Integer, String> services = new HashMap<>();
         List<Diagnostic> diagnostics = new ArrayList<>();
 
         // Spec generation won't proceed, If diagnostic includes error type.
-        if (containErrors(semanticModel.diagnostics())) {
-            diagnostics.addAll(semanticModel.diagnostics());
-        } else if (isHttpService(serviceNode, semanticModel)) {
+        if (!documentAnalysis.semanticDiagnostics.isEmpty()) {
+            diagnostics.addAll(documentAnalysis.semanticDiagnostics);
+        } else {
             Optional<Symbol> serviceSymbol = semanticModel.symbol(serviceNode);
-            if (serviceSymbol.isPresent() && serviceSymbol.get() instanceof ServiceDeclarationSymbol) {
-                extractListenersAndServiceNodes(syntaxTree.rootNode(), endpoints, services, semanticModel);
-                OASResult oasResult = ServiceToOpenAPIConverterUtils.generateOAS(serviceNode, endpoints,
-                        semanticModel, services.get(serviceSymbol.get().hashCode()), inputPath);
+            // Only the http services are available in the service map
+            if (serviceSymbol.isPresent() && serviceSymbol.get() instanceof ServiceDeclarationSymbol &&
+                    documentAnalysis.services.containsKey(serviceSymbol.get().hashCode())) {
+                Map<Integer, String> services = documentAnalysis.services;
+                OASResult oasResult = ServiceToOpenAPIConverterUtils.generateOAS(serviceNode,
+                        documentAnalysis.endpoints, semanticModel, services.get(serviceSymbol.get().hashCode()),
+                        inputPath);
                 oasResult.setServiceName(constructFileName(syntaxTree, services, serviceSymbol.get()));
                 writeOpenAPIYaml(outPath, oasResult, diagnostics);
             }
@@ -115,6 +125,36 @@ public class HttpServiceAnalysisTask implements AnalysisTask<SyntaxNodeAnalysisC
         }
     }
 
+    /**
+     * Returns the analysis of the document which includes the given service node. The analysis is computed for
+     * the first service of the document and reused by the rest, until the syntax tree or the semantic model of the
+     * document changes.
+     */
+    private DocumentAnalysis getDocumentAnalysis(SyntaxNodeAnalysisContext context) {
+        SemanticModel semanticModel = context.semanticModel();
+        SyntaxTree syntaxTree = context.syntaxTree();
+        Map<DocumentId, DocumentAnalysis> moduleAnalyses =
+                documentAnalyses.computeIfAbsent(semanticModel, model -> new ConcurrentHashMap<>());
+        DocumentAnalysis documentAnalysis = moduleAnalyses.get(context.documentId());
+        if (documentAnalysis != null && documentAnalysis.isAnalysisOf(syntaxTree)) {
+            return documentAnalysis;
+        }
+        documentAnalysis = new DocumentAnalysis(syntaxTree);
+        documentAnalysis.hasErrors = context.compilation().diagnosticResult()
+                .diagnostics().stream()
+                .anyMatch(d -> DiagnosticSeverity.ERROR.equals(d.diagnosticInfo().severity()));
+        if (!documentAnalysis.hasErrors) {
+            if (containErrors(semanticModel.diagnostics())) {
+                documentAnalysis.semanticDiagnostics.addAll(semanticModel.diagnostics());
+            } else {
+                extractListenersAndServiceNodes(syntaxTree.rootNode(), documentAnalysis.endpoints,
+                        documentAnalysis.services, semanticModel);
+            }
+        }
+        moduleAnalyses.put(context.documentId(), documentAnalysis);
+        return documentAnalysis;
+    }
+
     /**
      * This util function is to construct the generated file name.
      *
@@ -134,14 +174,15 @@ public class HttpServiceAnalysisTask implements AnalysisTask<SyntaxNodeAnalysisC
     }
 
     private void writeOpenAPIYaml(Path outPath, OASResult oasResult, List<Diagnostic> diagnostics) {
-        if (oasResult.getYaml().isPresent()) {
+        if (oasResult.getOpenAPI().isPresent()) {
             try {
                 // Create openapi directory if not exists in the path. If exists do not throw an error
                 Files.createDirectories(Paths.get(outPath + OAS_PATH_SEPARATOR + OPENAPI));
                 String serviceName = oasResult.getServiceName();
                 String fileName = resolveContractFileName(outPath.resolve(OPENAPI),
                         serviceName, false);
-                writeFile(outPath.resolve(OPENAPI + OAS_PATH_SEPARATOR + fileName), oasResult.getYaml().get());
+                // Stream the definition to the file instead of building the YAML string
+                oasResult.writeYaml(outPath.resolve(OPENAPI + OAS_PATH_SEPARATOR + fileName));
             } catch (IOException e) {
                 DiagnosticMessages error = DiagnosticMessages.OAS_CONVERTOR_108;
                 ExceptionDiagnostic diagnostic = new ExceptionDiagnostic(error.getCode(),
@@ -192,4 +233,24 @@ public class HttpServiceAnalysisTask implements AnalysisTask<SyntaxNodeAnalysisC
             }
         }
     }
+
+    /**
+     * Listeners, http services and the error state of an analysed document. The analysis does not refer to the
+     * semantic model which it is keyed by, so that the key can be collected.
+     */
+    private static class DocumentAnalysis {
+        private final SyntaxTree syntaxTree;
+        private final List<ListenerDeclarationNode> endpoints = new ArrayList<>();
+        private final Map<Integer, String> services = new HashMap<>();
+        private final List<Diagnostic> semanticDiagnostics = new ArrayList<>();
+        private boolean hasErrors;
+
+        DocumentAnalysis(SyntaxTree syntaxTree) {
+            this.syntaxTree = syntaxTree;
+        }
+
+        boolean isAnalysisOf(SyntaxTree syntaxTree) {
+            return this.syntaxTree == syntaxTree;
+        }
+    }
 }
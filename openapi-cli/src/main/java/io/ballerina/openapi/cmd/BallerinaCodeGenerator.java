@@ -18,10 +18,14 @@
 
 package io.ballerina.openapi.cmd;
 
+import io.ballerina.compiler.syntax.tree.ModulePartNode;
 import io.ballerina.compiler.syntax.tree.SyntaxTree;
 import io.ballerina.compiler.syntax.tree.TypeDefinitionNode;
 import io.ballerina.openapi.converter.utils.CodegenUtils;
+import io.ballerina.openapi.core.GeneratedSourceFormatter;
+import io.ballerina.openapi.core.GenerationProfiler;
 import io.ballerina.openapi.core.GeneratorUtils;
+import io.ballerina.openapi.core.TypeDefinitionRegistry;
 import io.ballerina.openapi.core.exception.BallerinaOpenApiException;
 import io.ballerina.openapi.core.generators.client.BallerinaClientGenerator;
 import io.ballerina.openapi.core.generators.client.BallerinaTestGenerator;
@@ -32,7 +36,6 @@ import io.ballerina.openapi.core.generators.service.model.OASServiceMetadata;
 import io.ballerina.openapi.core.model.Filter;
 import io.ballerina.openapi.core.model.GenSrcFile;
 import io.swagger.v3.oas.models.OpenAPI;
-import org.ballerinalang.formatter.core.Formatter;
 import org.ballerinalang.formatter.core.FormatterException;
 
 import java.io.File;
@@ -43,11 +46,14 @@ import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 import java.util.function.Predicate;
@@ -77,8 +83,23 @@ public class BallerinaCodeGenerator {
     private String srcPackage;
     private String licenseHeader = "";
     private boolean includeTestFiles;
+    private boolean incremental;
+    private boolean parallel;
+    private boolean format = true;
+    private boolean interactive = true;
 
+    private final GenerationProfiler profiler = new GenerationProfiler();
     private static final PrintStream outStream = System.err;
+    private static final String PHASE_PARSE = "parse";
+    private static final String PHASE_NORMALIZE = "normalize";
+    private static final String PHASE_SERVICE = "service-generation";
+    private static final String PHASE_CLIENT = "client-generation";
+    private static final String PHASE_UTIL = "util-generation";
+    private static final String PHASE_TYPES = "type-generation";
+    private static final String PHASE_TESTS = "test-generation";
+    private static final String PHASE_PRUNE = "unused-type-pruning";
+    private static final String PHASE_FORMAT = "format";
+    private static final String PHASE_WRITE = "write-files";
 
     /**
      * Generates ballerina source for provided Open API Definition in {@code definitionPath}.
@@ -92,12 +113,13 @@ public class BallerinaCodeGenerator {
         Path srcPath = Paths.get(outPath);
         Path implPath = CodegenUtils.getImplPath(srcPackage, srcPath);
 
-        List<GenSrcFile> sourceFiles = new ArrayList<>();
+        List<PendingSource> sources = new ArrayList<>();
         Path openAPIPath = Path.of(definitionPath);
         // Normalize OpenAPI definition, in the client generation we suppose to terminate code generation when the
         // absence of the operationId in operation. Therefor we enable client flag true as default code generation.
-        // if resource is enabled, we avoid checking operationId.
-        OpenAPI openAPIDef = GeneratorUtils.normalizeOpenAPI(openAPIPath, !isResource);
+        // if resource is enabled, we avoid checking operationId. When tags are given, only the tagged operations and
+        // the components reachable from them are loaded.
+        OpenAPI openAPIDef = loadOpenAPI(openAPIPath, !isResource, getLoadFilter(filter));
 
         // Generate service
         String concatTitle = serviceName.toLowerCase(Locale.ENGLISH);
@@ -107,10 +129,12 @@ public class BallerinaCodeGenerator {
                 .withFilters(filter)
                 .withNullable(nullable)
                 .build();
+        GenerationProfiler.Phase phase = profiler.start(PHASE_SERVICE);
         BallerinaServiceGenerator serviceGenerator = new BallerinaServiceGenerator(oasServiceMetadata);
-        String serviceContent = Formatter.format
-                (serviceGenerator.generateSyntaxTree()).toString();
-        sourceFiles.add(new GenSrcFile(GenSrcFile.GenFileType.GEN_SRC, srcPackage, srcFile, serviceContent));
+        SyntaxTree serviceSyntaxTree = serviceGenerator.generateSyntaxTree();
+        phase.end();
+        countNodes("service-nodes", serviceSyntaxTree);
+        sources.add(new PendingSource(GenSrcFile.GenFileType.GEN_SRC, srcFile, serviceSyntaxTree, false));
 
         // Generate client.
         // Generate ballerina client remote.
@@ -120,20 +144,17 @@ public class BallerinaCodeGenerator {
                 .withNullable(nullable)
                 .withPlugin(false)
                 .withOpenAPI(openAPIDef)
-                .withResourceMode(isResource).build();
+                .withResourceMode(isResource)
+                .withParallel(parallel).build();
 
         BallerinaClientGenerator clientGenerator = new BallerinaClientGenerator(oasClientConfig);
-        String clientContent = Formatter.format(clientGenerator.generateSyntaxTree()).toString();
-        sourceFiles.add(new GenSrcFile(GenSrcFile.GenFileType.GEN_SRC, srcPackage, CLIENT_FILE_NAME, clientContent));
-        String utilContent = Formatter.format(clientGenerator
-                .getBallerinaUtilGenerator()
-                .generateUtilSyntaxTree()).toString();
-        if (!utilContent.isBlank()) {
-            sourceFiles.add(new GenSrcFile(GenSrcFile.GenFileType.UTIL_SRC, srcPackage, UTIL_FILE_NAME, utilContent));
-        }
+        SyntaxTree clientSyntaxTree = generateClientSyntaxTree(clientGenerator);
+        sources.add(new PendingSource(GenSrcFile.GenFileType.GEN_SRC, CLIENT_FILE_NAME, clientSyntaxTree, false));
+        sources.add(new PendingSource(GenSrcFile.GenFileType.UTIL_SRC, UTIL_FILE_NAME,
+                generateUtilSyntaxTree(clientGenerator), true));
 
         //Update type definition list
-        List<TypeDefinitionNode> preGeneratedTypeDefNodes = new ArrayList<>(
+        List<TypeDefinitionNode> preGeneratedTypeDefNodes = new TypeDefinitionRegistry(
                 clientGenerator.getBallerinaAuthConfigGenerator().getAuthRelatedTypeDefinitionNodes());
         List<TypeDefinitionNode> typeInclusionRecords = serviceGenerator.getTypeInclusionRecords();
         List<TypeDefinitionNode> typeDefinitionNodeList = clientGenerator.getTypeDefinitionNodeList();
@@ -142,36 +163,23 @@ public class BallerinaCodeGenerator {
 
         // Generate ballerina types.
         // Generate ballerina records to represent schemas.
-        BallerinaTypesGenerator ballerinaSchemaGenerator = new BallerinaTypesGenerator(
-                openAPIDef, nullable, preGeneratedTypeDefNodes);
-
-        SyntaxTree schemaSyntaxTree = ballerinaSchemaGenerator.generateSyntaxTree();
-        String schemaContent = Formatter.format(schemaSyntaxTree).toString();
-
+        SyntaxTree schemaSyntaxTree = generateTypesSyntaxTree(openAPIDef, nullable, preGeneratedTypeDefNodes);
         if (filter.getTags().size() > 0) {
             // Remove unused records and enums when generating the client by the tags given.
-            schemaContent = GeneratorUtils.removeUnusedEntities(schemaSyntaxTree, clientContent, schemaContent,
-                    serviceContent);
-        }
-        if (!schemaContent.isBlank()) {
-            sourceFiles.add(new GenSrcFile(GenSrcFile.GenFileType.MODEL_SRC, srcPackage, TYPE_FILE_NAME,
-                    schemaContent));
+            schemaSyntaxTree = removeUnusedEntities(schemaSyntaxTree, clientSyntaxTree, serviceSyntaxTree);
         }
+        sources.add(new PendingSource(GenSrcFile.GenFileType.MODEL_SRC, TYPE_FILE_NAME, schemaSyntaxTree, true));
 
         // Generate test boilerplate code for test cases
         if (this.includeTestFiles) {
             BallerinaTestGenerator ballerinaTestGenerator = new BallerinaTestGenerator(clientGenerator);
-            String testContent = Formatter.format(ballerinaTestGenerator.generateSyntaxTree()).toString();
-            sourceFiles.add(new GenSrcFile(GenSrcFile.GenFileType.GEN_SRC, srcPackage, TEST_FILE_NAME, testContent));
-
-            String configContent = ballerinaTestGenerator.getConfigTomlFile();
-            if (!configContent.isBlank()) {
-                sourceFiles.add(new GenSrcFile(GenSrcFile.GenFileType.GEN_SRC, srcPackage,
-                        CONFIG_FILE_NAME, configContent));
-            }
+            sources.add(new PendingSource(GenSrcFile.GenFileType.GEN_SRC, TEST_FILE_NAME,
+                    generateTestSyntaxTree(ballerinaTestGenerator), false));
+            sources.add(new PendingSource(GenSrcFile.GenFileType.GEN_SRC, CONFIG_FILE_NAME,
+                    ballerinaTestGenerator.getConfigTomlFile()));
         }
 
-        List<GenSrcFile> newGenFiles = sourceFiles.stream()
+        List<GenSrcFile> newGenFiles = formatSources(sources).stream()
                 .filter(distinctByKey(GenSrcFile::getFileName))
                 .collect(Collectors.toList());
 
@@ -202,10 +210,69 @@ public class BallerinaCodeGenerator {
             throws IOException, BallerinaOpenApiException, FormatterException {
         Path srcPath = Paths.get(outPath);
         Path implPath = CodegenUtils.getImplPath(srcPackage, srcPath);
+        if (incremental) {
+            generateClientIncrementally(Paths.get(definitionPath), srcPath, implPath, filter, nullable, isResource);
+            return;
+        }
         List<GenSrcFile> genFiles = generateClientFiles(Paths.get(definitionPath), filter, nullable, isResource);
         writeGeneratedSources(genFiles, srcPath, implPath, GEN_CLIENT);
     }
 
+    /**
+     * Generates the client using the manifest stored next to the generated sources as a skip-if-unchanged cache. The
+     * generation is skipped as a whole when the contract and the options are the same as the last generation and the
+     * generated files are untouched. Otherwise, the whole client is regenerated and only the files whose content
+     * changed are rewritten. The functions and the types of the changed operations and schemas are not spliced into
+     * the previous sources, so a change to a single operation still costs a full generation.
+     */
+    private void generateClientIncrementally(Path definitionPath, Path srcPath, Path implPath, Filter filter,
+                                             boolean nullable, boolean isResource)
+            throws IOException, BallerinaOpenApiException, FormatterException {
+        GenerationManifest previousManifest = GenerationManifest.read(srcPath);
+        String inputHash = GenerationManifest.hashInputs(definitionPath, String.valueOf(filter.getTags()),
+                String.valueOf(filter.getOperations()), String.valueOf(nullable), String.valueOf(isResource),
+                String.valueOf(includeTestFiles), String.valueOf(format), srcPackage, licenseHeader);
+        if (previousManifest.isUpToDate(inputHash, srcPath)) {
+            outStream.println("Client is up to date with the OpenAPI definition at " + definitionPath + ".");
+            return;
+        }
+        if (srcPackage == null || srcPackage.isEmpty()) {
+            srcPackage = DEFAULT_CLIENT_PKG;
+        }
+        OpenAPI openAPIDef = loadOpenAPI(definitionPath, !isResource, getLoadFilter(filter));
+        GenerationManifest manifest = new GenerationManifest();
+        manifest.setInputHash(inputHash);
+        List<GenSrcFile> genFiles = generateClientFiles(openAPIDef, filter, nullable, isResource);
+
+        List<GenSrcFile> changedFiles = new ArrayList<>();
+        Set<String> trackedFileNames = new HashSet<>();
+        for (GenSrcFile file : genFiles) {
+            String relativePath = getRelativePath(srcPath, resolveOutputPath(file, srcPath, implPath));
+            if (previousManifest.isFileUnchanged(srcPath, relativePath, getFileContent(file))) {
+                continue;
+            }
+            if (previousManifest.isFileTracked(relativePath)) {
+                trackedFileNames.add(file.getFileName());
+            }
+            changedFiles.add(file);
+        }
+        outStream.println(String.format("%d of %d file(s) changed since the last generation.", changedFiles.size(),
+                genFiles.size()));
+        writeGeneratedSources(changedFiles, srcPath, implPath, GEN_CLIENT, trackedFileNames);
+
+        for (GenSrcFile file : genFiles) {
+            Path filePath = resolveOutputPath(file, srcPath, implPath);
+            if (Files.exists(filePath)) {
+                manifest.recordFile(getRelativePath(srcPath, filePath), Files.readString(filePath));
+            }
+        }
+        manifest.write(srcPath);
+    }
+
+    private static String getRelativePath(Path srcPath, Path filePath) throws IOException {
+        return Paths.get(srcPath.toFile().getCanonicalPath()).relativize(filePath).toString();
+    }
+
     /**
      * Generates ballerina source for provided Open API Definition in {@code definitionPath}.
      * Generated source will be written to a ballerina module at {@code outPath}
@@ -230,6 +297,24 @@ public class BallerinaCodeGenerator {
     private void writeGeneratedSources(List<GenSrcFile> sources, Path srcPath, Path implPath,
                                        CmdConstants.GenType type)
             throws IOException {
+        writeGeneratedSources(sources, srcPath, implPath, type, Collections.emptySet());
+    }
+
+    private void writeGeneratedSources(List<GenSrcFile> sources, Path srcPath, Path implPath,
+                                       CmdConstants.GenType type, Set<String> trackedFileNames)
+            throws IOException {
+        GenerationProfiler.Phase phase = profiler.start(PHASE_WRITE);
+        writeSources(sources, srcPath, implPath, type, trackedFileNames);
+        phase.end();
+        profiler.count("files", sources.size());
+    }
+
+    /**
+     * Writes the generated sources. The user is not asked to override the files of the given names since they are
+     * tracked by the manifest of the incremental generation.
+     */
+    private void writeSources(List<GenSrcFile> sources, Path srcPath, Path implPath, CmdConstants.GenType type,
+                              Set<String> trackedFileNames) throws IOException {
         //  Remove old generated file with same name
         List<File> listFiles = new ArrayList<>();
         if (Files.exists(srcPath)) {
@@ -249,8 +334,8 @@ public class BallerinaCodeGenerator {
 
         for (File file : listFiles) {
             for (GenSrcFile gFile : sources) {
-                if (file.getName().equals(gFile.getFileName())) {
-                    if (System.console() != null) {
+                if (file.getName().equals(gFile.getFileName()) && !trackedFileNames.contains(file.getName())) {
+                    if (interactive && System.console() != null) {
                         String userInput = System.console().readLine("There is already a/an " + file.getName() +
                                 " in the location. Do you want to override the file? [y/N] ");
                         if (!Objects.equals(userInput.toLowerCase(Locale.ENGLISH), "y")) {
@@ -263,32 +348,20 @@ public class BallerinaCodeGenerator {
         }
 
         for (GenSrcFile file : sources) {
-            Path filePath;
+            Path filePath = resolveOutputPath(file, srcPath, implPath);
 
             // We only overwrite files of overwritable type.
             // So non overwritable files will be written to disk only once.
             if (!file.getType().isOverwritable()) {
-                filePath = implPath.resolve(file.getFileName());
                 if (Files.notExists(filePath)) {
-                    String fileContent = file.getFileName().endsWith(".bal") ?
-                            (licenseHeader + file.getContent()) : file.getContent();
-                    CodegenUtils.writeFile(filePath, fileContent);
+                    CodegenUtils.writeFile(filePath, getFileContent(file));
                 }
             } else {
-                boolean isDuplicatedFileInTests = file.getFileName().matches("test.+[0-9]+.bal") ||
-                        file.getFileName().matches("Config.+[0-9]+.toml");
-                if (file.getFileName().equals(TEST_FILE_NAME) || file.getFileName().equals(CONFIG_FILE_NAME) ||
-                        isDuplicatedFileInTests) {
+                if (isTestFile(file)) {
                     // Create test directory if not exists in the path. If exists do not throw an error
                     Files.createDirectories(Paths.get(srcPath + OAS_PATH_SEPARATOR + TEST_DIR));
-                    filePath = Paths.get(srcPath.resolve(TEST_DIR + OAS_PATH_SEPARATOR +
-                            file.getFileName()).toFile().getCanonicalPath());
-                } else {
-                    filePath = Paths.get(srcPath.resolve(file.getFileName()).toFile().getCanonicalPath());
                 }
-                String fileContent = file.getFileName().endsWith(".bal") ?
-                        (licenseHeader + file.getContent()) : file.getContent();
-                CodegenUtils.writeFile(filePath, fileContent);
+                CodegenUtils.writeFile(filePath, getFileContent(file));
             }
         }
 
@@ -306,6 +379,30 @@ public class BallerinaCodeGenerator {
         }
     }
 
+    private static boolean isTestFile(GenSrcFile file) {
+        boolean isDuplicatedFileInTests = file.getFileName().matches("test.+[0-9]+.bal") ||
+                file.getFileName().matches("Config.+[0-9]+.toml");
+        return file.getFileName().equals(TEST_FILE_NAME) || file.getFileName().equals(CONFIG_FILE_NAME) ||
+                isDuplicatedFileInTests;
+    }
+
+    /**
+     * Resolves the path to which the given generated file is written.
+     */
+    private static Path resolveOutputPath(GenSrcFile file, Path srcPath, Path implPath) throws IOException {
+        if (!file.getType().isOverwritable()) {
+            return Paths.get(implPath.resolve(file.getFileName()).toFile().getCanonicalPath());
+        } else if (isTestFile(file)) {
+            return Paths.get(srcPath.resolve(TEST_DIR + OAS_PATH_SEPARATOR +
+                    file.getFileName()).toFile().getCanonicalPath());
+        }
+        return Paths.get(srcPath.resolve(file.getFileName()).toFile().getCanonicalPath());
+    }
+
+    private String getFileContent(GenSrcFile file) {
+        return file.getFileName().endsWith(".bal") ? (licenseHeader + file.getContent()) : file.getContent();
+    }
+
     /**
      * Generate code for ballerina client.
      *
@@ -317,9 +414,15 @@ public class BallerinaCodeGenerator {
         if (srcPackage == null || srcPackage.isEmpty()) {
             srcPackage = DEFAULT_CLIENT_PKG;
         }
-        List<GenSrcFile> sourceFiles = new ArrayList<>();
-        // Normalize OpenAPI definition
-        OpenAPI openAPIDef = GeneratorUtils.normalizeOpenAPI(openAPI, !isResource);
+        // Normalize OpenAPI definition, loading only the tagged operations when tags are given
+        OpenAPI openAPIDef = loadOpenAPI(openAPI, !isResource, getLoadFilter(filter));
+        return generateClientFiles(openAPIDef, filter, nullable, isResource);
+    }
+
+    private List<GenSrcFile> generateClientFiles(OpenAPI openAPIDef, Filter filter, boolean nullable,
+                                                 boolean isResource)
+            throws IOException, BallerinaOpenApiException, FormatterException {
+        List<PendingSource> sources = new ArrayList<>();
         // Generate ballerina service and resources.
         OASClientConfig.Builder clientMetaDataBuilder = new OASClientConfig.Builder();
         OASClientConfig oasClientConfig = clientMetaDataBuilder
@@ -329,50 +432,137 @@ public class BallerinaCodeGenerator {
                 .withOpenAPI(openAPIDef)
                 .withResourceMode(isResource)
                 .withLicense(licenseHeader)
+                .withParallel(parallel)
                 .build();
         BallerinaClientGenerator ballerinaClientGenerator = new BallerinaClientGenerator(oasClientConfig);
-        String mainContent = Formatter.format(ballerinaClientGenerator.generateSyntaxTree()).toString();
-        sourceFiles.add(new GenSrcFile(GenSrcFile.GenFileType.GEN_SRC, srcPackage, CLIENT_FILE_NAME, mainContent));
-        String utilContent = Formatter.format(
-                ballerinaClientGenerator.getBallerinaUtilGenerator().generateUtilSyntaxTree()).toString();
-        if (!utilContent.isBlank()) {
-            sourceFiles.add(new GenSrcFile(GenSrcFile.GenFileType.UTIL_SRC, srcPackage, UTIL_FILE_NAME, utilContent));
-        }
+        SyntaxTree clientSyntaxTree = generateClientSyntaxTree(ballerinaClientGenerator);
+        sources.add(new PendingSource(GenSrcFile.GenFileType.GEN_SRC, CLIENT_FILE_NAME, clientSyntaxTree, false));
+        sources.add(new PendingSource(GenSrcFile.GenFileType.UTIL_SRC, UTIL_FILE_NAME,
+                generateUtilSyntaxTree(ballerinaClientGenerator), true));
 
-        List<TypeDefinitionNode> preGeneratedTypeDefNodes = new ArrayList<>(
+        List<TypeDefinitionNode> preGeneratedTypeDefNodes = new TypeDefinitionRegistry(
                 ballerinaClientGenerator.getBallerinaAuthConfigGenerator().getAuthRelatedTypeDefinitionNodes());
         preGeneratedTypeDefNodes.addAll(ballerinaClientGenerator.getTypeDefinitionNodeList());
         // Generate ballerina records to represent schemas.
-        BallerinaTypesGenerator ballerinaSchemaGenerator = new BallerinaTypesGenerator(
-                openAPIDef, nullable, preGeneratedTypeDefNodes);
-
-        SyntaxTree schemaSyntaxTree = ballerinaSchemaGenerator.generateSyntaxTree();
-        String schemaContent = Formatter.format(schemaSyntaxTree).toString();
+        SyntaxTree schemaSyntaxTree = generateTypesSyntaxTree(openAPIDef, nullable, preGeneratedTypeDefNodes);
         if (filter.getTags().size() > 0) {
             // Remove unused records and enums when generating the client by the tags given.
-            schemaContent = GeneratorUtils.removeUnusedEntities(schemaSyntaxTree, mainContent, schemaContent, null);
-        }
-        if (!schemaContent.isBlank()) {
-            sourceFiles.add(new GenSrcFile(GenSrcFile.GenFileType.MODEL_SRC, srcPackage, TYPE_FILE_NAME,
-                    schemaContent));
+            schemaSyntaxTree = removeUnusedEntities(schemaSyntaxTree, clientSyntaxTree);
         }
+        sources.add(new PendingSource(GenSrcFile.GenFileType.MODEL_SRC, TYPE_FILE_NAME, schemaSyntaxTree, true));
 
         // Generate test boilerplate code for test cases
         if (this.includeTestFiles) {
             BallerinaTestGenerator ballerinaTestGenerator = new BallerinaTestGenerator(ballerinaClientGenerator);
-            String testContent = Formatter.format(ballerinaTestGenerator.generateSyntaxTree()).toString();
-            sourceFiles.add(new GenSrcFile(GenSrcFile.GenFileType.GEN_SRC, srcPackage, TEST_FILE_NAME, testContent));
+            sources.add(new PendingSource(GenSrcFile.GenFileType.GEN_SRC, TEST_FILE_NAME,
+                    generateTestSyntaxTree(ballerinaTestGenerator), false));
+            sources.add(new PendingSource(GenSrcFile.GenFileType.GEN_SRC, CONFIG_FILE_NAME,
+                    ballerinaTestGenerator.getConfigTomlFile()));
+        }
 
-            String configContent = ballerinaTestGenerator.getConfigTomlFile();
-            if (!configContent.isBlank()) {
-                sourceFiles.add(new GenSrcFile(GenSrcFile.GenFileType.GEN_SRC, srcPackage,
-                        CONFIG_FILE_NAME, configContent));
-            }
+        return formatSources(sources);
+    }
+
+    /**
+     * Returns the filter to be applied when loading the OpenAPI definition. The definition is filtered only for the
+     * tags since the unused types are pruned from the generated sources only then.
+     */
+    private static Filter getLoadFilter(Filter filter) {
+        return filter.getTags().isEmpty() ? null : filter;
+    }
+
+    private OpenAPI loadOpenAPI(Path openAPIPath, boolean isClient, Filter filter)
+            throws IOException, BallerinaOpenApiException {
+        GenerationProfiler.Phase phase = profiler.start(PHASE_PARSE);
+        OpenAPI openAPI = GeneratorUtils.getOpenAPIFromOpenAPIV3Parser(openAPIPath, filter);
+        phase.end();
+        phase = profiler.start(PHASE_NORMALIZE);
+        OpenAPI openAPIDef = GeneratorUtils.normalizeOpenAPI(openAPI, isClient);
+        phase.end();
+        if (openAPIDef.getPaths() != null) {
+            profiler.count("operations", openAPIDef.getPaths().values().stream()
+                    .mapToLong(pathItem -> pathItem.readOperations().size()).sum());
+        }
+        if (openAPIDef.getComponents() != null && openAPIDef.getComponents().getSchemas() != null) {
+            profiler.count("schemas", openAPIDef.getComponents().getSchemas().size());
         }
+        return openAPIDef;
+    }
+
+    private SyntaxTree generateClientSyntaxTree(BallerinaClientGenerator clientGenerator)
+            throws BallerinaOpenApiException {
+        GenerationProfiler.Phase phase = profiler.start(PHASE_CLIENT);
+        SyntaxTree clientSyntaxTree = clientGenerator.generateSyntaxTree();
+        phase.end();
+        countNodes("client-nodes", clientSyntaxTree);
+        return clientSyntaxTree;
+    }
+
+    private SyntaxTree generateUtilSyntaxTree(BallerinaClientGenerator clientGenerator) throws IOException {
+        GenerationProfiler.Phase phase = profiler.start(PHASE_UTIL);
+        SyntaxTree utilSyntaxTree = clientGenerator.getBallerinaUtilGenerator().generateUtilSyntaxTree();
+        phase.end();
+        countNodes("util-nodes", utilSyntaxTree);
+        return utilSyntaxTree;
+    }
+
+    private SyntaxTree generateTypesSyntaxTree(OpenAPI openAPIDef, boolean nullable,
+                                               List<TypeDefinitionNode> preGeneratedTypeDefNodes)
+            throws BallerinaOpenApiException {
+        GenerationProfiler.Phase phase = profiler.start(PHASE_TYPES);
+        BallerinaTypesGenerator ballerinaSchemaGenerator = new BallerinaTypesGenerator(
+                openAPIDef, nullable, preGeneratedTypeDefNodes, parallel);
+        SyntaxTree schemaSyntaxTree = ballerinaSchemaGenerator.generateSyntaxTree();
+        phase.end();
+        countNodes("type-nodes", schemaSyntaxTree);
+        return schemaSyntaxTree;
+    }
+
+    private SyntaxTree removeUnusedEntities(SyntaxTree schemaSyntaxTree, SyntaxTree... rootSyntaxTrees) {
+        GenerationProfiler.Phase phase = profiler.start(PHASE_PRUNE);
+        SyntaxTree prunedSyntaxTree = GeneratorUtils.removeUnusedEntities(schemaSyntaxTree, rootSyntaxTrees);
+        phase.end();
+        return prunedSyntaxTree;
+    }
+
+    private SyntaxTree generateTestSyntaxTree(BallerinaTestGenerator testGenerator)
+            throws IOException, BallerinaOpenApiException {
+        GenerationProfiler.Phase phase = profiler.start(PHASE_TESTS);
+        SyntaxTree testSyntaxTree = testGenerator.generateSyntaxTree();
+        phase.end();
+        return testSyntaxTree;
+    }
 
+    /**
+     * Renders the final trees of the run to the generated files. Each tree is formatted once, and the trees are
+     * formatted in parallel when the generator runs in parallel. The optional files which are blank are skipped.
+     */
+    private List<GenSrcFile> formatSources(List<PendingSource> sources) throws FormatterException {
+        GenerationProfiler.Phase phase = profiler.start(PHASE_FORMAT);
+        List<SyntaxTree> syntaxTrees = new ArrayList<>();
+        for (PendingSource source : sources) {
+            if (source.syntaxTree != null) {
+                syntaxTrees.add(source.syntaxTree);
+            }
+        }
+        Iterator<String> formattedContents = new GeneratedSourceFormatter(format, parallel).formatAll(syntaxTrees)
+                .iterator();
+        List<GenSrcFile> sourceFiles = new ArrayList<>();
+        for (PendingSource source : sources) {
+            String content = source.syntaxTree != null ? formattedContents.next() : source.content;
+            if (!source.optional || !content.isBlank()) {
+                sourceFiles.add(new GenSrcFile(source.type, srcPackage, source.fileName, content));
+            }
+        }
+        phase.end();
         return sourceFiles;
     }
 
+    private void countNodes(String name, SyntaxTree syntaxTree) {
+        ModulePartNode modulePartNode = syntaxTree.rootNode();
+        profiler.count(name, modulePartNode.members().size());
+    }
+
 
     public List<GenSrcFile> generateBallerinaService(Path openAPI, String serviceName,
                                                       Filter filter, boolean nullable)
@@ -380,7 +570,7 @@ public class BallerinaCodeGenerator {
         if (srcPackage == null || srcPackage.isEmpty()) {
             srcPackage = DEFAULT_MOCK_PKG;
         }
-        OpenAPI openAPIDef = GeneratorUtils.normalizeOpenAPI(openAPI, false);
+        OpenAPI openAPIDef = loadOpenAPI(openAPI, false, null);
         if (openAPIDef.getInfo() == null) {
             throw new BallerinaOpenApiException("Info section of the definition file cannot be empty/null: " +
                     openAPI);
@@ -392,7 +582,7 @@ public class BallerinaCodeGenerator {
             openAPIDef.getInfo().setTitle(serviceName);
         }
 
-        List<GenSrcFile> sourceFiles = new ArrayList<>();
+        List<PendingSource> sources = new ArrayList<>();
         String concatTitle = serviceName == null ?
                 openAPIDef.getInfo().getTitle().toLowerCase(Locale.ENGLISH) :
                 serviceName.toLowerCase(Locale.ENGLISH);
@@ -402,20 +592,17 @@ public class BallerinaCodeGenerator {
                 .withFilters(filter)
                 .withNullable(nullable)
                 .build();
+        GenerationProfiler.Phase phase = profiler.start(PHASE_SERVICE);
         BallerinaServiceGenerator ballerinaServiceGenerator = new BallerinaServiceGenerator(oasServiceMetadata);
-        String mainContent = Formatter.format(ballerinaServiceGenerator.generateSyntaxTree()).toString();
-        sourceFiles.add(new GenSrcFile(GenSrcFile.GenFileType.GEN_SRC, srcPackage, srcFile, mainContent));
-        List<TypeDefinitionNode> preGeneratedTypeDefNodes = new ArrayList<>(
+        SyntaxTree serviceSyntaxTree = ballerinaServiceGenerator.generateSyntaxTree();
+        phase.end();
+        countNodes("service-nodes", serviceSyntaxTree);
+        sources.add(new PendingSource(GenSrcFile.GenFileType.GEN_SRC, srcFile, serviceSyntaxTree, false));
+        List<TypeDefinitionNode> preGeneratedTypeDefNodes = new TypeDefinitionRegistry(
                 ballerinaServiceGenerator.getTypeInclusionRecords());
-        BallerinaTypesGenerator ballerinaSchemaGenerator = new BallerinaTypesGenerator(
-                openAPIDef, nullable, preGeneratedTypeDefNodes);
-        String schemaContent = Formatter.format(
-                ballerinaSchemaGenerator.generateSyntaxTree()).toString();
-        if (!schemaContent.isBlank()) {
-            sourceFiles.add(new GenSrcFile(GenSrcFile.GenFileType.GEN_SRC, srcPackage, TYPE_FILE_NAME,
-                    schemaContent));
-        }
-        return sourceFiles;
+        sources.add(new PendingSource(GenSrcFile.GenFileType.GEN_SRC, TYPE_FILE_NAME,
+                generateTypesSyntaxTree(openAPIDef, nullable, preGeneratedTypeDefNodes), true));
+        return formatSources(sources);
     }
 
     /**
@@ -435,4 +622,77 @@ public class BallerinaCodeGenerator {
     public void setIncludeTestFiles(boolean includeTestFiles) {
         this.includeTestFiles = includeTestFiles;
     }
+
+    /**
+     * Set whether to skip the client generation when the contract and the options are unchanged, using the manifest
+     * stored next to the generated sources.
+     *
+     * @param incremental value received from command line by "--incremental"
+     */
+    public void setIncremental(boolean incremental) {
+        this.incremental = incremental;
+    }
+
+    /**
+     * Set whether to generate the client functions of the operations and the types of the schemas in parallel.
+     *
+     * @param parallel value received from command line by "--parallel"
+     */
+    public void setParallel(boolean parallel) {
+        this.parallel = parallel;
+    }
+
+    /**
+     * Set whether to format the generated sources. The unformatted sources are laid out with the minimal whitespace
+     * which keeps them valid.
+     *
+     * @param format false when "--no-format" is received from command line
+     */
+    public void setFormat(boolean format) {
+        this.format = format;
+    }
+
+    /**
+     * Set whether to ask the user before overriding the existing files. The existing files are overridden without
+     * asking when it is disabled, such as when many contracts are generated on the worker threads of the batch mode.
+     *
+     * @param interactive false to override the existing files without asking
+     */
+    public void setInteractive(boolean interactive) {
+        this.interactive = interactive;
+    }
+
+    /**
+     * Returns the profiler which records the phases of the code generation runs of this generator.
+     */
+    public GenerationProfiler getProfiler() {
+        return profiler;
+    }
+
+    /**
+     * Generated file whose content is rendered once the trees of all the files of the run are generated.
+     */
+    private static class PendingSource {
+        private final GenSrcFile.GenFileType type;
+        private final String fileName;
+        private final SyntaxTree syntaxTree;
+        private final String content;
+        private final boolean optional;
+
+        PendingSource(GenSrcFile.GenFileType type, String fileName, SyntaxTree syntaxTree, boolean optional) {
+            this.type = type;
+            this.fileName = fileName;
+            this.syntaxTree = syntaxTree;
+            this.content = null;
+            this.optional = optional;
+        }
+
+        PendingSource(GenSrcFile.GenFileType type, String fileName, String content) {
+            this.type = type;
+            this.fileName = fileName;
+            this.syntaxTree = null;
+            this.content = content;
+            this.optional = true;
+        }
+    }
 }
@@ -0,0 +1,374 @@
+/*
+ * Copyright (c) 2022, WSO2 LLC. (http://www.wso2.com). All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.openapi.cmd;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.ballerina.openapi.core.GenerationProfiler;
+import io.ballerina.openapi.core.exception.BallerinaOpenApiException;
+import io.ballerina.openapi.core.model.Filter;
+import io.swagger.v3.core.util.Yaml;
+import org.ballerinalang.formatter.core.FormatterException;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import static io.ballerina.openapi.cmd.CmdConstants.JSON_EXTENSION;
+import static io.ballerina.openapi.cmd.CmdConstants.REMOTE;
+import static io.ballerina.openapi.cmd.CmdConstants.SERVICE;
+import static io.ballerina.openapi.cmd.CmdConstants.YAML_EXTENSION;
+import static io.ballerina.openapi.cmd.CmdConstants.YML_EXTENSION;
+import static io.ballerina.openapi.core.GeneratorUtils.getValidName;
+
+/**
+ * This generates the Ballerina sources for many OpenAPI contracts in a single process, so that the JVM startup and
+ * the warm-up of the parser, formatter and generators are paid once. The contracts are given either by a manifest
+ * (JSON or YAML list of entries with the per contract options) or by a glob pattern sharing the command options.
+ * <pre>
+ * - input: specs/petstore.yaml
+ *   mode: client
+ *   tags: [pets, dogs]
+ *   output: clients/petstore
+ * </pre>
+ *
+ * @since 1.4.0
+ */
+class BatchCodeGenerator {
+    private static final String CLIENT = "client";
+    private static final String GLOB_CHARS = "*?[{";
+
+    private final PrintStream outStream;
+    private final String licenseHeader;
+    private final int jobs;
+    private final boolean format;
+    private boolean includeTestFiles;
+    private boolean incremental;
+    private boolean parallel;
+    private boolean profile;
+    private Path profileTraceDirectory;
+
+    BatchCodeGenerator(PrintStream outStream, String licenseHeader, int jobs, boolean format) {
+        this.outStream = outStream;
+        this.licenseHeader = licenseHeader;
+        this.jobs = Math.max(1, jobs);
+        this.format = format;
+    }
+
+    /**
+     * Sets the generation options of the command which are applied to every contract of the batch.
+     *
+     * @param includeTestFiles whether to generate the test files, "--with-tests"
+     * @param incremental      whether to skip the clients whose contract and options are unchanged, "--incremental"
+     * @param parallel         whether to generate the functions and the types of each contract in parallel,
+     *                         "--parallel"
+     */
+    void setOptions(boolean includeTestFiles, boolean incremental, boolean parallel) {
+        this.includeTestFiles = includeTestFiles;
+        this.incremental = incremental;
+        this.parallel = parallel;
+    }
+
+    /**
+     * Enables printing the profile of the code generation of each contract after the summary.
+     *
+     * @param profile               whether to print the profiles
+     * @param profileTraceDirectory directory to write the profile trace of each contract, null when not written
+     */
+    void setProfile(boolean profile, Path profileTraceDirectory) {
+        this.profile = profile;
+        this.profileTraceDirectory = profileTraceDirectory;
+    }
+
+    /**
+     * Reads the batch entries of the given manifest or glob pattern.
+     *
+     * @param batch         manifest path or glob pattern of the contracts
+     * @param executionPath path against which the relative paths are resolved
+     * @param defaults      options applied to the contracts matched by a glob pattern
+     * @return batch entries
+     * @throws IOException when the manifest can not be read or more than one entry is generated to the same output
+     */
+    static List<Entry> readEntries(String batch, Path executionPath, Entry defaults) throws IOException {
+        List<Entry> entries = batch.chars().anyMatch(c -> GLOB_CHARS.indexOf(c) >= 0) ?
+                readGlobEntries(batch, executionPath, defaults) :
+                readManifestEntries(executionPath.resolve(batch).normalize(), defaults);
+        // The entries are generated concurrently, hence they must not write the same files
+        Map<Path, Entry> outputs = new HashMap<>();
+        for (Entry entry : entries) {
+            Entry duplicate = outputs.putIfAbsent(entry.output, entry);
+            if (duplicate != null) {
+                throw new IOException("Batch entries " + duplicate.input + " and " + entry.input +
+                        " are generated to the same output: " + entry.output);
+            }
+        }
+        return entries;
+    }
+
+    private static List<Entry> readManifestEntries(Path manifestPath, Entry defaults) throws IOException {
+        ObjectMapper mapper = manifestPath.toString().endsWith(JSON_EXTENSION) ? new ObjectMapper() : Yaml.mapper();
+        JsonNode root = mapper.readTree(manifestPath.toFile());
+        if (root == null || !root.isArray()) {
+            throw new IOException("Batch manifest must be a list of entries: " + manifestPath);
+        }
+        Path baseDir = manifestPath.getParent();
+        List<Entry> entries = new ArrayList<>();
+        for (JsonNode node : root) {
+            JsonNode input = node.get("input");
+            if (input == null || input.asText().isBlank()) {
+                throw new IOException("Batch manifest entry without an input: " + node);
+            }
+            Entry entry = new Entry(baseDir.resolve(input.asText()).normalize());
+            entry.mode = getText(node, "mode", defaults.mode);
+            entry.serviceName = getText(node, "serviceName", null);
+            entry.clientMethods = getText(node, "clientMethods", defaults.clientMethods);
+            entry.nullable = node.has("nullable") ? node.get("nullable").asBoolean() : defaults.nullable;
+            entry.tags = node.has("tags") ? getList(node.get("tags")) : defaults.tags;
+            entry.operations = node.has("operations") ? getList(node.get("operations")) : defaults.operations;
+            String output = getText(node, "output", null);
+            entry.output = output != null ? baseDir.resolve(output).normalize() :
+                    defaults.output.resolve(entry.getContractName());
+            entries.add(entry);
+        }
+        return entries;
+    }
+
+    private static List<Entry> readGlobEntries(String pattern, Path executionPath, Entry defaults)
+            throws IOException {
+        Path patternPath = executionPath.resolve(pattern).normalize();
+        Path directory = patternPath.getParent();
+        List<Entry> entries = new ArrayList<>();
+        try (DirectoryStream<Path> contracts = Files.newDirectoryStream(directory,
+                patternPath.getFileName().toString())) {
+            for (Path contract : contracts) {
+                String fileName = contract.getFileName().toString();
+                if (!(fileName.endsWith(YAML_EXTENSION) || fileName.endsWith(JSON_EXTENSION) ||
+                        fileName.endsWith(YML_EXTENSION))) {
+                    continue;
+                }
+                Entry entry = new Entry(contract);
+                entry.mode = defaults.mode;
+                entry.clientMethods = defaults.clientMethods;
+                entry.nullable = defaults.nullable;
+                entry.tags = defaults.tags;
+                entry.operations = defaults.operations;
+                entry.output = defaults.output.resolve(entry.getContractName());
+                entries.add(entry);
+            }
+        }
+        entries.sort((entry1, entry2) -> entry1.input.compareTo(entry2.input));
+        return entries;
+    }
+
+    private static String getText(JsonNode node, String field, String defaultValue) {
+        JsonNode value = node.get(field);
+        return value == null || value.isNull() ? defaultValue : value.asText();
+    }
+
+    private static List<String> getList(JsonNode node) {
+        List<String> values = new ArrayList<>();
+        if (node.isArray()) {
+            node.forEach(value -> values.add(value.asText().trim()));
+        } else if (!node.isNull()) {
+            Arrays.stream(node.asText().split(",")).map(String::trim).forEach(values::add);
+        }
+        return values;
+    }
+
+    /**
+     * Generates the sources of the given entries on a worker pool and prints a timing summary.
+     *
+     * @return whether all the entries were generated successfully
+     */
+    boolean generate(List<Entry> entries) {
+        long startTime = System.nanoTime();
+        ExecutorService executor = Executors.newFixedThreadPool(Math.min(jobs, Math.max(1, entries.size())));
+        List<Future<Result>> futures = new ArrayList<>();
+        try {
+            for (Entry entry : entries) {
+                futures.add(executor.submit(() -> generate(entry)));
+            }
+            List<Result> results = new ArrayList<>();
+            for (Future<Result> future : futures) {
+                results.add(future.get());
+            }
+            boolean success = printSummary(results, System.nanoTime() - startTime);
+            reportProfiles(results);
+            return success;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            outStream.println("Batch code generation was interrupted.");
+            return false;
+        } catch (ExecutionException e) {
+            outStream.println("Batch code generation failed: " + e.getCause().getMessage());
+            return false;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private Result generate(Entry entry) {
+        long startTime = System.nanoTime();
+        BallerinaCodeGenerator generator = new BallerinaCodeGenerator();
+        generator.setLicenseHeader(licenseHeader);
+        generator.setIncludeTestFiles(includeTestFiles);
+        generator.setIncremental(incremental);
+        generator.setParallel(parallel);
+        generator.setFormat(format);
+        // The worker threads can not ask the user, hence the existing files are overridden
+        generator.setInteractive(false);
+        List<String> operations = entry.operations.stream()
+                .map(operationId -> getValidName(operationId, false))
+                .collect(Collectors.toList());
+        Filter filter = new Filter(new ArrayList<>(entry.tags), operations);
+        String serviceName = entry.serviceName != null ? entry.serviceName : entry.getContractName();
+        boolean resourceMode = entry.clientMethods == null || entry.clientMethods.isBlank() ||
+                !entry.clientMethods.equals(REMOTE);
+        String error = null;
+        try {
+            Files.createDirectories(entry.output);
+            String input = entry.input.toString();
+            String output = entry.output.toString();
+            if (SERVICE.equals(entry.mode)) {
+                generator.generateService(input, serviceName, output, filter, entry.nullable);
+            } else if (CLIENT.equals(entry.mode)) {
+                generator.generateClient(input, output, filter, entry.nullable, resourceMode);
+            } else {
+                generator.generateClientAndService(input, serviceName, output, filter, entry.nullable,
+                        resourceMode);
+            }
+        } catch (IOException | BallerinaOpenApiException | FormatterException | RuntimeException e) {
+            // An unexpected failure of a contract is reported with the others instead of aborting the batch
+            error = e.getLocalizedMessage() != null ? e.getLocalizedMessage() : e.getClass().getSimpleName();
+        }
+        return new Result(entry, error, System.nanoTime() - startTime, generator.getProfiler());
+    }
+
+    private boolean printSummary(List<Result> results, long totalTime) {
+        int failures = 0;
+        outStream.println("Batch code generation summary:");
+        for (Result result : results) {
+            String status = result.error == null ? "OK" : "FAILED";
+            outStream.println(String.format("-- %-6s %8d ms  %s", status,
+                    TimeUnit.NANOSECONDS.toMillis(result.time), result.entry.input));
+            if (result.error != null) {
+                failures++;
+                outStream.println("   " + result.error);
+            }
+        }
+        outStream.println(String.format("%d contract(s) generated, %d failed in %d ms.", results.size() - failures,
+                failures, TimeUnit.NANOSECONDS.toMillis(totalTime)));
+        return failures == 0;
+    }
+
+    /**
+     * Prints the profile of each contract and writes their traces, named by the position of the contract in the
+     * batch, when the profiling is enabled.
+     */
+    private void reportProfiles(List<Result> results) {
+        if (!profile && profileTraceDirectory == null) {
+            return;
+        }
+        for (int i = 0; i < results.size(); i++) {
+            Result result = results.get(i);
+            outStream.println("-- " + result.entry.input);
+            outStream.println(result.profiler.getSummary());
+            if (profileTraceDirectory == null) {
+                continue;
+            }
+            Path tracePath = profileTraceDirectory.resolve(
+                    String.format("%d-%s%s", i + 1, result.entry.getContractName(), JSON_EXTENSION));
+            try {
+                result.profiler.writeTrace(tracePath);
+                outStream.println("Code generation profile trace is written to " + tracePath);
+            } catch (IOException e) {
+                outStream.println("Invalid profile trace path : " + tracePath + ". " + e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Contract to be generated with its options.
+     */
+    static class Entry {
+        private final Path input;
+        private Path output;
+        private String mode;
+        private String serviceName;
+        private String clientMethods;
+        private boolean nullable;
+        private List<String> tags = new ArrayList<>();
+        private List<String> operations = new ArrayList<>();
+
+        Entry(Path input) {
+            this.input = input;
+        }
+
+        /**
+         * Creates the options applied to the contracts which do not override them.
+         */
+        static Entry defaults(Path output, String mode, String clientMethods, boolean nullable, List<String> tags,
+                              List<String> operations) {
+            Entry defaults = new Entry(null);
+            defaults.output = output;
+            defaults.mode = mode;
+            defaults.clientMethods = clientMethods;
+            defaults.nullable = nullable;
+            defaults.tags = tags;
+            defaults.operations = operations;
+            return defaults;
+        }
+
+        /**
+         * Returns the file name of the contract without its extension.
+         */
+        private String getContractName() {
+            String fileName = input.getFileName().toString();
+            int extensionIndex = fileName.lastIndexOf('.');
+            return extensionIndex > 0 ? fileName.substring(0, extensionIndex) : fileName;
+        }
+    }
+
+    private static class Result {
+        private final Entry entry;
+        private final String error;
+        private final long time;
+        private final GenerationProfiler profiler;
+
+        Result(Entry entry, String error, long time, GenerationProfiler profiler) {
+            this.entry = entry;
+            this.error = error;
+            this.time = time;
+            this.profiler = profiler;
+        }
+    }
+}
@@ -82,6 +82,7 @@ public class CmdConstants {
     public static final String TEST_FILE_NAME = "test.bal";
     public static final String SERVICE_FILE_NAME = "service.bal";
     public static final String CONFIG_FILE_NAME = "Config.toml";
+    public static final String MANIFEST_FILE_NAME = ".openapi-manifest.json";
     public static final String BALLERINA_TOML = "Ballerina.toml";
     public static final String BALLERINA_TOML_CONTENT = "[package]\n" +
             "org= \"ballerina\"\n" +
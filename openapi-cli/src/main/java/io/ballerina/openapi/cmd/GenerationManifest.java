@@ -0,0 +1,179 @@
+/*
+ * Copyright (c) 2022, WSO2 LLC. (http://www.wso2.com). All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.openapi.cmd;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.TreeMap;
+
+import static io.ballerina.openapi.cmd.CmdConstants.MANIFEST_FILE_NAME;
+
+/**
+ * This manifest is stored next to the generated sources in the incremental mode, which is a skip-if-unchanged cache
+ * of the client generation. It records the hash of the generation inputs, which are the contract and the options, and
+ * the hashes of the generated files. A rerun with the same inputs whose generated files are untouched is skipped as a
+ * whole. Otherwise the whole client is regenerated, and only the files whose content changed are rewritten.
+ * <p>
+ * The operations and the schemas are not hashed one by one. The client functions share the generated types, the
+ * imports and the formatting of the whole module, so a changed operation can change the nodes generated for the other
+ * operations, and splicing only its function into the previous sources could leave them inconsistent.
+ * </p>
+ *
+ * @since 1.4.0
+ */
+class GenerationManifest {
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+    private static final String INPUT_HASH = "inputHash";
+    private static final String FILES = "files";
+
+    private String inputHash;
+    private final Map<String, String> files = new TreeMap<>();
+
+    /**
+     * Reads the manifest of the given source directory. An empty manifest is returned when the manifest does not exist
+     * or can not be read, so that everything is regenerated.
+     */
+    static GenerationManifest read(Path srcPath) {
+        GenerationManifest manifest = new GenerationManifest();
+        Path manifestPath = srcPath.resolve(MANIFEST_FILE_NAME);
+        if (!Files.exists(manifestPath)) {
+            return manifest;
+        }
+        try {
+            JsonNode root = MAPPER.readTree(manifestPath.toFile());
+            JsonNode inputHash = root.get(INPUT_HASH);
+            manifest.inputHash = inputHash == null ? null : inputHash.asText();
+            readEntries(root.get(FILES), manifest.files);
+        } catch (IOException e) {
+            return new GenerationManifest();
+        }
+        return manifest;
+    }
+
+    private static void readEntries(JsonNode node, Map<String, String> entries) {
+        if (node == null) {
+            return;
+        }
+        Iterator<Map.Entry<String, JsonNode>> fields = node.fields();
+        while (fields.hasNext()) {
+            Map.Entry<String, JsonNode> field = fields.next();
+            entries.put(field.getKey(), field.getValue().asText());
+        }
+    }
+
+    void write(Path srcPath) throws IOException {
+        ObjectNode root = MAPPER.createObjectNode();
+        root.put(INPUT_HASH, inputHash);
+        root.set(FILES, MAPPER.valueToTree(files));
+        Files.createDirectories(srcPath);
+        Files.writeString(srcPath.resolve(MANIFEST_FILE_NAME),
+                MAPPER.writerWithDefaultPrettyPrinter().writeValueAsString(root));
+    }
+
+    /**
+     * Checks whether the sources generated for the given inputs are still in place.
+     *
+     * @param inputHash hash of the contract and the generation options
+     * @param srcPath   directory of the generated sources
+     */
+    boolean isUpToDate(String inputHash, Path srcPath) throws IOException {
+        if (this.inputHash == null || !this.inputHash.equals(inputHash) || files.isEmpty()) {
+            return false;
+        }
+        for (Map.Entry<String, String> file : files.entrySet()) {
+            Path filePath = srcPath.resolve(file.getKey());
+            if (!Files.exists(filePath) || !file.getValue().equals(hash(Files.readString(filePath)))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    void setInputHash(String inputHash) {
+        this.inputHash = inputHash;
+    }
+
+    /**
+     * Records the hash of a generated file.
+     *
+     * @param relativePath path of the file relative to the source directory
+     * @param content      content written to the file
+     */
+    void recordFile(String relativePath, String content) {
+        files.put(relativePath, hash(content));
+    }
+
+    boolean isFileTracked(String relativePath) {
+        return files.containsKey(relativePath);
+    }
+
+    /**
+     * Checks whether the given content is the one recorded for the file, so that the file need not be rewritten.
+     */
+    boolean isFileUnchanged(Path srcPath, String relativePath, String content) throws IOException {
+        String contentHash = hash(content);
+        Path filePath = srcPath.resolve(relativePath);
+        return contentHash.equals(files.get(relativePath)) && Files.exists(filePath) &&
+                contentHash.equals(hash(Files.readString(filePath)));
+    }
+
+    /**
+     * Computes the hash of the contract together with the options which affect the generated sources.
+     */
+    static String hashInputs(Path definitionPath, String... options) throws IOException {
+        MessageDigest digest = getDigest();
+        digest.update(Files.readAllBytes(definitionPath));
+        for (String option : options) {
+            digest.update((byte) 0);
+            digest.update(String.valueOf(option).getBytes(StandardCharsets.UTF_8));
+        }
+        return toHex(digest.digest());
+    }
+
+    static String hash(String content) {
+        return toHex(getDigest().digest(content.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    private static MessageDigest getDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            // SHA-256 is available in every Java platform
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static String toHex(byte[] bytes) {
+        StringBuilder hex = new StringBuilder(bytes.length * 2);
+        for (byte b : bytes) {
+            hex.append(String.format("%02x", b));
+        }
+        return hex.toString();
+    }
+}
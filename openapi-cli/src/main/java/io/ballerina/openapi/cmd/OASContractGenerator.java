@@ -44,6 +44,8 @@ import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import static io.ballerina.openapi.converter.utils.CodegenUtils.resolveContractFileName;
 
@@ -80,6 +82,20 @@ public class OASContractGenerator {
      */
     public void generateOAS3DefinitionsAllService(Path servicePath, Path outPath, String serviceName,
                                                   Boolean needJson) {
+        generateOAS3DefinitionsAllService(servicePath, outPath, serviceName, needJson, false);
+    }
+
+    /**
+     * This util for generating OAS files. When {@code isParallel} is enabled, the services are converted and
+     * serialized in parallel while the files are written in the same order as the sequential generation.
+     *
+     * @param servicePath The path to a single ballerina file.
+     * @param outPath     The output directory to which the OpenAPI specifications should be generated to.
+     * @param serviceName Filter the services to generate OpenAPI specification for service with this name.
+     * @param isParallel  Generate the OpenAPI specifications of the services in parallel.
+     */
+    public void generateOAS3DefinitionsAllService(Path servicePath, Path outPath, String serviceName,
+                                                  Boolean needJson, boolean isParallel) {
         // Load project instance for single ballerina file
         project = ProjectLoader.loadProject(servicePath);
         Package packageName = project.currentPackage();
@@ -111,20 +127,25 @@ public class OASContractGenerator {
         }
         semanticModel = compilation.getSemanticModel(docId.moduleId());
         List<OASResult> openAPIDefinitions = ServiceToOpenAPIConverterUtils.generateOAS3Definition(syntaxTree,
-                semanticModel, serviceName, needJson, inputPath);
+                semanticModel, serviceName, needJson, inputPath, isParallel);
 
         if (!openAPIDefinitions.isEmpty()) {
+            // Serialize the definitions up front, so that it can be done in parallel
+            Stream<OASResult> definitions = isParallel ? openAPIDefinitions.parallelStream() :
+                    openAPIDefinitions.stream();
+            List<Optional<String>> contents = definitions.map(definition -> {
+                if (definition.getOpenAPI().isEmpty()) {
+                    return Optional.<String>empty();
+                }
+                return needJson ? definition.getJson() : definition.getYaml();
+            }).collect(Collectors.toList());
             List<String> fileNames = new ArrayList<>();
-            for (OASResult definition : openAPIDefinitions) {
+            for (int i = 0; i < openAPIDefinitions.size(); i++) {
+                OASResult definition = openAPIDefinitions.get(i);
                 try {
                     this.errors.addAll(definition.getDiagnostics());
                     if (definition.getOpenAPI().isPresent()) {
-                        Optional<String> content;
-                        if (needJson) {
-                            content = definition.getJson();
-                        } else {
-                            content = definition.getYaml();
-                        }
+                        Optional<String> content = contents.get(i);
                         String fileName = resolveContractFileName(outPath, definition.getServiceName(), needJson);
                         CodegenUtils.writeFile(outPath.resolve(fileName), content.get());
                         fileNames.add(fileName);
@@ -107,6 +107,35 @@ public class OpenApiCmd implements BLauncherCmd {
             " with provided type . Only \"remote\"(default) and \"resource\" options are supported.")
     private String generateClientMethods;
 
+    @CommandLine.Option(names = {"--incremental"}, description = "Skip the client generation when the OpenAPI " +
+            "contract and the options are unchanged since the last generation. A changed contract regenerates the " +
+            "whole client and rewrites only the changed files")
+    private boolean incremental;
+
+    @CommandLine.Option(names = {"--batch"}, description = "Manifest of the OpenAPI contracts with the per contract " +
+            "options, or a glob pattern of the OpenAPI contracts, to generate in a single run")
+    private String batch;
+
+    @CommandLine.Option(names = {"--jobs"}, description = "Number of the OpenAPI contracts generated in parallel " +
+            "in the batch mode, defaults to one")
+    private int jobs = 1;
+
+    @CommandLine.Option(names = {"--parallel"}, description = "Generate the client functions and the types of a " +
+            "contract, or the OpenAPI contracts of the services of a Ballerina file, in parallel")
+    private boolean parallel;
+
+    @CommandLine.Option(names = {"--no-format"}, description = "Skip formatting the generated sources, which are " +
+            "laid out with the minimal whitespace. Meant for the sources consumed only by the tools, such as in CI")
+    private boolean noFormat;
+
+    @CommandLine.Option(names = {"--profile"}, description = "Print the time and the allocated memory of each phase " +
+            "of the code generation")
+    private boolean profile;
+
+    @CommandLine.Option(names = {"--profile-trace"}, description = "Write the profile of the code generation as a " +
+            "JSON trace to the given path, which is the directory of the traces of the contracts in the batch mode")
+    private String profileTrace;
+
     @CommandLine.Parameters
     private List<String> argList;
 
@@ -133,6 +162,13 @@ public class OpenApiCmd implements BLauncherCmd {
             outStream.println(commandUsageInfo);
             return;
         }
+        if (batch != null) {
+            generateBatch();
+            if (this.exitWhenFinish) {
+                Runtime.getRuntime().exit(0);
+            }
+            return;
+        }
         //Check if cli input argument is present
         if (inputPath) {
             //Check if an OpenApi definition is provided
@@ -206,6 +242,46 @@ public class OpenApiCmd implements BLauncherCmd {
         }
     }
 
+    /**
+     * This util method generates the Ballerina sources for the OpenAPI contracts given by the batch manifest or glob
+     * pattern. The command options are applied to the contracts which do not override them.
+     */
+    private void generateBatch() {
+        getTargetOutputPath();
+        List<String> tag = new ArrayList<>();
+        List<String> operation = new ArrayList<>();
+        if (tags != null) {
+            tag.addAll(Arrays.asList(tags.split(",")));
+        }
+        if (operations != null) {
+            operation.addAll(Arrays.asList(operations.split(",")));
+        }
+        BatchCodeGenerator.Entry defaults = BatchCodeGenerator.Entry.defaults(targetOutputPath, mode,
+                generateClientMethods, nullable, tag, operation);
+        List<BatchCodeGenerator.Entry> entries;
+        try {
+            entries = BatchCodeGenerator.readEntries(batch, executionPath, defaults);
+        } catch (IOException e) {
+            outStream.println("Invalid batch input : " + batch + ". " + e.getMessage());
+            exitError(this.exitWhenFinish);
+            return;
+        }
+        if (entries.isEmpty()) {
+            outStream.println("No OpenAPI contracts found for the batch input : " + batch);
+            exitError(this.exitWhenFinish);
+            return;
+        }
+        BatchCodeGenerator batchGenerator = new BatchCodeGenerator(outStream, this.setLicenseHeader(), jobs,
+                !noFormat);
+        batchGenerator.setOptions(includeTestFiles, incremental, parallel);
+        // In the batch mode the trace path is the directory of the traces of the contracts
+        batchGenerator.setProfile(profile, profileTrace == null ? null :
+                executionPath.resolve(profileTrace).normalize());
+        if (!batchGenerator.generate(entries)) {
+            exitError(this.exitWhenFinish);
+        }
+    }
+
     /**
      * This util method to generate openApi contract based on the given service ballerina file.
      * @param fileName  input resource file
@@ -226,7 +302,7 @@ public class OpenApiCmd implements BLauncherCmd {
         // Check service name it is mandatory
         OASContractGenerator openApiConverter = new OASContractGenerator();
         openApiConverter.generateOAS3DefinitionsAllService(balFilePath, targetOutputPath, service,
-                generatedFileType);
+                generatedFileType, parallel);
         errors.addAll(openApiConverter.getErrors());
         if (!errors.isEmpty()) {
             for (OpenAPIConverterDiagnostic error: errors) {
@@ -258,6 +334,9 @@ public class OpenApiCmd implements BLauncherCmd {
         BallerinaCodeGenerator generator = new BallerinaCodeGenerator();
         generator.setLicenseHeader(this.setLicenseHeader());
         generator.setIncludeTestFiles(this.includeTestFiles);
+        generator.setIncremental(this.incremental);
+        generator.setParallel(this.parallel);
+        generator.setFormat(!this.noFormat);
         final File openApiFile = new File(fileName);
         String serviceName;
         if (generatedServiceName != null) {
@@ -285,6 +364,26 @@ public class OpenApiCmd implements BLauncherCmd {
         } else {
             generateBothFiles(generator, serviceName, resourcePath, filter, this.clientResourceMode);
         }
+        reportProfile(generator);
+    }
+
+    /**
+     * Prints the profile of the code generation and writes its trace when the profiling is enabled.
+     */
+    private void reportProfile(BallerinaCodeGenerator generator) {
+        if (!profile && profileTrace == null) {
+            return;
+        }
+        outStream.println(generator.getProfiler().getSummary());
+        if (profileTrace != null) {
+            Path tracePath = executionPath.resolve(profileTrace).normalize();
+            try {
+                generator.getProfiler().writeTrace(tracePath);
+                outStream.println("Code generation profile trace is written to " + tracePath);
+            } catch (IOException e) {
+                outStream.println("Invalid profile trace path : " + profileTrace + ". " + e.getMessage());
+            }
+        }
     }
 
     /**
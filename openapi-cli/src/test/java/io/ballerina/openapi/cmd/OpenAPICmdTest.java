@@ -31,6 +31,7 @@ import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.attribute.FileTime;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -444,6 +445,131 @@ public class OpenAPICmdTest extends OpenAPICommandTest {
         FileUtils.deleteDirectory(testDir);
     }
 
+    @Test(description = "Test the incremental client generation skips the unchanged contracts")
+    public void testIncrementalClientGeneration() throws IOException {
+        Path petstoreYaml = resourceDir.resolve(Paths.get("petstore.yaml"));
+        Path outDir = this.tmpDir.resolve("incremental");
+        String[] args = {"--input", petstoreYaml.toString(), "-o", outDir.toString(), "--mode", "client",
+                "--incremental"};
+        OpenApiCmd cmd = new OpenApiCmd(printStream, tmpDir, false);
+        new CommandLine(cmd).parseArgs(args);
+        cmd.execute();
+        Path clientFile = outDir.resolve("client.bal");
+        Assert.assertTrue(Files.exists(clientFile));
+        Assert.assertTrue(Files.exists(outDir.resolve(".openapi-manifest.json")));
+
+        // Rerun with the same contract must not touch the generated sources
+        FileTime lastModifiedTime = FileTime.fromMillis(0);
+        Files.setLastModifiedTime(clientFile, lastModifiedTime);
+        cmd = new OpenApiCmd(printStream, tmpDir, false);
+        new CommandLine(cmd).parseArgs(args);
+        cmd.execute();
+        Assert.assertEquals(Files.getLastModifiedTime(clientFile), lastModifiedTime);
+
+        // An edited file is regenerated
+        Files.writeString(clientFile, "// edited");
+        cmd = new OpenApiCmd(printStream, tmpDir, false);
+        new CommandLine(cmd).parseArgs(args);
+        cmd.execute();
+        Assert.assertNotEquals(Files.readString(clientFile), "// edited");
+        FileUtils.deleteDirectory(outDir.toFile());
+    }
+
+    @Test(description = "Test the batch code generation for the contracts given by a manifest")
+    public void testBatchGeneration() throws IOException {
+        Path batchDir = this.tmpDir.resolve("batch");
+        Files.createDirectories(batchDir);
+        Path manifest = batchDir.resolve("batch.yaml");
+        Files.writeString(manifest, "- input: " + resourceDir.resolve("petstore.yaml") + "\n" +
+                "  mode: client\n" +
+                "  output: petstore_client\n" +
+                "- input: " + resourceDir.resolve("petstore_tags.yaml") + "\n" +
+                "  mode: service\n" +
+                "  tags: [pets]\n");
+        String[] args = {"--batch", manifest.toString(), "-o", batchDir.toString(), "--jobs", "2"};
+        OpenApiCmd cmd = new OpenApiCmd(printStream, tmpDir, false);
+        new CommandLine(cmd).parseArgs(args);
+        cmd.execute();
+        String output = readOutput(true);
+        Assert.assertTrue(output.contains("2 contract(s) generated, 0 failed"), output);
+        Assert.assertTrue(Files.exists(batchDir.resolve("petstore_client/client.bal")));
+        Assert.assertTrue(Files.exists(batchDir.resolve("petstore_tags/petstore_tags_service.bal")));
+        FileUtils.deleteDirectory(batchDir.toFile());
+    }
+
+    @Test(description = "Test the batch code generation applies the generation options of the command")
+    public void testBatchGenerationWithOptions() throws IOException {
+        Path batchDir = this.tmpDir.resolve("batch_options");
+        String[] args = {"--batch", resourceDir.resolve("petstore.yam[l]").toString(), "-o", batchDir.toString(),
+                "--mode", "client", "--incremental", "--parallel", "--with-tests"};
+        OpenApiCmd cmd = new OpenApiCmd(printStream, tmpDir, false);
+        new CommandLine(cmd).parseArgs(args);
+        cmd.execute();
+        String output = readOutput(true);
+        Assert.assertTrue(output.contains("1 contract(s) generated, 0 failed"), output);
+        Path outDir = batchDir.resolve("petstore");
+        Assert.assertTrue(Files.exists(outDir.resolve("client.bal")));
+        Assert.assertTrue(Files.exists(outDir.resolve("tests/test.bal")));
+        Assert.assertTrue(Files.exists(outDir.resolve(".openapi-manifest.json")));
+        FileUtils.deleteDirectory(batchDir.toFile());
+    }
+
+    @Test(description = "Test the batch entries generated to the same output are rejected")
+    public void testBatchGenerationWithDuplicateOutputs() throws IOException {
+        Path batchDir = this.tmpDir.resolve("batch_duplicate");
+        Files.createDirectories(batchDir);
+        Path manifest = batchDir.resolve("batch.yaml");
+        Files.writeString(manifest, "- input: " + resourceDir.resolve("petstore.yaml") + "\n" +
+                "  mode: client\n" +
+                "  output: petstore\n" +
+                "- input: " + resourceDir.resolve("petstore_tags.yaml") + "\n" +
+                "  mode: client\n" +
+                "  output: petstore\n");
+        String[] args = {"--batch", manifest.toString(), "-o", batchDir.toString()};
+        OpenApiCmd cmd = new OpenApiCmd(printStream, tmpDir, false);
+        new CommandLine(cmd).parseArgs(args);
+        cmd.execute();
+        String output = readOutput(true);
+        Assert.assertTrue(output.contains("are generated to the same output"), output);
+        Assert.assertFalse(Files.exists(batchDir.resolve("petstore")));
+        FileUtils.deleteDirectory(batchDir.toFile());
+    }
+
+    @Test(description = "Test the profile of the client generation")
+    public void testProfiledClientGeneration() throws IOException {
+        Path petstoreYaml = resourceDir.resolve(Paths.get("petstore.yaml"));
+        Path tracePath = this.tmpDir.resolve("profile/trace.json");
+        String[] args = {"--input", petstoreYaml.toString(), "--mode", "client", "-o", this.tmpDir.toString(),
+                "--profile-trace", tracePath.toString()};
+        OpenApiCmd cmd = new OpenApiCmd(printStream, tmpDir, false);
+        new CommandLine(cmd).parseArgs(args);
+        cmd.execute();
+        String output = readOutput(true);
+        Assert.assertTrue(output.contains("Code generation profile:"), output);
+        Assert.assertTrue(output.contains("client-generation"), output);
+        Assert.assertTrue(Files.exists(tracePath));
+        String trace = Files.readString(tracePath);
+        Assert.assertTrue(trace.contains("\"phases\"") && trace.contains("\"operations\""), trace);
+        FileUtils.deleteDirectory(tracePath.getParent().toFile());
+        deleteGeneratedFiles(false);
+    }
+
+    @Test(description = "Test the profile of the batch code generation")
+    public void testProfiledBatchGeneration() throws IOException {
+        Path batchDir = this.tmpDir.resolve("batch_profile");
+        Path traceDir = batchDir.resolve("traces");
+        String[] args = {"--batch", resourceDir.resolve("petstore.yam[l]").toString(), "-o", batchDir.toString(),
+                "--mode", "client", "--profile", "--profile-trace", traceDir.toString()};
+        OpenApiCmd cmd = new OpenApiCmd(printStream, tmpDir, false);
+        new CommandLine(cmd).parseArgs(args);
+        cmd.execute();
+        String output = readOutput(true);
+        Assert.assertTrue(output.contains("1 contract(s) generated, 0 failed"), output);
+        Assert.assertTrue(output.contains("Code generation profile:"), output);
+        Assert.assertTrue(Files.exists(traceDir.resolve("1-petstore.json")));
+        FileUtils.deleteDirectory(batchDir.toFile());
+    }
+
     @Test(description = "getRelative path")
     public void getRelativePath() {
         OpenApiCmd cmd = new OpenApiCmd();
@@ -0,0 +1,177 @@
+/*
+ * Copyright (c) 2022, WSO2 LLC. (http://www.wso2.com). All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.openapi.generators.common;
+
+import io.ballerina.openapi.core.GeneratorUtils;
+import io.ballerina.openapi.core.TypeDefinitionRegistry;
+import io.ballerina.openapi.core.exception.BallerinaOpenApiException;
+import io.ballerina.openapi.core.generators.client.BallerinaClientGenerator;
+import io.ballerina.openapi.core.generators.client.model.OASClientConfig;
+import io.ballerina.openapi.core.generators.schema.BallerinaTypesGenerator;
+import io.ballerina.openapi.core.generators.schema.model.GeneratorMetaData;
+import io.ballerina.openapi.core.generators.service.BallerinaServiceGenerator;
+import io.ballerina.openapi.core.generators.service.model.OASServiceMetadata;
+import io.ballerina.openapi.core.model.Filter;
+import io.swagger.v3.oas.models.OpenAPI;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Tests the concurrent generation of the independent OpenAPI contracts in the same process, and the parallel
+ * generation of the client functions and the types of a contract.
+ */
+public class ConcurrentGenerationTests {
+    private static final Path RES_DIR = Paths.get("src/test/resources/generators").toAbsolutePath();
+    private static final String[] CONTRACTS = {
+            "schema/swagger/allOf.yaml",
+            "schema/swagger/array_with_oneOf.yaml",
+            "schema/swagger/nested_allOf_with_oneOf.yaml",
+            "schema/swagger/nullable_option_primitive_schema.yaml",
+            "schema/swagger/nullable_anyof_schema.yaml",
+            "client/swagger/request_body_allOf_scenarios.yaml",
+            "client/swagger/response_type_order.yaml",
+            "service/swagger/inline_record_type_request_response.yaml",
+            "service/swagger/petstore_service.yaml"
+    };
+    private static final int ROUNDS = 4;
+    private static final int THREADS = 8;
+
+    @Test(description = "Generate the contracts in parallel and compare the sources with the serial generation")
+    public void testConcurrentGeneration() throws Exception {
+        Map<String, String> expected = new LinkedHashMap<>();
+        for (String contract : CONTRACTS) {
+            for (boolean nullable : new boolean[]{false, true}) {
+                expected.put(contract + ":" + nullable, generate(contract, nullable));
+            }
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            List<String> keys = new ArrayList<>();
+            List<Future<String>> futures = new ArrayList<>();
+            for (int round = 0; round < ROUNDS; round++) {
+                for (String contract : CONTRACTS) {
+                    for (boolean nullable : new boolean[]{false, true}) {
+                        keys.add(contract + ":" + nullable);
+                        Callable<String> task = () -> generate(contract, nullable);
+                        futures.add(executor.submit(task));
+                    }
+                }
+            }
+            for (int i = 0; i < futures.size(); i++) {
+                Assert.assertEquals(futures.get(i).get(), expected.get(keys.get(i)),
+                        "Concurrent generation differs for " + keys.get(i));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test(description = "Generate the client functions in parallel and compare with the serial generation")
+    public void testParallelClientFunctions() throws IOException, BallerinaOpenApiException {
+        String[] contracts = {
+                "client/swagger/request_body_allOf_scenarios.yaml",
+                "client/swagger/response_type_order.yaml",
+                "client/file_provider/swagger/sendgrid.yaml"
+        };
+        for (String contract : contracts) {
+            BallerinaClientGenerator serialGenerator = createClientGenerator(contract, false);
+            BallerinaClientGenerator parallelGenerator = createClientGenerator(contract, true);
+            Assert.assertEquals(parallelGenerator.generateSyntaxTree().toSourceCode(),
+                    serialGenerator.generateSyntaxTree().toSourceCode(), "Parallel generation differs for " + contract);
+            Assert.assertEquals(parallelGenerator.getTypeDefinitionNodeList().toString(),
+                    serialGenerator.getTypeDefinitionNodeList().toString());
+            Assert.assertEquals(parallelGenerator.getRemoteFunctionNameList(),
+                    serialGenerator.getRemoteFunctionNameList());
+            Assert.assertEquals(parallelGenerator.getBallerinaUtilGenerator().generateUtilSyntaxTree().toSourceCode(),
+                    serialGenerator.getBallerinaUtilGenerator().generateUtilSyntaxTree().toSourceCode());
+        }
+    }
+
+    @Test(description = "Generate the types of the schemas in parallel and compare with the serial generation")
+    public void testParallelSchemaTypes() throws IOException, BallerinaOpenApiException {
+        List<String> contracts = new ArrayList<>(List.of(CONTRACTS));
+        contracts.add("client/file_provider/swagger/sendgrid.yaml");
+        for (String contract : contracts) {
+            for (boolean nullable : new boolean[]{false, true}) {
+                OpenAPI openAPI = GeneratorUtils.normalizeOpenAPI(RES_DIR.resolve(contract), false);
+                String serialSource = new BallerinaTypesGenerator(openAPI, nullable, new TypeDefinitionRegistry(),
+                        false).generateSyntaxTree().toSourceCode();
+                String parallelSource = new BallerinaTypesGenerator(openAPI, nullable, new TypeDefinitionRegistry(),
+                        true).generateSyntaxTree().toSourceCode();
+                Assert.assertEquals(parallelSource, serialSource, "Parallel generation differs for " + contract);
+            }
+        }
+    }
+
+    @Test(description = "The metadata of a generation run is not left bound to the thread which ran it")
+    public void testMetadataUnboundAfterGeneration() throws IOException, BallerinaOpenApiException {
+        GeneratorMetaData boundMetaData = GeneratorMetaData.getInstance();
+        generate(CONTRACTS[0], true);
+        Assert.assertSame(GeneratorMetaData.getInstance(), boundMetaData);
+    }
+
+    private static BallerinaClientGenerator createClientGenerator(String contract, boolean parallel)
+            throws IOException, BallerinaOpenApiException {
+        OpenAPI openAPI = GeneratorUtils.normalizeOpenAPI(RES_DIR.resolve(contract), false);
+        OASClientConfig oasClientConfig = new OASClientConfig.Builder()
+                .withFilters(new Filter())
+                .withNullable(false)
+                .withPlugin(false)
+                .withOpenAPI(openAPI)
+                .withResourceMode(true)
+                .withParallel(parallel)
+                .build();
+        return new BallerinaClientGenerator(oasClientConfig);
+    }
+
+    private static String generate(String contract, boolean nullable) throws IOException, BallerinaOpenApiException {
+        OpenAPI openAPI = GeneratorUtils.normalizeOpenAPI(RES_DIR.resolve(contract), false);
+        OASClientConfig oasClientConfig = new OASClientConfig.Builder()
+                .withFilters(new Filter())
+                .withNullable(nullable)
+                .withPlugin(false)
+                .withOpenAPI(openAPI)
+                .withResourceMode(true)
+                .build();
+        BallerinaClientGenerator clientGenerator = new BallerinaClientGenerator(oasClientConfig);
+        OASServiceMetadata oasServiceMetadata = new OASServiceMetadata.Builder()
+                .withOpenAPI(openAPI)
+                .withFilters(new Filter())
+                .withNullable(nullable)
+                .build();
+        BallerinaServiceGenerator serviceGenerator = new BallerinaServiceGenerator(oasServiceMetadata);
+        String clientSource = clientGenerator.generateSyntaxTree().toSourceCode();
+        String serviceSource = serviceGenerator.generateSyntaxTree().toSourceCode();
+        String typesSource = new BallerinaTypesGenerator(openAPI, nullable).generateSyntaxTree().toSourceCode();
+        return clientSource + serviceSource + typesSource;
+    }
+}
@@ -0,0 +1,107 @@
+/*
+ * Copyright (c) 2022, WSO2 LLC. (http://www.wso2.com). All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.openapi.generators.common;
+
+import io.ballerina.compiler.syntax.tree.SyntaxTree;
+import io.ballerina.openapi.core.GeneratedSourceFormatter;
+import io.ballerina.openapi.core.GeneratorUtils;
+import io.ballerina.openapi.core.exception.BallerinaOpenApiException;
+import io.ballerina.openapi.core.generators.client.BallerinaClientGenerator;
+import io.ballerina.openapi.core.generators.client.BallerinaTestGenerator;
+import io.ballerina.openapi.core.generators.client.model.OASClientConfig;
+import io.ballerina.openapi.core.generators.schema.BallerinaTypesGenerator;
+import io.ballerina.openapi.core.generators.service.BallerinaServiceGenerator;
+import io.ballerina.openapi.core.generators.service.model.OASServiceMetadata;
+import io.ballerina.openapi.core.model.Filter;
+import io.ballerina.tools.text.TextDocuments;
+import io.swagger.v3.oas.models.OpenAPI;
+import org.ballerinalang.formatter.core.Formatter;
+import org.ballerinalang.formatter.core.FormatterException;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Tests the rendering of the generated syntax trees, formatted and with the minimal layout of the "--no-format"
+ * option.
+ */
+public class GeneratedSourceFormatterTests {
+    private static final Path RES_DIR = Paths.get("src/test/resources/generators").toAbsolutePath();
+    private static final String[] CONTRACTS = {
+            "schema/swagger/allOf.yaml",
+            "schema/swagger/nullable_anyof_schema.yaml",
+            "client/swagger/request_body_allOf_scenarios.yaml",
+            "client/swagger/response_type_order.yaml",
+            "client/file_provider/swagger/jira_openapi.yaml",
+            "service/swagger/inline_record_type_request_response.yaml",
+            "service/swagger/petstore_service.yaml"
+    };
+
+    @Test(description = "Render the generated trees with the minimal layout and parse them back")
+    public void testMinimalLayout() throws IOException, BallerinaOpenApiException {
+        for (SyntaxTree syntaxTree : generate()) {
+            String source = GeneratedSourceFormatter.layout(syntaxTree);
+            SyntaxTree parsedSyntaxTree = SyntaxTree.from(TextDocuments.from(source));
+            Assert.assertFalse(parsedSyntaxTree.hasDiagnostics(), source);
+            Assert.assertEquals(parsedSyntaxTree.rootNode().toSourceCode().replaceAll("\\s", ""),
+                    syntaxTree.rootNode().toSourceCode().replaceAll("\\s", ""));
+        }
+    }
+
+    @Test(description = "Format the generated trees in parallel and compare the sources with the formatter")
+    public void testParallelFormatting() throws IOException, BallerinaOpenApiException, FormatterException {
+        List<SyntaxTree> syntaxTrees = generate();
+        List<String> sources = new GeneratedSourceFormatter(true, true).formatAll(syntaxTrees);
+        Assert.assertEquals(sources.size(), syntaxTrees.size());
+        for (int i = 0; i < syntaxTrees.size(); i++) {
+            Assert.assertEquals(sources.get(i), Formatter.format(syntaxTrees.get(i)).toString());
+        }
+    }
+
+    private static List<SyntaxTree> generate() throws IOException, BallerinaOpenApiException {
+        List<SyntaxTree> syntaxTrees = new ArrayList<>();
+        for (String contract : CONTRACTS) {
+            OpenAPI openAPI = GeneratorUtils.normalizeOpenAPI(RES_DIR.resolve(contract), false);
+            OASClientConfig oasClientConfig = new OASClientConfig.Builder()
+                    .withFilters(new Filter())
+                    .withNullable(false)
+                    .withPlugin(false)
+                    .withOpenAPI(openAPI)
+                    .withResourceMode(true)
+                    .build();
+            BallerinaClientGenerator clientGenerator = new BallerinaClientGenerator(oasClientConfig);
+            syntaxTrees.add(clientGenerator.generateSyntaxTree());
+            syntaxTrees.add(clientGenerator.getBallerinaUtilGenerator().generateUtilSyntaxTree());
+            syntaxTrees.add(new BallerinaTestGenerator(clientGenerator).generateSyntaxTree());
+            syntaxTrees.add(new BallerinaTypesGenerator(openAPI, false).generateSyntaxTree());
+            OASServiceMetadata oasServiceMetadata = new OASServiceMetadata.Builder()
+                    .withOpenAPI(openAPI)
+                    .withFilters(new Filter())
+                    .withNullable(false)
+                    .build();
+            syntaxTrees.add(new BallerinaServiceGenerator(oasServiceMetadata).generateSyntaxTree());
+        }
+        return syntaxTrees;
+    }
+}
@@ -18,10 +18,16 @@
 
 package io.ballerina.openapi.generators.common;
 
+import io.ballerina.compiler.syntax.tree.NodeParser;
 import io.ballerina.compiler.syntax.tree.SyntaxTree;
+import io.ballerina.compiler.syntax.tree.TypeDefinitionNode;
 import io.ballerina.openapi.core.GeneratorUtils;
+import io.ballerina.openapi.core.IdentifierNormalizer;
+import io.ballerina.openapi.core.TypeDefinitionRegistry;
 import io.ballerina.openapi.core.exception.BallerinaOpenApiException;
 import io.ballerina.openapi.core.generators.schema.BallerinaTypesGenerator;
+import io.ballerina.openapi.core.model.Filter;
+import io.ballerina.tools.text.TextDocuments;
 import io.swagger.v3.oas.models.OpenAPI;
 import org.testng.Assert;
 import org.testng.annotations.Test;
@@ -29,6 +35,8 @@ import org.testng.annotations.Test;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.List;
+import java.util.Set;
 
 import static io.ballerina.openapi.core.GeneratorUtils.extractReferenceType;
 import static io.ballerina.openapi.core.GeneratorUtils.getValidName;
@@ -90,4 +98,105 @@ public class GeneratorUtilsTests {
         Path expectedPath = RES_DIR.resolve("schema/ballerina/recordName.bal");
         compareGeneratedSyntaxTreeWithExpectedSyntaxTree(expectedPath, syntaxTree);
     }
+
+    @Test(description = "Remove the type definitions which are not reachable from the client")
+    public static void testRemoveUnusedEntities() {
+        SyntaxTree clientSyntaxTree = SyntaxTree.from(TextDocuments.from(
+                "public isolated client class Client {\n" +
+                "    remote isolated function getPets() returns Pet[]|error {\n" +
+                "        return error(\"unimplemented\");\n" +
+                "    }\n" +
+                "}\n"));
+        SyntaxTree schemaSyntaxTree = SyntaxTree.from(TextDocuments.from(
+                "public type Pet record {\n" +
+                "    Category category?;\n" +
+                "    PetStatus status?;\n" +
+                "};\n" +
+                "public type Category record {\n" +
+                "    string name?;\n" +
+                "};\n" +
+                "public enum PetStatus {\n" +
+                "    AVAILABLE, SOLD\n" +
+                "}\n" +
+                "public type Order record {\n" +
+                "    Customer customer?;\n" +
+                "    OrderStatus status?;\n" +
+                "};\n" +
+                "public type Customer record {\n" +
+                "    Order lastOrder?;\n" +
+                "};\n" +
+                "public enum OrderStatus {\n" +
+                "    PLACED, DELIVERED\n" +
+                "}\n"));
+        String schemaContent = GeneratorUtils.removeUnusedEntities(schemaSyntaxTree, clientSyntaxTree).toString();
+        Assert.assertTrue(schemaContent.contains("type Pet "));
+        Assert.assertTrue(schemaContent.contains("type Category "));
+        Assert.assertTrue(schemaContent.contains("enum PetStatus "));
+        Assert.assertFalse(schemaContent.contains("type Order "));
+        Assert.assertFalse(schemaContent.contains("type Customer "));
+        Assert.assertFalse(schemaContent.contains("enum OrderStatus "));
+    }
+
+    @Test(description = "Load only the operations and the components selected by the filter")
+    public static void testGetOpenAPIWithFilter() throws IOException, BallerinaOpenApiException {
+        Path path = RES_DIR.resolve("swagger/filter_tags.yaml");
+        Filter filter = new Filter(List.of("pets"), List.of("getOrder"));
+        OpenAPI openAPI = GeneratorUtils.getOpenAPIFromOpenAPIV3Parser(path, filter);
+        Assert.assertEquals(openAPI.getPaths().keySet(), Set.of("/pets", "/orders/{orderId}"));
+        Assert.assertNotNull(openAPI.getPaths().get("/pets").getGet());
+        Assert.assertNull(openAPI.getPaths().get("/pets").getPost());
+        Assert.assertEquals(openAPI.getComponents().getSchemas().keySet(), Set.of("Pet", "Category", "Order"));
+        Assert.assertEquals(openAPI.getComponents().getParameters().keySet(), Set.of("limit"));
+
+        filter = new Filter(List.of("admin"), List.of());
+        openAPI = GeneratorUtils.getOpenAPIFromOpenAPIV3Parser(path, filter);
+        Assert.assertEquals(openAPI.getPaths().keySet(), Set.of("/pets"));
+        Assert.assertEquals(openAPI.getComponents().getSchemas().keySet(), Set.of("NewPet"));
+        Assert.assertTrue(openAPI.getComponents().getParameters() == null ||
+                openAPI.getComponents().getParameters().isEmpty());
+
+        // A parsed definition is pruned by the same pruner
+        OpenAPI prunedOpenAPI = GeneratorUtils.filterOpenAPI(GeneratorUtils.getOpenAPIFromOpenAPIV3Parser(path),
+                filter);
+        Assert.assertEquals(prunedOpenAPI.getPaths().keySet(), openAPI.getPaths().keySet());
+        Assert.assertEquals(prunedOpenAPI.getComponents().getSchemas().keySet(),
+                openAPI.getComponents().getSchemas().keySet());
+    }
+
+    @Test(description = "Normalize the names with the memoized normalizer of a run")
+    public static void testIdentifierNormalizer() {
+        IdentifierNormalizer normalizer = new IdentifierNormalizer(2);
+        String[] names = {"petId", "pet-id", "pet id", "_links", "-leading", "trailing-", "a.b$c", "type", "1st",
+                "123", "user_name", "ünïcode"};
+        String[] expected = {"petId", "petId", "petId", "_links", "leading", "trailing", "aBC", "'type", "'1st",
+                "'123", "user_name", "'ünïcode"};
+        for (int i = 0; i < names.length; i++) {
+            // The names beyond the limit of the cache are normalized without being cached
+            Assert.assertEquals(normalizer.getValidName(names[i], false), expected[i]);
+            Assert.assertEquals(normalizer.getValidName(names[i], false), expected[i]);
+            Assert.assertEquals(getValidName(names[i], false), expected[i]);
+        }
+        Assert.assertEquals(normalizer.getValidName("pet-id", true), "PetId");
+        Assert.assertEquals(GeneratorUtils.escapeIdentifier("x-rate-limit"), "'x\\-rate\\-limit");
+        Assert.assertFalse(GeneratorUtils.isValidSchemaName("404"));
+        Assert.assertTrue(GeneratorUtils.isValidSchemaName("Error404"));
+    }
+
+    @Test(description = "Register the type definitions once by the type name in the insertion order")
+    public static void testTypeDefinitionRegistry() {
+        TypeDefinitionRegistry registry = new TypeDefinitionRegistry();
+        String[] typeNames = {"Pet", "Order", "Pet", "Category", "Order"};
+        for (String typeName : typeNames) {
+            TypeDefinitionNode typeDefinitionNode = (TypeDefinitionNode) NodeParser.parseModuleMemberDeclaration(
+                    "public type " + typeName + " record {};");
+            GeneratorUtils.updateTypeDefNodeList(typeName, typeDefinitionNode, registry);
+        }
+        Assert.assertEquals(registry.size(), 3);
+        Assert.assertEquals(registry.get(0).typeName().text(), "Pet");
+        Assert.assertEquals(registry.get(1).typeName().text(), "Order");
+        Assert.assertEquals(registry.get(2).typeName().text(), "Category");
+        Assert.assertTrue(registry.containsType("Category"));
+        registry.remove(2);
+        Assert.assertFalse(registry.containsType("Category"));
+    }
 }
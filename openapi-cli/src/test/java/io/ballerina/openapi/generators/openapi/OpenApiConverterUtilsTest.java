@@ -19,6 +19,9 @@
 package io.ballerina.openapi.generators.openapi;
 
 import io.ballerina.openapi.cmd.OASContractGenerator;
+import io.ballerina.openapi.converter.model.OASResult;
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.info.Info;
 import org.testng.Assert;
 import org.testng.annotations.AfterMethod;
 import org.testng.annotations.AfterTest;
@@ -29,6 +32,12 @@ import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.attribute.PosixFileAttributeView;
+import java.nio.file.attribute.PosixFilePermission;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.util.ArrayList;
+import java.util.Set;
+import java.util.stream.Stream;
 
 import static io.ballerina.openapi.converter.utils.ConverterCommonUtils.unescapeIdentifier;
 import static io.ballerina.openapi.generators.common.TestUtils.getStringFromGivenBalFile;
@@ -232,6 +241,67 @@ public class OpenApiConverterUtilsTest {
         Assert.assertEquals(unescapeIdentifier("ชื่\\u{E2D}"), "ชื่อ");
     }
 
+    @Test(description = "Serialize the OpenAPI definition once and stream it to a file")
+    public void testOASResultSerialization() throws IOException {
+        OpenAPI openAPI = new OpenAPI().info(new Info().title("Hello").version("1.0.0"));
+        OASResult oasResult = new OASResult(openAPI, new ArrayList<>());
+        Path yamlPath = this.tempDir.resolve("hello_openapi.yaml");
+        Path jsonPath = this.tempDir.resolve("hello_openapi.json");
+        oasResult.writeYaml(yamlPath);
+        oasResult.writeJson(jsonPath);
+        Assert.assertSame(oasResult.getYaml().get(), oasResult.getYaml().get());
+        Assert.assertEquals(Files.readString(yamlPath), oasResult.getYaml().get());
+        Assert.assertEquals(Files.readString(jsonPath), oasResult.getJson().get());
+
+        oasResult.setOpenAPI(new OpenAPI().info(new Info().title("Hello02").version("1.0.0")));
+        Assert.assertTrue(oasResult.getYaml().get().contains("Hello02"));
+    }
+
+    @Test(description = "A failed serialization does not truncate the previously written file")
+    public void testOASResultFailedSerialization() throws IOException {
+        OASResult oasResult = new OASResult(new OpenAPI().info(new Info().title("Hello").version("1.0.0")),
+                new ArrayList<>());
+        Path yamlPath = this.tempDir.resolve("hello_openapi.yaml");
+        oasResult.writeYaml(yamlPath);
+        String yaml = Files.readString(yamlPath);
+
+        OpenAPI openAPI = new OpenAPI().info(new Info().title("Hello02").version("1.0.0"));
+        openAPI.addExtension("x-failing", new FailingValue());
+        oasResult.setOpenAPI(openAPI);
+        Assert.assertThrows(IOException.class, () -> oasResult.writeYaml(yamlPath));
+        Assert.assertEquals(Files.readString(yamlPath), yaml);
+        try (Stream<Path> files = Files.list(this.tempDir)) {
+            Assert.assertEquals(files.count(), 1);
+        }
+    }
+
+    @Test(description = "The written file gets the permissions of a new file or of the replaced file")
+    public void testOASResultFilePermissions() throws IOException {
+        if (Files.getFileAttributeView(this.tempDir, PosixFileAttributeView.class) == null) {
+            return;
+        }
+        OASResult oasResult = new OASResult(new OpenAPI().info(new Info().title("Hello").version("1.0.0")),
+                new ArrayList<>());
+        Path yamlPath = this.tempDir.resolve("hello_openapi.yaml");
+        Path newFile = Files.createFile(this.tempDir.resolve("new_file.yaml"));
+        oasResult.writeYaml(yamlPath);
+        Assert.assertEquals(Files.getPosixFilePermissions(yamlPath), Files.getPosixFilePermissions(newFile));
+
+        Set<PosixFilePermission> permissions = PosixFilePermissions.fromString("rw-r-----");
+        Files.setPosixFilePermissions(yamlPath, permissions);
+        oasResult.writeYaml(yamlPath);
+        Assert.assertEquals(Files.getPosixFilePermissions(yamlPath), permissions);
+    }
+
+    /**
+     * Extension value which can not be serialized.
+     */
+    public static class FailingValue {
+        public String getValue() {
+            throw new IllegalStateException("Value is not available");
+        }
+    }
+
     @AfterMethod
     public void cleanUp() {
         deleteDirectory(this.tempDir);
@@ -95,6 +95,12 @@ public class RecordTests {
         TestUtils.compareWithGeneratedFile(ballerinaFilePath, "record/cyclic_record.yaml");
     }
 
+    @Test(description = "When the records refer to each other, each record is mapped once to a component schema")
+    public void testMutuallyRecursiveRecords() throws IOException {
+        Path ballerinaFilePath = RES_DIR.resolve("record/mutual_recursive_record.bal");
+        TestUtils.compareWithGeneratedFile(ballerinaFilePath, "record/mutual_recursive_record.yaml");
+    }
+
     @Test(description = "When the record is readOnly type")
     public void testReadOnlyRecord() throws IOException {
         Path ballerinaFilePath = RES_DIR.resolve("record/with_readonly_keyword.bal");
@@ -0,0 +1,29 @@
+import ballerina/http;
+
+type Department record {|
+    int id;
+    Employee manager?;
+    Employee[] employees?;
+|};
+
+type Employee record {|
+    int id;
+    Department department?;
+|};
+
+listener http:Listener ep0 = new (443, config = {host: "petstore.swagger.io"});
+
+service /payloadV on ep0 {
+    resource function get departments() returns Department[] {
+        return [];
+    }
+    resource function post departments(@http:Payload Department department) returns Department {
+        return department;
+    }
+    resource function get employees() returns Employee[] {
+        return [];
+    }
+    resource function post employees(@http:Payload Employee employee) returns Employee {
+        return employee;
+    }
+}
@@ -35,7 +35,9 @@ import io.ballerina.compiler.syntax.tree.SyntaxKind;
 import io.ballerina.compiler.syntax.tree.SyntaxTree;
 import io.ballerina.compiler.syntax.tree.Token;
 import io.ballerina.compiler.syntax.tree.TypeDefinitionNode;
+import io.ballerina.openapi.core.GeneratedSourceFormatter;
 import io.ballerina.openapi.core.GeneratorUtils;
+import io.ballerina.openapi.core.TypeDefinitionRegistry;
 import io.ballerina.openapi.core.exception.BallerinaOpenApiException;
 import io.ballerina.openapi.core.generators.client.BallerinaClientGenerator;
 import io.ballerina.openapi.core.generators.client.model.OASClientConfig;
@@ -56,7 +58,6 @@ import io.ballerina.tools.diagnostics.DiagnosticFactory;
 import io.ballerina.tools.diagnostics.DiagnosticInfo;
 import io.ballerina.tools.diagnostics.Location;
 import io.swagger.v3.oas.models.OpenAPI;
-import org.ballerinalang.formatter.core.Formatter;
 import org.ballerinalang.formatter.core.FormatterException;
 
 import java.io.File;
@@ -66,7 +67,6 @@ import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.Iterator;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Optional;
 import java.util.regex.Matcher;
@@ -212,34 +212,36 @@ public class OpenAPIClientGenerator extends IDLClientGenerator {
         // generate ballerina client files.
         String licenseContent = oasClientConfig.getLicense();
         BallerinaClientGenerator ballerinaClientGenerator = new BallerinaClientGenerator(oasClientConfig);
-        String mainContent = Formatter.format(ballerinaClientGenerator.generateSyntaxTree()).toString();
-        sourceFiles.add(new GenSrcFile(GenSrcFile.GenFileType.GEN_SRC, null, CLIENT_FILE_NAME,
-                licenseContent == null || licenseContent.isBlank() ? mainContent :
-                        licenseContent + System.lineSeparator() + mainContent));
-        String utilContent = Formatter.format(
-                ballerinaClientGenerator.getBallerinaUtilGenerator().generateUtilSyntaxTree()).toString();
-
-        if (!utilContent.isBlank()) {
-            sourceFiles.add(new GenSrcFile(GenSrcFile.GenFileType.UTIL_SRC, null, UTIL_FILE_NAME,
-                    licenseContent == null || licenseContent.isBlank() ? utilContent :
-                            licenseContent + System.lineSeparator() + utilContent));
-        }
+        SyntaxTree clientSyntaxTree = ballerinaClientGenerator.generateSyntaxTree();
+        SyntaxTree utilSyntaxTree = ballerinaClientGenerator.getBallerinaUtilGenerator().generateUtilSyntaxTree();
 
         // generate ballerina records to represent schemas.
-        List<TypeDefinitionNode> typeDefinitionNodeList = new LinkedList<>();
+        List<TypeDefinitionNode> typeDefinitionNodeList = new TypeDefinitionRegistry();
         typeDefinitionNodeList.addAll(ballerinaClientGenerator.getTypeDefinitionNodeList());
         typeDefinitionNodeList.addAll(ballerinaClientGenerator
                 .getBallerinaAuthConfigGenerator().getAuthRelatedTypeDefinitionNodes());
         BallerinaTypesGenerator ballerinaSchemaGenerator = new BallerinaTypesGenerator(oasClientConfig.getOpenAPI(),
                 oasClientConfig.isNullable(), typeDefinitionNodeList);
         SyntaxTree schemaSyntaxTree = ballerinaSchemaGenerator.generateSyntaxTree();
-        String schemaContent = Formatter.format(schemaSyntaxTree).toString();
-
         if (oasClientConfig.getFilters().getTags().size() > 0) {
             // remove unused records and enums when generating the client by the tags given.
-            schemaContent = GeneratorUtils.removeUnusedEntities(schemaSyntaxTree, mainContent, schemaContent,
-                    null);
+            schemaSyntaxTree = GeneratorUtils.removeUnusedEntities(schemaSyntaxTree, clientSyntaxTree);
+        }
+
+        // format each of the generated trees once.
+        List<String> contents = new GeneratedSourceFormatter(true, false)
+                .formatAll(List.of(clientSyntaxTree, utilSyntaxTree, schemaSyntaxTree));
+        String mainContent = contents.get(0);
+        sourceFiles.add(new GenSrcFile(GenSrcFile.GenFileType.GEN_SRC, null, CLIENT_FILE_NAME,
+                licenseContent == null || licenseContent.isBlank() ? mainContent :
+                        licenseContent + System.lineSeparator() + mainContent));
+        String utilContent = contents.get(1);
+        if (!utilContent.isBlank()) {
+            sourceFiles.add(new GenSrcFile(GenSrcFile.GenFileType.UTIL_SRC, null, UTIL_FILE_NAME,
+                    licenseContent == null || licenseContent.isBlank() ? utilContent :
+                            licenseContent + System.lineSeparator() + utilContent));
         }
+        String schemaContent = contents.get(2);
         if (!schemaContent.isBlank()) {
             sourceFiles.add(new GenSrcFile(GenSrcFile.GenFileType.MODEL_SRC, null, TYPE_FILE_NAME,
                     licenseContent == null || licenseContent.isBlank() ? schemaContent :
@@ -332,9 +334,10 @@ public class OpenAPIClientGenerator extends IDLClientGenerator {
                 }
             }
         }
-        // normalize OpenAPI definition.
+        // normalize OpenAPI definition. When tags are given, only the tagged operations and the components reachable
+        // from them are loaded, since the unused types are pruned from the generated sources only then.
         clientMetaDataBuilder.withFilters(filter);
-        OpenAPI openAPIDef = normalizeOpenAPI(openAPI, !isResources);
+        OpenAPI openAPIDef = normalizeOpenAPI(openAPI, !isResources, filter.getTags().isEmpty() ? null : filter);
         clientMetaDataBuilder.withOpenAPI(openAPIDef);
 
         return clientMetaDataBuilder.build();
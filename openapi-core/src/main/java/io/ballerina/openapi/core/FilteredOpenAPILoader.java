@@ -0,0 +1,180 @@
+/*
+ * Copyright (c) 2022, WSO2 LLC. (http://www.wso2.com). All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.openapi.core;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.ballerina.openapi.core.model.Filter;
+import io.swagger.v3.core.util.Json;
+import io.swagger.v3.core.util.Yaml;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+import static io.ballerina.openapi.core.GeneratorConstants.JSON_EXTENSION;
+
+/**
+ * This loader streams an OpenAPI definition and materializes only the operations selected by a {@link Filter} and
+ * the components reachable from them. The definition is read twice with a streaming parser. The first pass keeps the
+ * matching path items and indexes the component references, and the second pass reads only the reachable
+ * components. Therefore, the memory footprint is bounded by the selected part of the definition instead of the whole
+ * definition. The operations are selected and the reachable components are found by {@link OpenAPIComponentPruner}.
+ *
+ * @since 1.4.0
+ */
+class FilteredOpenAPILoader {
+    private static final String PATHS = "paths";
+    private static final String COMPONENTS = "components";
+
+    private final Path definitionPath;
+    private final OpenAPIComponentPruner pruner;
+    private final ObjectMapper mapper;
+    private final Map<String, Set<String>> componentReferences = new HashMap<>();
+
+    FilteredOpenAPILoader(Path definitionPath, Filter filter) {
+        this.definitionPath = definitionPath;
+        this.pruner = new OpenAPIComponentPruner(filter);
+        this.mapper = definitionPath.toString().endsWith(JSON_EXTENSION) ? Json.mapper() : Yaml.mapper();
+    }
+
+    /**
+     * Loads the filtered definition.
+     *
+     * @return filtered OpenAPI definition serialized in the format of the given definition
+     * @throws IOException when the definition can not be read or is not a valid JSON/YAML object
+     */
+    String load() throws IOException {
+        ObjectNode definition = mapper.createObjectNode();
+        Map<String, ObjectNode> prunedComponents = new HashMap<>();
+        try (JsonParser parser = mapper.getFactory().createParser(definitionPath.toFile())) {
+            expect(parser.nextToken(), JsonToken.START_OBJECT);
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String fieldName = parser.getCurrentName();
+                JsonToken valueToken = parser.nextToken();
+                if (PATHS.equals(fieldName) && valueToken == JsonToken.START_OBJECT) {
+                    definition.set(PATHS, readPaths(parser));
+                } else if (COMPONENTS.equals(fieldName) && valueToken == JsonToken.START_OBJECT) {
+                    definition.set(COMPONENTS, indexComponents(parser, prunedComponents));
+                } else {
+                    JsonNode value = mapper.readTree(parser);
+                    pruner.addRoot(value);
+                    definition.set(fieldName, value);
+                }
+            }
+        }
+        if (!prunedComponents.isEmpty()) {
+            readReachableComponents(prunedComponents, pruner.getReachableComponents(component ->
+                    componentReferences.getOrDefault(component, Collections.emptySet())));
+        }
+        return mapper.writeValueAsString(definition);
+    }
+
+    /**
+     * Reads the path items one by one and keeps only the operations selected by the filter.
+     */
+    private ObjectNode readPaths(JsonParser parser) throws IOException {
+        ObjectNode paths = mapper.createObjectNode();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String path = parser.getCurrentName();
+            parser.nextToken();
+            JsonNode pathItem = mapper.readTree(parser);
+            if (pathItem instanceof ObjectNode && pruner.filterOperations((ObjectNode) pathItem)) {
+                pruner.addRoot(pathItem);
+                paths.set(path, pathItem);
+            }
+        }
+        return paths;
+    }
+
+    /**
+     * Indexes the references of the prunable components without keeping them. The other components are kept as is.
+     */
+    private ObjectNode indexComponents(JsonParser parser, Map<String, ObjectNode> prunedComponents)
+            throws IOException {
+        ObjectNode components = mapper.createObjectNode();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String componentType = parser.getCurrentName();
+            JsonToken valueToken = parser.nextToken();
+            if (!OpenAPIComponentPruner.isPrunable(componentType) || valueToken != JsonToken.START_OBJECT) {
+                JsonNode value = mapper.readTree(parser);
+                pruner.addRoot(value);
+                components.set(componentType, value);
+                continue;
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String name = parser.getCurrentName();
+                parser.nextToken();
+                componentReferences.put(componentType + "/" + name,
+                        OpenAPIComponentPruner.getReferences(mapper.readTree(parser)));
+            }
+            // Placeholder to keep the order of the components, filled by the second pass
+            prunedComponents.put(componentType, components.putObject(componentType));
+        }
+        return components;
+    }
+
+    /**
+     * Streams the definition again and materializes only the reachable components.
+     */
+    private void readReachableComponents(Map<String, ObjectNode> prunedComponents, Set<String> reachable)
+            throws IOException {
+        try (JsonParser parser = mapper.getFactory().createParser(definitionPath.toFile())) {
+            expect(parser.nextToken(), JsonToken.START_OBJECT);
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String fieldName = parser.getCurrentName();
+                JsonToken valueToken = parser.nextToken();
+                if (!COMPONENTS.equals(fieldName) || valueToken != JsonToken.START_OBJECT) {
+                    parser.skipChildren();
+                    continue;
+                }
+                while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                    ObjectNode component = prunedComponents.get(parser.getCurrentName());
+                    String componentType = parser.getCurrentName();
+                    parser.nextToken();
+                    if (component == null) {
+                        parser.skipChildren();
+                        continue;
+                    }
+                    while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                        String name = parser.getCurrentName();
+                        parser.nextToken();
+                        if (reachable.contains(componentType + "/" + name)) {
+                            component.set(name, mapper.readTree(parser));
+                        } else {
+                            parser.skipChildren();
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    private static void expect(JsonToken actual, JsonToken expected) throws IOException {
+        if (actual != expected) {
+            throw new IOException("Invalid OpenAPI definition: expected " + expected + " but found " + actual);
+        }
+    }
+}
@@ -0,0 +1,216 @@
+/*
+ * Copyright (c) 2022, WSO2 LLC. (http://www.wso2.com). All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.openapi.core;
+
+import io.ballerina.compiler.syntax.tree.Node;
+import io.ballerina.compiler.syntax.tree.NonTerminalNode;
+import io.ballerina.compiler.syntax.tree.SyntaxKind;
+import io.ballerina.compiler.syntax.tree.SyntaxTree;
+import io.ballerina.compiler.syntax.tree.Token;
+import org.ballerinalang.formatter.core.Formatter;
+import org.ballerinalang.formatter.core.FormatterException;
+import org.ballerinalang.formatter.core.FormattingOptions;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+/**
+ * Renders the final syntax trees of a generation run to the source code of the generated files.
+ * <p>
+ * Each tree is formatted exactly once, with the formatting options shared by all the files of the run, and the
+ * files are formatted in parallel when the generator is run in parallel. When the formatting is disabled, the trees
+ * are rendered with the minimal layout which keeps the source valid: a space between the tokens which would
+ * otherwise merge, such as two words or two operators, a line break after the statements and braces and around the
+ * documentation lines. The layout is a single pass over the tokens, hence much cheaper than the formatter, and is
+ * meant for the output which is only consumed by the tools.
+ * </p>
+ *
+ * @since 1.4.0
+ */
+public final class GeneratedSourceFormatter {
+
+    private static final String LINE_SEPARATOR = "\n";
+    // Characters of the operators and the braces which can merge with a neighbour into another token, as in "<-",
+    // "|}" or "//"
+    private static final String OPERATOR_CHARS = "<>-|=!+*/%&^~?.:{}";
+
+    private final boolean format;
+    private final boolean parallel;
+    private final FormattingOptions formattingOptions;
+
+    public GeneratedSourceFormatter(boolean format, boolean parallel) {
+        this.format = format;
+        this.parallel = parallel;
+        this.formattingOptions = FormattingOptions.builder().build();
+    }
+
+    /**
+     * Renders the source code of the given tree.
+     */
+    public String format(SyntaxTree syntaxTree) throws FormatterException {
+        if (!format) {
+            return layout(syntaxTree);
+        }
+        return Formatter.format(syntaxTree, formattingOptions).toString();
+    }
+
+    /**
+     * Renders the source code of the given trees, in the order of the trees.
+     */
+    public List<String> formatAll(List<SyntaxTree> syntaxTrees) throws FormatterException {
+        List<String> sources = new ArrayList<>(syntaxTrees.size());
+        if (!parallel || syntaxTrees.size() < 2) {
+            for (SyntaxTree syntaxTree : syntaxTrees) {
+                sources.add(format(syntaxTree));
+            }
+            return sources;
+        }
+        List<ForkJoinTask<String>> tasks = new ArrayList<>(syntaxTrees.size());
+        for (SyntaxTree syntaxTree : syntaxTrees) {
+            Callable<String> task = () -> format(syntaxTree);
+            tasks.add(ForkJoinPool.commonPool().submit(task));
+        }
+        try {
+            for (ForkJoinTask<String> task : tasks) {
+                sources.add(joinSource(task));
+            }
+        } finally {
+            for (ForkJoinTask<String> task : tasks) {
+                task.cancel(false);
+            }
+        }
+        return sources;
+    }
+
+    private static String joinSource(ForkJoinTask<String> task) throws FormatterException {
+        try {
+            return task.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new FormatterException("Formatting of the generated sources is interrupted");
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof FormatterException) {
+                throw (FormatterException) cause;
+            } else if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            } else if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new FormatterException(cause.getMessage());
+        }
+    }
+
+    /**
+     * Renders the given tree with the minimal layout. The minutiae of the tokens are kept as they are.
+     */
+    public static String layout(SyntaxTree syntaxTree) {
+        StringBuilder source = new StringBuilder();
+        layout(syntaxTree.rootNode(), false, source);
+        return source.toString();
+    }
+
+    private static void layout(Node node, boolean documentation, StringBuilder source) {
+        if (node instanceof Token) {
+            layoutToken((Token) node, documentation, source);
+            return;
+        }
+        if (node.kind() == SyntaxKind.MARKDOWN_DOCUMENTATION) {
+            // Each documentation line has to be on a line of its own.
+            appendLineBreak(source);
+            for (Node documentationLine : ((NonTerminalNode) node).children()) {
+                layout(documentationLine, true, source);
+                appendLineBreak(source);
+            }
+            return;
+        }
+        for (Node child : ((NonTerminalNode) node).children()) {
+            layout(child, documentation, source);
+        }
+    }
+
+    private static void layoutToken(Token token, boolean documentation, StringBuilder source) {
+        String text = token.toSourceCode();
+        if (text.isEmpty()) {
+            return;
+        }
+        SyntaxKind parentKind = token.parent() == null ? null : token.parent().kind();
+        boolean conditional = parentKind == SyntaxKind.CONDITIONAL_EXPRESSION;
+        if (token.leadingMinutiae().isEmpty() && source.length() > 0 &&
+                (conditional || isMerging(source.charAt(source.length() - 1), token, text))) {
+            source.append(' ');
+        }
+        source.append(text);
+        if (!token.trailingMinutiae().isEmpty()) {
+            return;
+        }
+        switch (token.kind()) {
+            case SEMICOLON_TOKEN:
+            case OPEN_BRACE_TOKEN:
+                source.append(LINE_SEPARATOR);
+                break;
+            case CLOSE_BRACE_TOKEN:
+                // The close brace of an interpolation is followed by the content of the template.
+                if (parentKind != SyntaxKind.INTERPOLATION) {
+                    source.append(LINE_SEPARATOR);
+                }
+                break;
+            case COLON_TOKEN:
+                if (parentKind != SyntaxKind.QUALIFIED_NAME_REFERENCE) {
+                    source.append(' ');
+                }
+                break;
+            default:
+                if (documentation || conditional) {
+                    source.append(' ');
+                }
+                break;
+        }
+    }
+
+    private static void appendLineBreak(StringBuilder source) {
+        if (source.length() > 0 && source.charAt(source.length() - 1) != '\n') {
+            source.append(LINE_SEPARATOR);
+        }
+    }
+
+    /**
+     * Returns whether the given token would merge with the previous character of the source. The content of a
+     * template is never separated, since a space there changes the value of the template.
+     */
+    private static boolean isMerging(char previous, Token token, String text) {
+        char first = text.charAt(0);
+        if (isWordChar(previous) && isWordChar(first)) {
+            return true;
+        }
+        return token.kind() != SyntaxKind.TEMPLATE_STRING && isOperatorChar(previous) && isOperatorChar(first);
+    }
+
+    private static boolean isOperatorChar(char c) {
+        return OPERATOR_CHARS.indexOf(c) >= 0;
+    }
+
+    private static boolean isWordChar(char c) {
+        return Character.isLetterOrDigit(c) || c == '_' || c == '\'' || c == '\\';
+    }
+}
@@ -0,0 +1,175 @@
+/*
+ * Copyright (c) 2022, WSO2 LLC. (http://www.wso2.com). All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.openapi.core;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static io.ballerina.openapi.core.GeneratorConstants.LINE_SEPARATOR;
+
+/**
+ * This records the wall time, the allocated bytes and the number of invocations of each phase of a code generation
+ * run together with the counters such as the number of operations, schemas and emitted nodes. The phases are reported
+ * in the order they first run. The allocated bytes are measured for the thread which runs the phase, when the JVM
+ * supports it, hence the allocation of the work which the phase hands to the fork-join workers, such as the parallel
+ * generation of the client functions and the types, is not included. The summary says so.
+ * <pre>
+ *     GenerationProfiler.Phase phase = profiler.start("client-generation");
+ *     SyntaxTree clientSyntaxTree = clientGenerator.generateSyntaxTree();
+ *     phase.end();
+ * </pre>
+ *
+ * @since 1.4.0
+ */
+public class GenerationProfiler {
+    private static final com.sun.management.ThreadMXBean THREAD_MX_BEAN = getThreadMXBean();
+
+    private final Map<String, PhaseMetrics> phases = new LinkedHashMap<>();
+    private final Map<String, Long> counters = new LinkedHashMap<>();
+    private final long startTime = System.nanoTime();
+
+    private static com.sun.management.ThreadMXBean getThreadMXBean() {
+        java.lang.management.ThreadMXBean threadMXBean = ManagementFactory.getThreadMXBean();
+        if (threadMXBean instanceof com.sun.management.ThreadMXBean) {
+            com.sun.management.ThreadMXBean sunThreadMXBean = (com.sun.management.ThreadMXBean) threadMXBean;
+            if (sunThreadMXBean.isThreadAllocatedMemorySupported() &&
+                    sunThreadMXBean.isThreadAllocatedMemoryEnabled()) {
+                return sunThreadMXBean;
+            }
+        }
+        return null;
+    }
+
+    private static long getAllocatedBytes() {
+        return THREAD_MX_BEAN == null ? 0 : THREAD_MX_BEAN.getThreadAllocatedBytes(Thread.currentThread().getId());
+    }
+
+    /**
+     * Starts a phase. The phase is recorded when it is ended, so that the failed phases are not reported.
+     *
+     * @param name name of the phase, the invocations of a phase with the same name are accumulated
+     * @return started phase
+     */
+    public Phase start(String name) {
+        return new Phase(name);
+    }
+
+    /**
+     * Adds the given value to the counter of the given name.
+     */
+    public synchronized void count(String name, long value) {
+        counters.merge(name, value, Long::sum);
+    }
+
+    private synchronized void record(String name, long time, long allocatedBytes) {
+        PhaseMetrics metrics = phases.computeIfAbsent(name, key -> new PhaseMetrics());
+        metrics.invocations++;
+        metrics.time += time;
+        metrics.allocatedBytes += allocatedBytes;
+    }
+
+    /**
+     * Returns the human readable summary of the phases and the counters.
+     */
+    public synchronized String getSummary() {
+        StringBuilder summary = new StringBuilder("Code generation profile:").append(LINE_SEPARATOR);
+        summary.append(String.format("  %-24s %10s %14s %6s", "phase", "time (ms)", "allocated (KB)", "count"))
+                .append(LINE_SEPARATOR);
+        for (Map.Entry<String, PhaseMetrics> phase : phases.entrySet()) {
+            PhaseMetrics metrics = phase.getValue();
+            summary.append(String.format("  %-24s %10d %14d %6d", phase.getKey(),
+                    TimeUnit.NANOSECONDS.toMillis(metrics.time), metrics.allocatedBytes / 1024,
+                    metrics.invocations)).append(LINE_SEPARATOR);
+        }
+        summary.append(String.format("  %-24s %10d", "total", TimeUnit.NANOSECONDS.toMillis(
+                System.nanoTime() - startTime))).append(LINE_SEPARATOR);
+        summary.append("  (allocated memory of the calling thread only, the work of the parallel workers is not " +
+                "included)").append(LINE_SEPARATOR);
+        for (Map.Entry<String, Long> counter : counters.entrySet()) {
+            summary.append(String.format("  %-24s %10d", counter.getKey(), counter.getValue()))
+                    .append(LINE_SEPARATOR);
+        }
+        return summary.toString();
+    }
+
+    /**
+     * Writes the phases and the counters as a JSON trace, which can be compared across the releases.
+     *
+     * @param tracePath path of the trace file
+     * @throws IOException when the trace can not be written
+     */
+    public synchronized void writeTrace(Path tracePath) throws IOException {
+        ObjectMapper mapper = new ObjectMapper();
+        ObjectNode trace = mapper.createObjectNode();
+        trace.put("totalTimeNanos", System.nanoTime() - startTime);
+        ArrayNode phasesNode = trace.putArray("phases");
+        for (Map.Entry<String, PhaseMetrics> phase : phases.entrySet()) {
+            phasesNode.addObject()
+                    .put("name", phase.getKey())
+                    .put("timeNanos", phase.getValue().time)
+                    .put("allocatedBytes", phase.getValue().allocatedBytes)
+                    .put("invocations", phase.getValue().invocations);
+        }
+        ObjectNode countersNode = trace.putObject("counters");
+        counters.forEach(countersNode::put);
+        Path parent = tracePath.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        Files.writeString(tracePath, mapper.writerWithDefaultPrettyPrinter().writeValueAsString(trace));
+    }
+
+    /**
+     * Running phase of the code generation.
+     */
+    public class Phase {
+        private final String name;
+        private final long phaseStartTime;
+        private final long startAllocatedBytes;
+
+        private Phase(String name) {
+            this.name = name;
+            this.startAllocatedBytes = getAllocatedBytes();
+            this.phaseStartTime = System.nanoTime();
+        }
+
+        /**
+         * Ends the phase and records its metrics.
+         */
+        public void end() {
+            long time = System.nanoTime() - phaseStartTime;
+            record(name, time, getAllocatedBytes() - startAllocatedBytes);
+        }
+    }
+
+    private static class PhaseMetrics {
+        private long invocations;
+        private long time;
+        private long allocatedBytes;
+    }
+}
@@ -18,13 +18,11 @@
 
 package io.ballerina.openapi.core;
 
-import io.ballerina.compiler.api.SemanticModel;
-import io.ballerina.compiler.api.symbols.Symbol;
-import io.ballerina.compiler.api.symbols.SymbolKind;
 import io.ballerina.compiler.syntax.tree.AbstractNodeFactory;
 import io.ballerina.compiler.syntax.tree.BuiltinSimpleNameReferenceNode;
 import io.ballerina.compiler.syntax.tree.CaptureBindingPatternNode;
-import io.ballerina.compiler.syntax.tree.ChildNodeEntry;
+import io.ballerina.compiler.syntax.tree.EnumDeclarationNode;
+import io.ballerina.compiler.syntax.tree.EnumMemberNode;
 import io.ballerina.compiler.syntax.tree.ExpressionNode;
 import io.ballerina.compiler.syntax.tree.ExpressionStatementNode;
 import io.ballerina.compiler.syntax.tree.IdentifierToken;
@@ -38,6 +36,7 @@ import io.ballerina.compiler.syntax.tree.Node;
 import io.ballerina.compiler.syntax.tree.NodeFactory;
 import io.ballerina.compiler.syntax.tree.NodeList;
 import io.ballerina.compiler.syntax.tree.NodeParser;
+import io.ballerina.compiler.syntax.tree.NodeVisitor;
 import io.ballerina.compiler.syntax.tree.QualifiedNameReferenceNode;
 import io.ballerina.compiler.syntax.tree.ResourcePathParameterNode;
 import io.ballerina.compiler.syntax.tree.SeparatedNodeList;
@@ -52,16 +51,10 @@ import io.ballerina.compiler.syntax.tree.TypeDefinitionNode;
 import io.ballerina.compiler.syntax.tree.TypedBindingPatternNode;
 import io.ballerina.compiler.syntax.tree.VariableDeclarationNode;
 import io.ballerina.openapi.core.exception.BallerinaOpenApiException;
-import io.ballerina.openapi.core.generators.client.BallerinaUtilGenerator;
+import io.ballerina.openapi.core.generators.schema.model.GeneratorMetaData;
+import io.ballerina.openapi.core.model.Filter;
 import io.ballerina.openapi.core.model.GenSrcFile;
-import io.ballerina.projects.DocumentId;
-import io.ballerina.projects.Module;
-import io.ballerina.projects.Package;
-import io.ballerina.projects.Project;
-import io.ballerina.projects.ProjectException;
-import io.ballerina.projects.ProjectKind;
-import io.ballerina.projects.directory.ProjectLoader;
-import io.ballerina.tools.diagnostics.Location;
+import io.ballerina.tools.text.TextDocuments;
 import io.swagger.parser.OpenAPIParser;
 import io.swagger.v3.oas.models.Components;
 import io.swagger.v3.oas.models.OpenAPI;
@@ -75,25 +68,23 @@ import io.swagger.v3.oas.models.servers.ServerVariable;
 import io.swagger.v3.oas.models.servers.ServerVariables;
 import io.swagger.v3.parser.core.models.ParseOptions;
 import io.swagger.v3.parser.core.models.SwaggerParseResult;
-import org.apache.commons.io.FileUtils;
-import org.ballerinalang.formatter.core.Formatter;
-import org.ballerinalang.formatter.core.FormatterException;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
 
 import java.io.File;
 import java.io.IOException;
-import java.io.PrintWriter;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Deque;
 import java.util.HashMap;
-import java.util.Iterator;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinTask;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -124,28 +115,21 @@ import static io.ballerina.compiler.syntax.tree.SyntaxKind.SEMICOLON_TOKEN;
 import static io.ballerina.compiler.syntax.tree.SyntaxKind.SLASH_TOKEN;
 import static io.ballerina.compiler.syntax.tree.SyntaxKind.STRING_KEYWORD;
 import static io.ballerina.openapi.core.GeneratorConstants.BALLERINA;
-import static io.ballerina.openapi.core.GeneratorConstants.BALLERINA_TOML;
-import static io.ballerina.openapi.core.GeneratorConstants.BALLERINA_TOML_CONTENT;
-import static io.ballerina.openapi.core.GeneratorConstants.CLIENT_FILE_NAME;
 import static io.ballerina.openapi.core.GeneratorConstants.CLOSE_CURLY_BRACE;
 import static io.ballerina.openapi.core.GeneratorConstants.EXPLODE;
 import static io.ballerina.openapi.core.GeneratorConstants.GET;
 import static io.ballerina.openapi.core.GeneratorConstants.HEAD;
 import static io.ballerina.openapi.core.GeneratorConstants.HTTP_REQUEST;
 import static io.ballerina.openapi.core.GeneratorConstants.HTTP_RESPONSE;
-import static io.ballerina.openapi.core.GeneratorConstants.IDENTIFIER;
 import static io.ballerina.openapi.core.GeneratorConstants.IMAGE_PNG;
 import static io.ballerina.openapi.core.GeneratorConstants.JSON_EXTENSION;
 import static io.ballerina.openapi.core.GeneratorConstants.LINE_SEPARATOR;
 import static io.ballerina.openapi.core.GeneratorConstants.OPEN_CURLY_BRACE;
-import static io.ballerina.openapi.core.GeneratorConstants.SERVICE_FILE_NAME;
 import static io.ballerina.openapi.core.GeneratorConstants.SLASH;
 import static io.ballerina.openapi.core.GeneratorConstants.SPECIAL_CHARACTERS_REGEX;
 import static io.ballerina.openapi.core.GeneratorConstants.SQUARE_BRACKETS;
 import static io.ballerina.openapi.core.GeneratorConstants.STRING;
 import static io.ballerina.openapi.core.GeneratorConstants.STYLE;
-import static io.ballerina.openapi.core.GeneratorConstants.TYPE_FILE_NAME;
-import static io.ballerina.openapi.core.GeneratorConstants.TYPE_NAME;
 import static io.ballerina.openapi.core.GeneratorConstants.UNSUPPORTED_OPENAPI_VERSION_PARSER_MESSAGE;
 import static io.ballerina.openapi.core.GeneratorConstants.YAML_EXTENSION;
 import static io.ballerina.openapi.core.GeneratorConstants.YML_EXTENSION;
@@ -160,7 +144,6 @@ public class GeneratorUtils {
     public static final MinutiaeList SINGLE_WS_MINUTIAE = getSingleWSMinutiae();
     public static final List<String> BAL_KEYWORDS = SyntaxInfo.keywords();
     public static final MinutiaeList SINGLE_END_OF_LINE_MINUTIAE = getEndOfLineMinutiae();
-    private static final Logger LOGGER = LoggerFactory.getLogger(BallerinaUtilGenerator.class);
 
     public static ImportDeclarationNode getImportDeclarationNode(String orgName, String moduleName) {
 
@@ -299,13 +282,7 @@ public class GeneratorUtils {
      */
     public static String escapeIdentifier(String identifier) {
 
-        if (identifier.matches("\\b[0-9]*\\b")) {
-            return "'" + identifier;
-        } else if (!identifier.matches("\\b[_a-zA-Z][_a-zA-Z0-9]*\\b") || BAL_KEYWORDS.contains(identifier)) {
-            identifier = identifier.replaceAll(GeneratorConstants.ESCAPE_PATTERN, "\\\\$1");
-            return "'" + identifier;
-        }
-        return identifier;
+        return IdentifierNormalizer.escapeIdentifier(identifier);
     }
 
     /**
@@ -315,27 +292,12 @@ public class GeneratorUtils {
      * @return string with new generated name
      */
     public static String getValidName(String identifier, boolean isSchema) {
-        //For the flatten enable we need to remove first Part of valid name check
-        // this - > !identifier.matches("\\b[a-zA-Z][a-zA-Z0-9]*\\b") &&
-        if (!identifier.matches("\\b[0-9]*\\b")) {
-            String[] split = identifier.split(GeneratorConstants.ESCAPE_PATTERN);
-            StringBuilder validName = new StringBuilder();
-            for (String part : split) {
-                if (!part.isBlank()) {
-                    if (split.length > 1) {
-                        part = part.substring(0, 1).toUpperCase(Locale.ENGLISH) +
-                                part.substring(1).toLowerCase(Locale.ENGLISH);
-                    }
-                    validName.append(part);
-                }
-            }
-            identifier = validName.toString();
-        }
-        if (isSchema) {
-            return identifier.substring(0, 1).toUpperCase(Locale.ENGLISH) + identifier.substring(1);
-        } else {
-            return escapeIdentifier(identifier.substring(0, 1).toLowerCase(Locale.ENGLISH) + identifier.substring(1));
+
+        GeneratorMetaData generatorMetaData = GeneratorMetaData.getInstance();
+        if (generatorMetaData == null) {
+            return IdentifierNormalizer.toValidName(identifier, isSchema);
         }
+        return generatorMetaData.getIdentifierNormalizer().getValidName(identifier, isSchema);
     }
 
     /**
@@ -348,6 +310,10 @@ public class GeneratorUtils {
      */
     public static void updateTypeDefNodeList(String typeName, TypeDefinitionNode typeDefNode,
                                              List<TypeDefinitionNode> typeDefinitionNodeList) {
+        if (typeDefinitionNodeList instanceof TypeDefinitionRegistry) {
+            ((TypeDefinitionRegistry) typeDefinitionNodeList).addIfAbsent(typeName, typeDefNode);
+            return;
+        }
         boolean anyMatch = typeDefinitionNodeList.stream().anyMatch(node ->
                 (node.typeName().text().trim().equals(typeName)));
         if (!anyMatch) {
@@ -363,7 +329,7 @@ public class GeneratorUtils {
      */
     public static boolean isValidSchemaName(String recordName) {
 
-        return !recordName.matches("\\b[0-9]*\\b");
+        return !IdentifierNormalizer.isDigits(recordName);
     }
 
     /**
@@ -396,6 +362,59 @@ public class GeneratorUtils {
     public static OpenAPI getOpenAPIFromOpenAPIV3Parser(Path definitionPath) throws
             IOException, BallerinaOpenApiException {
 
+        validateDefinitionPath(definitionPath);
+        String openAPIFileContent = Files.readString(definitionPath);
+        return parseOpenAPIContent(openAPIFileContent);
+    }
+
+    /**
+     * Util for take OpenApi spec from given yaml file, materializing only the operations selected by the given filter
+     * and the components reachable from them. The definition is streamed, hence a small part of a very large
+     * definition can be loaded with a bounded memory footprint. When the filter is empty the whole definition is
+     * loaded.
+     *
+     * @param definitionPath OpenAPI definition path
+     * @param filter         tags and operations to be loaded
+     * @return filtered OpenAPI specification
+     */
+    public static OpenAPI getOpenAPIFromOpenAPIV3Parser(Path definitionPath, Filter filter) throws
+            IOException, BallerinaOpenApiException {
+
+        if (filter == null || (filter.getTags().isEmpty() && filter.getOperations().isEmpty())) {
+            return getOpenAPIFromOpenAPIV3Parser(definitionPath);
+        }
+        validateDefinitionPath(definitionPath);
+        String openAPIFileContent;
+        try {
+            openAPIFileContent = new FilteredOpenAPILoader(definitionPath, filter).load();
+        } catch (IOException e) {
+            // Let the parser report the errors of the malformed definitions, and prune the parsed definition
+            return filterOpenAPI(parseOpenAPIContent(Files.readString(definitionPath)), filter);
+        }
+        return parseOpenAPIContent(openAPIFileContent);
+    }
+
+    /**
+     * Removes the operations which are not selected by the given filter from the parsed OpenAPI definition, together
+     * with the components which are not reachable from the selected operations. Hence, the generators are given only
+     * the part of the definition which is generated. When the filter is empty the definition is not changed.
+     * <p>
+     * The definition has to be filtered before it is normalized, since the references are not normalized.
+     * </p>
+     *
+     * @param openAPI parsed OpenAPI definition, which is pruned in place
+     * @param filter  tags and operations to be kept
+     * @return the given OpenAPI definition
+     */
+    public static OpenAPI filterOpenAPI(OpenAPI openAPI, Filter filter) {
+        if (filter == null || (filter.getTags().isEmpty() && filter.getOperations().isEmpty())) {
+            return openAPI;
+        }
+        new OpenAPIComponentPruner(filter).prune(openAPI);
+        return openAPI;
+    }
+
+    private static void validateDefinitionPath(Path definitionPath) throws BallerinaOpenApiException {
         Path contractPath = java.nio.file.Paths.get(definitionPath.toString());
         if (!Files.exists(contractPath)) {
             throw new BallerinaOpenApiException(ErrorMessages.invalidFilePath(definitionPath.toString()));
@@ -405,7 +424,9 @@ public class GeneratorUtils {
                 definitionPath.toString().endsWith(YML_EXTENSION))) {
             throw new BallerinaOpenApiException(ErrorMessages.invalidFileType());
         }
-        String openAPIFileContent = Files.readString(definitionPath);
+    }
+
+    private static OpenAPI parseOpenAPIContent(String openAPIFileContent) throws BallerinaOpenApiException {
         ParseOptions parseOptions = new ParseOptions();
         parseOptions.setResolve(true);
         parseOptions.setFlatten(true);
@@ -702,7 +723,34 @@ public class GeneratorUtils {
      */
     public static OpenAPI normalizeOpenAPI(Path openAPIPath, boolean isClient) throws IOException,
             BallerinaOpenApiException {
-        OpenAPI openAPI = getOpenAPIFromOpenAPIV3Parser(openAPIPath);
+        return normalizeOpenAPI(openAPIPath, isClient, null);
+    }
+
+    /**
+     * Normalized OpenAPI specification with adding proper naming to schema. Only the operations selected by the
+     * given filter and the components reachable from them are loaded.
+     *
+     * @param openAPIPath - openAPI file path
+     * @param isClient    - whether the specification is normalized for the client generation
+     * @param filter      - tags and operations to be loaded, the whole specification is loaded when it is empty
+     * @return - openAPI specification
+     * @throws IOException
+     * @throws BallerinaOpenApiException
+     */
+    public static OpenAPI normalizeOpenAPI(Path openAPIPath, boolean isClient, Filter filter) throws IOException,
+            BallerinaOpenApiException {
+        return normalizeOpenAPI(getOpenAPIFromOpenAPIV3Parser(openAPIPath, filter), isClient);
+    }
+
+    /**
+     * Normalized the given parsed OpenAPI specification with adding proper naming to schema.
+     *
+     * @param openAPI  - parsed openAPI specification
+     * @param isClient - whether the specification is normalized for the client generation
+     * @return - normalized openAPI specification
+     * @throws BallerinaOpenApiException
+     */
+    public static OpenAPI normalizeOpenAPI(OpenAPI openAPI, boolean isClient) throws BallerinaOpenApiException {
         io.swagger.v3.oas.models.Paths openAPIPaths = openAPI.getPaths();
         if (isClient) {
             validateOperationIds(openAPIPaths.entrySet());
@@ -783,112 +831,128 @@ public class GeneratorUtils {
         }
     }
 
-    public static String removeUnusedEntities(SyntaxTree schemaSyntaxTree, String clientContent, String schemaContent,
-                                              String serviceContent) throws IOException, FormatterException {
-        Map<String, String> tempSourceFiles = new HashMap<>();
-        tempSourceFiles.put(CLIENT_FILE_NAME, clientContent);
-        tempSourceFiles.put(TYPE_FILE_NAME, schemaContent);
-        if (serviceContent != null) {
-            tempSourceFiles.put(SERVICE_FILE_NAME, schemaContent);
-        }
-        List<String> unusedTypeDefinitionNameList = getUnusedTypeDefinitionNameList(tempSourceFiles);
-        while (unusedTypeDefinitionNameList.size() > 0) {
-            ModulePartNode modulePartNode = schemaSyntaxTree.rootNode();
-            NodeList<ModuleMemberDeclarationNode> members = modulePartNode.members();
-            List<ModuleMemberDeclarationNode> unusedTypeDefinitionNodeList = new ArrayList<>();
-            for (ModuleMemberDeclarationNode node : members) {
-                if (node.kind().equals(SyntaxKind.TYPE_DEFINITION)) {
-                    for (ChildNodeEntry childNodeEntry : node.childEntries()) {
-                        if (childNodeEntry.name().equals(TYPE_NAME)) {
-                            if (unusedTypeDefinitionNameList.contains(childNodeEntry.node().get().toString())) {
-                                unusedTypeDefinitionNodeList.add(node);
-                            }
-                        }
-                    }
-                } else if (node.kind().equals(SyntaxKind.ENUM_DECLARATION)) {
-                    for (ChildNodeEntry childNodeEntry : node.childEntries()) {
-                        if (childNodeEntry.name().equals(IDENTIFIER)) {
-                            if (unusedTypeDefinitionNameList.contains(childNodeEntry.node().get().toString())) {
-                                unusedTypeDefinitionNodeList.add(node);
-                            }
-                        }
+    /**
+     * Removes the record and enum definitions which are not reachable from the given root syntax trees.
+     * <p>
+     * A type reference graph is built from the members of the schema syntax tree and every definition that cannot
+     * be reached from the references in the root trees (ex: client, service) is removed in a single mark and sweep
+     * pass. The trees are re-parsed from their source since the generators create composite type names such as
+     * {@code Pet[]} as a single identifier token. The returned tree is not formatted, so that callers can format it
+     * once at the end.
+     *
+     * @param schemaSyntaxTree - syntax tree of the generated types
+     * @param rootSyntaxTrees  - syntax trees which use the generated types
+     * @return - schema syntax tree without the unused type definitions
+     */
+    public static SyntaxTree removeUnusedEntities(SyntaxTree schemaSyntaxTree, SyntaxTree... rootSyntaxTrees) {
+
+        schemaSyntaxTree = SyntaxTree.from(TextDocuments.from(schemaSyntaxTree.toSourceCode()));
+        ModulePartNode modulePartNode = schemaSyntaxTree.rootNode();
+        NodeList<ModuleMemberDeclarationNode> members = modulePartNode.members();
+        // Type name -> names referred by the type definition
+        Map<String, Set<String>> typeReferences = new HashMap<>();
+        // Enum member name -> enum name, since enum members can be referred individually
+        Map<String, String> enumMembers = new HashMap<>();
+        for (ModuleMemberDeclarationNode member : members) {
+            if (member.kind() == SyntaxKind.TYPE_DEFINITION) {
+                TypeDefinitionNode typeDefinitionNode = (TypeDefinitionNode) member;
+                typeReferences.put(typeDefinitionNode.typeName().text().trim(),
+                        TypeReferenceCollector.collect(typeDefinitionNode));
+            } else if (member.kind() == SyntaxKind.ENUM_DECLARATION) {
+                EnumDeclarationNode enumDeclarationNode = (EnumDeclarationNode) member;
+                String enumName = enumDeclarationNode.identifier().text().trim();
+                typeReferences.put(enumName, TypeReferenceCollector.collect(enumDeclarationNode));
+                for (Node enumMember : enumDeclarationNode.enumMemberList()) {
+                    if (enumMember.kind() == SyntaxKind.ENUM_MEMBER) {
+                        enumMembers.put(((EnumMemberNode) enumMember).identifier().text().trim(), enumName);
                     }
                 }
             }
-            NodeList<ModuleMemberDeclarationNode> modifiedMembers = members.removeAll
-                    (unusedTypeDefinitionNodeList);
-            ModulePartNode modiedModulePartNode = modulePartNode.modify(modulePartNode.imports(),
-                    modifiedMembers, modulePartNode.eofToken());
-            schemaSyntaxTree = schemaSyntaxTree.modifyWith(modiedModulePartNode);
-            schemaContent = Formatter.format(schemaSyntaxTree).toString();
-            tempSourceFiles.put(TYPE_FILE_NAME, schemaContent);
-            unusedTypeDefinitionNameList = getUnusedTypeDefinitionNameList(tempSourceFiles);
-        }
-        return schemaContent;
-    }
-
-    private static List<String> getUnusedTypeDefinitionNameList(Map<String, String> srcFiles) throws IOException {
-        List<String> unusedTypeDefinitionNameList = new ArrayList<>();
-        Path tmpDir = Files.createTempDirectory(".openapi-tmp" + System.nanoTime());
-        writeFilesTemp(srcFiles, tmpDir);
-        if (Files.exists(tmpDir.resolve(CLIENT_FILE_NAME)) && Files.exists(tmpDir.resolve(TYPE_FILE_NAME)) &&
-                Files.exists(tmpDir.resolve(BALLERINA_TOML))) {
-            SemanticModel semanticModel = getSemanticModel(tmpDir.resolve(CLIENT_FILE_NAME));
-            List<Symbol> symbols = semanticModel.moduleSymbols();
-            for (Symbol symbol : symbols) {
-                if (symbol.kind().equals(SymbolKind.TYPE_DEFINITION) || symbol.kind().equals(SymbolKind.ENUM)) {
-                    List<Location> references = semanticModel.references(symbol);
-                    if (references.size() == 1) {
-                        unusedTypeDefinitionNameList.add(symbol.getName().get());
-                    }
-                }
+        }
+
+        // Mark the types reachable from the root trees
+        Set<String> reachableTypes = new HashSet<>();
+        Deque<String> pendingReferences = new ArrayDeque<>();
+        for (SyntaxTree rootSyntaxTree : rootSyntaxTrees) {
+            if (rootSyntaxTree != null) {
+                SyntaxTree parsedRootSyntaxTree = SyntaxTree.from(TextDocuments.from(rootSyntaxTree.toSourceCode()));
+                pendingReferences.addAll(TypeReferenceCollector.collect(parsedRootSyntaxTree.rootNode()));
             }
         }
-        Runtime.getRuntime().addShutdownHook(new Thread(() -> {
-            try {
-                FileUtils.deleteDirectory(tmpDir.toFile());
-            } catch (IOException ex) {
-                LOGGER.error("Unable to delete the temporary directory : " + tmpDir, ex);
+        while (!pendingReferences.isEmpty()) {
+            String reference = pendingReferences.pop();
+            String typeName = typeReferences.containsKey(reference) ? reference : enumMembers.get(reference);
+            if (typeName != null && reachableTypes.add(typeName)) {
+                pendingReferences.addAll(typeReferences.get(typeName));
             }
-        }));
-        return unusedTypeDefinitionNameList;
-    }
-
-    private static void writeFilesTemp(Map<String, String> srcFiles, Path tmpDir) throws IOException {
-        srcFiles.put(BALLERINA_TOML, BALLERINA_TOML_CONTENT);
-        PrintWriter writer = null;
-        for (Map.Entry<String, String> entry : srcFiles.entrySet()) {
-            String key = entry.getKey();
-            Path filePath = tmpDir.resolve(key);
-            try {
-                writer = new PrintWriter(filePath.toString(), "UTF-8");
-                writer.print(entry.getValue());
-            } finally {
-                if (writer != null) {
-                    writer.close();
+        }
+
+        // Sweep the unreachable type definitions
+        List<ModuleMemberDeclarationNode> unusedTypeDefinitionNodeList = new ArrayList<>();
+        for (ModuleMemberDeclarationNode member : members) {
+            if (member.kind() == SyntaxKind.TYPE_DEFINITION) {
+                String typeName = ((TypeDefinitionNode) member).typeName().text().trim();
+                if (!reachableTypes.contains(typeName)) {
+                    unusedTypeDefinitionNodeList.add(member);
+                }
+            } else if (member.kind() == SyntaxKind.ENUM_DECLARATION) {
+                String enumName = ((EnumDeclarationNode) member).identifier().text().trim();
+                if (!reachableTypes.contains(enumName)) {
+                    unusedTypeDefinitionNodeList.add(member);
                 }
             }
         }
+        if (unusedTypeDefinitionNodeList.isEmpty()) {
+            return schemaSyntaxTree;
+        }
+        NodeList<ModuleMemberDeclarationNode> modifiedMembers = members.removeAll(unusedTypeDefinitionNodeList);
+        ModulePartNode modifiedModulePartNode = modulePartNode.modify(modulePartNode.imports(),
+                modifiedMembers, modulePartNode.eofToken());
+        return schemaSyntaxTree.modifyWith(modifiedModulePartNode);
     }
 
-    private static SemanticModel getSemanticModel(Path clientPath) throws ProjectException {
-        // Load project instance for single ballerina file
+    /**
+     * Waits for the given generation task and returns its result. A failure of the task is rethrown as it is, unless
+     * it is a checked exception other than {@link BallerinaOpenApiException}, which is wrapped.
+     *
+     * @param task               generation task submitted to a pool
+     * @param interruptedMessage message of the exception thrown when the waiting thread is interrupted
+     */
+    public static <T> T join(ForkJoinTask<T> task, String interruptedMessage) throws BallerinaOpenApiException {
         try {
-            Project project = ProjectLoader.loadProject(clientPath);
-            Package packageName = project.currentPackage();
-            DocumentId docId;
-
-            if (project.kind().equals(ProjectKind.BUILD_PROJECT)) {
-                docId = project.documentId(clientPath);
-            } else {
-                // Take module instance for traversing the syntax tree
-                Module currentModule = packageName.getDefaultModule();
-                Iterator<DocumentId> documentIterator = currentModule.documentIds().iterator();
-                docId = documentIterator.next();
+            return task.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new BallerinaOpenApiException(interruptedMessage, e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof BallerinaOpenApiException) {
+                throw (BallerinaOpenApiException) cause;
+            } else if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            } else if (cause instanceof Error) {
+                throw (Error) cause;
             }
-            return project.currentPackage().getCompilation().getSemanticModel(docId.moduleId());
-        } catch (ProjectException e) {
-            throw new ProjectException(e.getMessage());
+            throw new BallerinaOpenApiException(cause.getMessage(), cause);
+        }
+    }
+
+    /**
+     * Visitor for collecting the names referred inside a given node.
+     */
+    private static class TypeReferenceCollector extends NodeVisitor {
+
+        private final Set<String> references = new HashSet<>();
+
+        static Set<String> collect(Node node) {
+            TypeReferenceCollector collector = new TypeReferenceCollector();
+            node.accept(collector);
+            return collector.references;
+        }
+
+        @Override
+        public void visit(SimpleNameReferenceNode simpleNameReferenceNode) {
+            references.add(simpleNameReferenceNode.name().text().trim());
         }
     }
 }
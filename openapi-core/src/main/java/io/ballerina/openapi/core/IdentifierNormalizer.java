@@ -0,0 +1,188 @@
+/*
+ * Copyright (c) 2022, WSO2 LLC. (http://www.wso2.com). All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.openapi.core;
+
+import io.ballerina.compiler.syntax.tree.SyntaxInfo;
+
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+
+/**
+ * Normalizes the names in the OpenAPI contract (schema names, properties, parameters and operationIds) to valid
+ * Ballerina identifiers.
+ * <p>
+ * The names are scanned once to check whether they are plain identifiers, digits or contain the characters which
+ * have to be escaped, so that the precompiled patterns are only used for the names which have such characters. The
+ * normalized names are memoized, since the same name is normalized several times while generating a contract. The
+ * memo is bounded, the names beyond the limit are normalized without being cached.
+ * </p>
+ *
+ * @since 1.4.0
+ */
+public final class IdentifierNormalizer {
+
+    /**
+     * Maximum number of names memoized by an instance.
+     */
+    public static final int DEFAULT_CACHE_LIMIT = 10_000;
+
+    private static final Pattern ESCAPE_PATTERN = Pattern.compile(GeneratorConstants.ESCAPE_PATTERN);
+    private static final Set<String> BAL_KEYWORDS = new HashSet<>(SyntaxInfo.keywords());
+    private static final boolean[] ESCAPE_CHARS = new boolean[128];
+
+    static {
+        for (char c : "[]\\?!<>@#&~`*-=^+();:/{}|.$ \t\n\u000B\f\r".toCharArray()) {
+            ESCAPE_CHARS[c] = true;
+        }
+    }
+
+    private final int cacheLimit;
+    private final Map<String, String> schemaNames = new ConcurrentHashMap<>();
+    private final Map<String, String> identifierNames = new ConcurrentHashMap<>();
+
+    public IdentifierNormalizer() {
+        this(DEFAULT_CACHE_LIMIT);
+    }
+
+    public IdentifierNormalizer(int cacheLimit) {
+        this.cacheLimit = cacheLimit;
+    }
+
+    /**
+     * Returns the valid name of the given name, memoized.
+     *
+     * @param identifier name in the contract
+     * @param isSchema   whether the name is a type name
+     * @return valid Ballerina name
+     */
+    public String getValidName(String identifier, boolean isSchema) {
+        Map<String, String> names = isSchema ? schemaNames : identifierNames;
+        String validName = names.get(identifier);
+        if (validName == null) {
+            validName = toValidName(identifier, isSchema);
+            if (names.size() < cacheLimit) {
+                names.putIfAbsent(identifier, validName);
+            }
+        }
+        return validName;
+    }
+
+    /**
+     * Generates the valid name of the given name by removing the special characters. When the name has special
+     * characters, the parts between them are capitalized.
+     *
+     * @param identifier name in the contract
+     * @param isSchema   whether the name is a type name
+     * @return valid Ballerina name
+     */
+    public static String toValidName(String identifier, boolean isSchema) {
+        if (!isDigits(identifier) && (hasEscapeChars(identifier) || identifier.isBlank())) {
+            String[] split = ESCAPE_PATTERN.split(identifier);
+            StringBuilder validName = new StringBuilder(identifier.length());
+            for (String part : split) {
+                if (!part.isBlank()) {
+                    if (split.length > 1) {
+                        validName.append(part.substring(0, 1).toUpperCase(Locale.ENGLISH))
+                                .append(part.substring(1).toLowerCase(Locale.ENGLISH));
+                    } else {
+                        validName.append(part);
+                    }
+                }
+            }
+            identifier = validName.toString();
+        }
+        if (isSchema) {
+            return identifier.substring(0, 1).toUpperCase(Locale.ENGLISH) + identifier.substring(1);
+        } else {
+            return escapeIdentifier(identifier.substring(0, 1).toLowerCase(Locale.ENGLISH) + identifier.substring(1));
+        }
+    }
+
+    /**
+     * Escapes the given identifier when it is not a valid Ballerina identifier or when it is a keyword.
+     *
+     * @param identifier identifier or method name
+     * @return escaped identifier
+     */
+    public static String escapeIdentifier(String identifier) {
+        if (isDigits(identifier)) {
+            return "'" + identifier;
+        } else if (!isIdentifier(identifier) || BAL_KEYWORDS.contains(identifier)) {
+            if (hasEscapeChars(identifier)) {
+                identifier = ESCAPE_PATTERN.matcher(identifier).replaceAll("\\\\$1");
+            }
+            return "'" + identifier;
+        }
+        return identifier;
+    }
+
+    /**
+     * Checks whether the given name is a non-empty sequence of digits.
+     */
+    public static boolean isDigits(String name) {
+        if (name.isEmpty()) {
+            return false;
+        }
+        for (int i = 0; i < name.length(); i++) {
+            char c = name.charAt(i);
+            if (c < '0' || c > '9') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Checks whether the given name is an ASCII identifier which starts with a letter or an underscore.
+     */
+    private static boolean isIdentifier(String name) {
+        if (name.isEmpty()) {
+            return false;
+        }
+        char first = name.charAt(0);
+        if (first != '_' && !isAsciiLetter(first)) {
+            return false;
+        }
+        for (int i = 1; i < name.length(); i++) {
+            char c = name.charAt(i);
+            if (c != '_' && !isAsciiLetter(c) && (c < '0' || c > '9')) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isAsciiLetter(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z');
+    }
+
+    private static boolean hasEscapeChars(String name) {
+        for (int i = 0; i < name.length(); i++) {
+            char c = name.charAt(i);
+            if (c < ESCAPE_CHARS.length && ESCAPE_CHARS[c]) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,277 @@
+/*
+ * Copyright (c) 2022, WSO2 LLC. (http://www.wso2.com). All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package io.ballerina.openapi.core;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.ballerina.openapi.core.model.Filter;
+import io.swagger.v3.core.util.Json;
+import io.swagger.v3.oas.models.Components;
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.Operation;
+import io.swagger.v3.oas.models.PathItem;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * This pruner selects the operations of an OpenAPI definition by a {@link Filter}, and finds the schemas,
+ * parameters, request bodies, responses, headers and examples which are reachable from the selected operations by
+ * following the `$ref`s. The components are visited once each, starting from the selected operations, so the
+ * pruning is proportional to the selected part of the definition.
+ * <p>
+ * {@link FilteredOpenAPILoader} uses it while streaming a definition, and
+ * {@link GeneratorUtils#filterOpenAPI(OpenAPI, Filter)} uses it to prune a parsed definition in place.
+ * </p>
+ *
+ * @since 1.4.0
+ */
+class OpenAPIComponentPruner {
+    private static final String TAGS = "tags";
+    private static final String OPERATION_ID = "operationId";
+    private static final String DISCRIMINATOR = "discriminator";
+    private static final String MAPPING = "mapping";
+    private static final String COMPONENT_REF_PREFIX = "#/components/";
+    private static final String SCHEMAS = "schemas";
+    private static final String RESPONSES = "responses";
+    private static final String PARAMETERS = "parameters";
+    private static final String EXAMPLES = "examples";
+    private static final String REQUEST_BODIES = "requestBodies";
+    private static final String HEADERS = "headers";
+    private static final Set<String> OPERATIONS = Set.of("get", "put", "post", "delete", "options", "head", "patch",
+            "trace");
+    // Components which are referred only by the `$ref`s, hence can be pruned when they are unreachable
+    private static final Set<String> PRUNABLE_COMPONENTS = Set.of(SCHEMAS, RESPONSES, PARAMETERS, EXAMPLES,
+            REQUEST_BODIES, HEADERS);
+
+    private final Filter filter;
+    private final Set<String> rootReferences = new HashSet<>();
+
+    OpenAPIComponentPruner(Filter filter) {
+        this.filter = filter;
+    }
+
+    /**
+     * Checks whether the components of the given type are pruned when they are not reachable.
+     */
+    static boolean isPrunable(String componentType) {
+        return PRUNABLE_COMPONENTS.contains(componentType);
+    }
+
+    /**
+     * Removes the operations which are not selected by the filter from a path item.
+     *
+     * @return whether the path item still has operations or refers to another path item
+     */
+    boolean filterOperations(ObjectNode pathItem) {
+        boolean hasOperations = false;
+        Iterator<Map.Entry<String, JsonNode>> fields = pathItem.fields();
+        while (fields.hasNext()) {
+            Map.Entry<String, JsonNode> field = fields.next();
+            if (!OPERATIONS.contains(field.getKey())) {
+                continue;
+            }
+            if (isSelected(field.getValue())) {
+                hasOperations = true;
+            } else {
+                fields.remove();
+            }
+        }
+        return hasOperations || pathItem.has("$ref");
+    }
+
+    private boolean filterOperations(PathItem pathItem) {
+        boolean hasOperations = false;
+        for (Map.Entry<PathItem.HttpMethod, Operation> operation : pathItem.readOperationsMap().entrySet()) {
+            if (isSelected(operation.getValue().getTags(), operation.getValue().getOperationId())) {
+                hasOperations = true;
+            } else {
+                pathItem.operation(operation.getKey(), null);
+            }
+        }
+        return hasOperations || pathItem.get$ref() != null;
+    }
+
+    private boolean isSelected(JsonNode operation) {
+        List<String> tags = new ArrayList<>();
+        JsonNode tagsNode = operation.get(TAGS);
+        if (tagsNode != null && tagsNode.isArray()) {
+            tagsNode.forEach(tag -> tags.add(tag.asText()));
+        }
+        JsonNode operationId = operation.get(OPERATION_ID);
+        return isSelected(tags, operationId != null && operationId.isTextual() ? operationId.asText() : null);
+    }
+
+    private boolean isSelected(List<String> tags, String operationId) {
+        if (tags != null && GeneratorUtils.hasTags(tags, filter.getTags())) {
+            return true;
+        }
+        if (operationId == null || filter.getOperations().isEmpty()) {
+            return false;
+        }
+        // Operation ids are normalized before the generators apply the filter
+        String id = operationId.trim();
+        return filter.getOperations().contains(id) ||
+                filter.getOperations().contains(GeneratorUtils.getValidName(id, false));
+    }
+
+    /**
+     * Adds the references of a part of the definition which is kept, such as a selected path item, as the roots of
+     * the reachable components.
+     */
+    void addRoot(JsonNode node) {
+        collectReferences(node, rootReferences);
+    }
+
+    /**
+     * Finds the components reachable from the roots.
+     *
+     * @param componentReferences gives the references of a component such as `schemas/Pet`, it is called once for
+     *                            each reachable component
+     * @return reachable components such as `schemas/Pet`
+     */
+    Set<String> getReachableComponents(Function<String, Set<String>> componentReferences) {
+        Set<String> reachable = new HashSet<>();
+        Deque<String> queue = new ArrayDeque<>(rootReferences);
+        while (!queue.isEmpty()) {
+            String component = queue.poll();
+            if (reachable.add(component)) {
+                queue.addAll(componentReferences.apply(component));
+            }
+        }
+        return reachable;
+    }
+
+    /**
+     * Prunes the given parsed definition in place.
+     *
+     * @param openAPI parsed OpenAPI definition
+     */
+    void prune(OpenAPI openAPI) {
+        if (openAPI.getPaths() != null) {
+            openAPI.getPaths().values().removeIf(pathItem -> !filterOperations(pathItem));
+            openAPI.getPaths().values().forEach(pathItem -> addRoot(toTree(pathItem)));
+        }
+        Components components = openAPI.getComponents();
+        if (components == null) {
+            return;
+        }
+        // The components which are not pruned are kept, hence the components they refer to are kept too
+        addRoot(toTree(components.getCallbacks()));
+        addRoot(toTree(components.getLinks()));
+        addRoot(toTree(components.getSecuritySchemes()));
+        Set<String> reachable = getReachableComponents(component ->
+                getReferences(toTree(getComponent(components, component))));
+        retainReachable(components.getSchemas(), SCHEMAS, reachable);
+        retainReachable(components.getResponses(), RESPONSES, reachable);
+        retainReachable(components.getParameters(), PARAMETERS, reachable);
+        retainReachable(components.getExamples(), EXAMPLES, reachable);
+        retainReachable(components.getRequestBodies(), REQUEST_BODIES, reachable);
+        retainReachable(components.getHeaders(), HEADERS, reachable);
+    }
+
+    private static Object getComponent(Components components, String component) {
+        int separator = component.indexOf('/');
+        String name = component.substring(separator + 1);
+        switch (component.substring(0, separator)) {
+            case SCHEMAS:
+                return get(components.getSchemas(), name);
+            case RESPONSES:
+                return get(components.getResponses(), name);
+            case PARAMETERS:
+                return get(components.getParameters(), name);
+            case EXAMPLES:
+                return get(components.getExamples(), name);
+            case REQUEST_BODIES:
+                return get(components.getRequestBodies(), name);
+            case HEADERS:
+                return get(components.getHeaders(), name);
+            default:
+                return null;
+        }
+    }
+
+    private static <T> T get(Map<String, T> componentMap, String name) {
+        return componentMap == null ? null : componentMap.get(name);
+    }
+
+    private static void retainReachable(Map<String, ?> componentMap, String type, Set<String> reachable) {
+        if (componentMap != null) {
+            componentMap.keySet().removeIf(name -> !reachable.contains(type + "/" + name));
+        }
+    }
+
+    private static JsonNode toTree(Object value) {
+        return value == null ? null : Json.mapper().valueToTree(value);
+    }
+
+    /**
+     * Returns the local component references of the given part of the definition.
+     */
+    static Set<String> getReferences(JsonNode node) {
+        if (node == null) {
+            return Collections.emptySet();
+        }
+        Set<String> references = new HashSet<>();
+        collectReferences(node, references);
+        return references;
+    }
+
+    /**
+     * Collects the local component references such as `#/components/schemas/Pet` as `schemas/Pet`. Any string value
+     * is considered, so that the discriminator mappings are also covered. The discriminator mappings may also refer
+     * to the schemas by their names.
+     */
+    private static void collectReferences(JsonNode node, Set<String> references) {
+        if (node == null) {
+            return;
+        }
+        if (node.isTextual()) {
+            String value = node.asText();
+            if (value.startsWith(COMPONENT_REF_PREFIX)) {
+                String[] segments = value.substring(COMPONENT_REF_PREFIX.length()).split("/");
+                if (segments.length > 1) {
+                    references.add(segments[0] + "/" + segments[1].replace("~1", "/").replace("~0", "~"));
+                }
+            }
+            return;
+        }
+        JsonNode mapping = node.isObject() && node.get(DISCRIMINATOR) != null ?
+                node.get(DISCRIMINATOR).get(MAPPING) : null;
+        if (mapping != null) {
+            for (JsonNode schema : mapping) {
+                if (schema.isTextual() && !schema.asText().startsWith("#")) {
+                    references.add(SCHEMAS + "/" + schema.asText());
+                }
+            }
+        }
+        for (JsonNode child : node) {
+            collectReferences(child, references);
+        }
+    }
+}
@@ -0,0 +1,117 @@
+/*
+ * Copyright (c) 2022, WSO2 LLC. (http://www.wso2.com). All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.openapi.core;
+
+import io.ballerina.compiler.syntax.tree.TypeDefinitionNode;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.RandomAccess;
+
+/**
+ * List of the generated {@link TypeDefinitionNode}s which indexes the nodes by the type name.
+ * <p>
+ * The nodes are kept in the insertion order, which is the order of the types in the generated source, while the
+ * names are looked up in constant time, so that the generators do not scan the list to skip the types which are
+ * already generated. {@link GeneratorUtils#updateTypeDefNodeList(String, TypeDefinitionNode, List)} uses the index
+ * when it is given a registry.
+ * </p>
+ *
+ * @since 1.4.0
+ */
+public final class TypeDefinitionRegistry extends AbstractList<TypeDefinitionNode> implements RandomAccess {
+
+    private final List<TypeDefinitionNode> nodes = new ArrayList<>();
+    private final Map<String, Integer> typeNames = new HashMap<>();
+
+    public TypeDefinitionRegistry() {
+    }
+
+    public TypeDefinitionRegistry(Collection<TypeDefinitionNode> typeDefinitionNodes) {
+        addAll(typeDefinitionNodes);
+    }
+
+    /**
+     * Checks whether a type of the given name is registered.
+     */
+    public boolean containsType(String typeName) {
+        return typeNames.containsKey(typeName);
+    }
+
+    /**
+     * Adds the given node unless a type of the given name is already registered.
+     *
+     * @return whether the node is added
+     */
+    public boolean addIfAbsent(String typeName, TypeDefinitionNode typeDefinitionNode) {
+        if (typeNames.containsKey(typeName)) {
+            return false;
+        }
+        return add(typeDefinitionNode);
+    }
+
+    @Override
+    public TypeDefinitionNode get(int index) {
+        return nodes.get(index);
+    }
+
+    @Override
+    public int size() {
+        return nodes.size();
+    }
+
+    @Override
+    public void add(int index, TypeDefinitionNode typeDefinitionNode) {
+        nodes.add(index, typeDefinitionNode);
+        register(typeDefinitionNode);
+        modCount++;
+    }
+
+    @Override
+    public TypeDefinitionNode set(int index, TypeDefinitionNode typeDefinitionNode) {
+        TypeDefinitionNode previous = nodes.set(index, typeDefinitionNode);
+        unregister(previous);
+        register(typeDefinitionNode);
+        return previous;
+    }
+
+    @Override
+    public TypeDefinitionNode remove(int index) {
+        TypeDefinitionNode removed = nodes.remove(index);
+        unregister(removed);
+        modCount++;
+        return removed;
+    }
+
+    private void register(TypeDefinitionNode typeDefinitionNode) {
+        typeNames.merge(getTypeName(typeDefinitionNode), 1, Integer::sum);
+    }
+
+    private void unregister(TypeDefinitionNode typeDefinitionNode) {
+        typeNames.computeIfPresent(getTypeName(typeDefinitionNode), (name, count) -> count == 1 ? null : count - 1);
+    }
+
+    private static String getTypeName(TypeDefinitionNode typeDefinitionNode) {
+        return typeDefinitionNode.typeName().text().trim();
+    }
+}
@@ -50,10 +50,12 @@ import io.ballerina.compiler.syntax.tree.Token;
 import io.ballerina.compiler.syntax.tree.TypeDefinitionNode;
 import io.ballerina.openapi.core.GeneratorConstants;
 import io.ballerina.openapi.core.GeneratorUtils;
+import io.ballerina.openapi.core.TypeDefinitionRegistry;
 import io.ballerina.openapi.core.exception.BallerinaOpenApiException;
 import io.ballerina.openapi.core.generators.client.model.OASClientConfig;
 import io.ballerina.openapi.core.generators.document.DocCommentsGenerator;
 import io.ballerina.openapi.core.generators.schema.BallerinaTypesGenerator;
+import io.ballerina.openapi.core.generators.schema.model.GeneratorMetaData;
 import io.ballerina.openapi.core.model.Filter;
 import io.ballerina.tools.text.TextDocument;
 import io.ballerina.tools.text.TextDocuments;
@@ -67,11 +69,13 @@ import io.swagger.v3.oas.models.servers.ServerVariables;
 import java.net.MalformedURLException;
 import java.net.URL;
 import java.util.ArrayList;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
 
 import static io.ballerina.compiler.syntax.tree.AbstractNodeFactory.createEmptyNodeList;
 import static io.ballerina.compiler.syntax.tree.AbstractNodeFactory.createIdentifierToken;
@@ -138,6 +142,7 @@ public class BallerinaClientGenerator {
     private String serverURL;
     private final BallerinaAuthConfigGenerator ballerinaAuthConfigGenerator;
     private final boolean resourceMode;
+    private final boolean parallel;
 
     /**
      * Returns a list of type definition nodes.
@@ -183,15 +188,16 @@ public class BallerinaClientGenerator {
 
         this.filters = oasClientConfig.getFilters();
         this.imports = new ArrayList<>();
-        this.typeDefinitionNodeList = new ArrayList<>();
+        this.typeDefinitionNodeList = new TypeDefinitionRegistry();
         this.openAPI = oasClientConfig.getOpenAPI();
         this.ballerinaSchemaGenerator = new BallerinaTypesGenerator(openAPI,
-                oasClientConfig.isNullable(), new LinkedList<>());
+                oasClientConfig.isNullable(), new TypeDefinitionRegistry());
         this.ballerinaUtilGenerator = new BallerinaUtilGenerator();
         this.remoteFunctionNameList = new ArrayList<>();
         this.serverURL = "/";
         this.ballerinaAuthConfigGenerator = new BallerinaAuthConfigGenerator(false, false);
         this.resourceMode = oasClientConfig.isResourceMode();
+        this.parallel = oasClientConfig.isParallel();
     }
 
     /**
@@ -201,7 +207,10 @@ public class BallerinaClientGenerator {
      * @throws BallerinaOpenApiException When function fail in process.
      */
     public SyntaxTree generateSyntaxTree() throws BallerinaOpenApiException {
+        return ballerinaSchemaGenerator.getGeneratorMetaData().run(this::generateClient);
+    }
 
+    private SyntaxTree generateClient() throws BallerinaOpenApiException {
         // Create `ballerina/http` import declaration node
         ImportDeclarationNode importForHttp = GeneratorUtils.getImportDeclarationNode(GeneratorConstants.BALLERINA
                 , HTTP);
@@ -470,7 +479,7 @@ public class BallerinaClientGenerator {
 
         List<String> filterTags = filter.getTags();
         List<String> filterOperations = filter.getOperations();
-        List<FunctionDefinitionNode> functionDefinitionNodeList = new ArrayList<>();
+        List<ClientOperation> clientOperations = new ArrayList<>();
         Set<Map.Entry<String, PathItem>> pathsItems = paths.entrySet();
         for (Map.Entry<String, PathItem> path : pathsItems) {
             if (!path.getValue().readOperationsMap().isEmpty()) {
@@ -489,20 +498,75 @@ public class BallerinaClientGenerator {
                         if (operationTags != null || ((!filterOperations.isEmpty()) && (operationId != null))) {
                             if (GeneratorUtils.hasTags(operationTags, filterTags) ||
                                     ((operationId != null) && filterOperations.contains(operationId.trim()))) {
-                                // Generate remote function
-                                FunctionDefinitionNode functionDefinitionNode =
-                                        getClientMethodFunctionDefinitionNode(
-                                                functionLevelAnnotationNodes, path.getKey(), operation);
-                                functionDefinitionNodeList.add(functionDefinitionNode);
+                                clientOperations.add(new ClientOperation(functionLevelAnnotationNodes,
+                                        path.getKey(), operation));
                             }
                         }
                     } else {
-                        // Generate remote function
-                        FunctionDefinitionNode functionDefinitionNode = getClientMethodFunctionDefinitionNode(
-                                functionLevelAnnotationNodes, path.getKey(), operation);
-                        functionDefinitionNodeList.add(functionDefinitionNode);
+                        clientOperations.add(new ClientOperation(functionLevelAnnotationNodes, path.getKey(),
+                                operation));
+                    }
+                }
+            }
+        }
+        if (parallel && clientOperations.size() > 1) {
+            return createRemoteFunctionsInParallel(clientOperations);
+        }
+        List<FunctionDefinitionNode> functionDefinitionNodeList = new ArrayList<>();
+        for (ClientOperation clientOperation : clientOperations) {
+            // Generate remote function
+            remoteFunctionNameList.add(clientOperation.operation.getValue().getOperationId());
+            functionDefinitionNodeList.add(getClientMethodFunctionDefinitionNode(clientOperation.annotationNodes,
+                    clientOperation.path, clientOperation.operation, typeDefinitionNodeList, imports));
+        }
+        return functionDefinitionNodeList;
+    }
+
+    /**
+     * Generates the functions of the operations on the common fork-join pool. Each operation collects the types and
+     * the imports it generates in its own lists, which are merged in the declaration order of the operations, so that
+     * the generated client is the same as the one generated serially.
+     */
+    private List<FunctionDefinitionNode> createRemoteFunctionsInParallel(List<ClientOperation> clientOperations)
+            throws BallerinaOpenApiException {
+
+        GeneratorMetaData generatorMetaData = ballerinaSchemaGenerator.getGeneratorMetaData();
+        List<ForkJoinTask<ClientFunction>> tasks = new ArrayList<>();
+        for (ClientOperation clientOperation : clientOperations) {
+            Callable<ClientFunction> task = () -> generatorMetaData.run(() -> {
+                List<TypeDefinitionNode> operationTypes = new TypeDefinitionRegistry();
+                List<ImportDeclarationNode> operationImports = new ArrayList<>();
+                FunctionDefinitionNode functionDefinitionNode = getClientMethodFunctionDefinitionNode(
+                        clientOperation.annotationNodes, clientOperation.path, clientOperation.operation,
+                        operationTypes, operationImports);
+                return new ClientFunction(functionDefinitionNode, operationTypes, operationImports);
+            });
+            tasks.add(ForkJoinPool.commonPool().submit(task));
+        }
+        List<FunctionDefinitionNode> functionDefinitionNodeList = new ArrayList<>();
+        try {
+            for (int i = 0; i < tasks.size(); i++) {
+                ClientFunction clientFunction = GeneratorUtils.join(tasks.get(i),
+                        "Client generation is interrupted");
+                remoteFunctionNameList.add(clientOperations.get(i).operation.getValue().getOperationId());
+                for (TypeDefinitionNode typeDefinitionNode : clientFunction.typeDefinitionNodes) {
+                    GeneratorUtils.updateTypeDefNodeList(typeDefinitionNode.typeName().text().trim(),
+                            typeDefinitionNode, typeDefinitionNodeList);
+                }
+                for (ImportDeclarationNode importNode : clientFunction.imports) {
+                    StringBuilder moduleName = new StringBuilder();
+                    for (IdentifierToken identifierToken : importNode.moduleName()) {
+                        moduleName.append(identifierToken.toString().trim());
+                    }
+                    if (!GeneratorUtils.checkImportDuplicate(imports, moduleName.toString())) {
+                        imports.add(importNode);
                     }
                 }
+                functionDefinitionNodeList.add(clientFunction.functionDefinitionNode);
+            }
+        } finally {
+            for (ForkJoinTask<ClientFunction> task : tasks) {
+                task.cancel(false);
             }
         }
         return functionDefinitionNodeList;
@@ -527,7 +591,9 @@ public class BallerinaClientGenerator {
     private FunctionDefinitionNode getClientMethodFunctionDefinitionNode(List<AnnotationNode> annotationNodes,
                                                                          String path,
                                                                          Map.Entry<PathItem.HttpMethod, Operation>
-                                                                                 operation)
+                                                                                 operation,
+                                                                         List<TypeDefinitionNode> typeDefinitionNodes,
+                                                                         List<ImportDeclarationNode> importNodes)
             throws BallerinaOpenApiException {
         // Create api doc for function
         List<Node> remoteFunctionDocs = new ArrayList<>();
@@ -555,14 +621,11 @@ public class BallerinaClientGenerator {
                         operation.getKey().name().toLowerCase(Locale.ENGLISH) :
                         operation.getValue().getOperationId());
 
-        remoteFunctionNameList.add(operation.getValue().getOperationId());
-
         FunctionSignatureGenerator functionSignatureGenerator = new FunctionSignatureGenerator(openAPI,
-                ballerinaSchemaGenerator, typeDefinitionNodeList, resourceMode);
+                ballerinaSchemaGenerator, typeDefinitionNodes, resourceMode);
         FunctionSignatureNode functionSignatureNode =
                 functionSignatureGenerator.getFunctionSignatureNode(operation.getValue(),
                         remoteFunctionDocs);
-        typeDefinitionNodeList = functionSignatureGenerator.getTypeDefinitionNodeList();
         // Create `Deprecated` annotation if an operation has mentioned as `deprecated:true`
         if (operation.getValue().getDeprecated() != null && operation.getValue().getDeprecated()) {
             DocCommentsGenerator.extractDeprecatedAnnotation(operation.getValue().getExtensions(),
@@ -573,10 +636,9 @@ public class BallerinaClientGenerator {
                 createNodeList(remoteFunctionDocs)), createNodeList(annotationNodes));
 
         // Create Function Body
-        FunctionBodyGenerator functionBodyGenerator = new FunctionBodyGenerator(imports, typeDefinitionNodeList,
+        FunctionBodyGenerator functionBodyGenerator = new FunctionBodyGenerator(importNodes, typeDefinitionNodes,
                 openAPI, ballerinaSchemaGenerator, ballerinaAuthConfigGenerator, ballerinaUtilGenerator, resourceMode);
         FunctionBodyNode functionBodyNode = functionBodyGenerator.getFunctionBodyNode(path, operation);
-        imports = functionBodyGenerator.getImports();
 
         //Generate relative path
         NodeList<Node> relativeResourcePath = resourceMode ?
@@ -647,4 +709,36 @@ public class BallerinaClientGenerator {
     public void setApiKeyNameList(List<String> apiKeyNameList) {
         this.apiKeyNameList = apiKeyNameList;
     }
+
+    /**
+     * Operation of the contract for which a client function is generated.
+     */
+    private static class ClientOperation {
+        private final List<AnnotationNode> annotationNodes;
+        private final String path;
+        private final Map.Entry<PathItem.HttpMethod, Operation> operation;
+
+        ClientOperation(List<AnnotationNode> annotationNodes, String path,
+                        Map.Entry<PathItem.HttpMethod, Operation> operation) {
+            this.annotationNodes = annotationNodes;
+            this.path = path;
+            this.operation = operation;
+        }
+    }
+
+    /**
+     * Client function generated for an operation, with the types and the imports it requires.
+     */
+    private static class ClientFunction {
+        private final FunctionDefinitionNode functionDefinitionNode;
+        private final List<TypeDefinitionNode> typeDefinitionNodes;
+        private final List<ImportDeclarationNode> imports;
+
+        ClientFunction(FunctionDefinitionNode functionDefinitionNode, List<TypeDefinitionNode> typeDefinitionNodes,
+                       List<ImportDeclarationNode> imports) {
+            this.functionDefinitionNode = functionDefinitionNode;
+            this.typeDefinitionNodes = typeDefinitionNodes;
+            this.imports = imports;
+        }
+    }
 }
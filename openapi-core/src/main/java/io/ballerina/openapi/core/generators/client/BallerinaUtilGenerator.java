@@ -18,10 +18,10 @@
 package io.ballerina.openapi.core.generators.client;
 
 import io.ballerina.compiler.syntax.tree.CaptureBindingPatternNode;
-import io.ballerina.compiler.syntax.tree.ChildNodeEntry;
 import io.ballerina.compiler.syntax.tree.EnumDeclarationNode;
 import io.ballerina.compiler.syntax.tree.EnumMemberNode;
 import io.ballerina.compiler.syntax.tree.ExpressionNode;
+import io.ballerina.compiler.syntax.tree.FunctionDefinitionNode;
 import io.ballerina.compiler.syntax.tree.ImportDeclarationNode;
 import io.ballerina.compiler.syntax.tree.IntersectionTypeDescriptorNode;
 import io.ballerina.compiler.syntax.tree.MarkdownDocumentationNode;
@@ -41,27 +41,20 @@ import io.ballerina.compiler.syntax.tree.TypeDescriptorNode;
 import io.ballerina.compiler.syntax.tree.TypedBindingPatternNode;
 import io.ballerina.openapi.core.GeneratorUtils;
 import io.ballerina.openapi.core.generators.document.DocCommentsGenerator;
-import io.ballerina.projects.DocumentId;
-import io.ballerina.projects.Package;
-import io.ballerina.projects.Project;
-import io.ballerina.projects.directory.ProjectLoader;
 import io.ballerina.tools.text.TextDocument;
 import io.ballerina.tools.text.TextDocuments;
-import org.apache.commons.io.FileUtils;
 import org.apache.commons.io.IOUtils;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
 import java.io.InputStream;
-import java.io.PrintWriter;
 import java.nio.charset.StandardCharsets;
-import java.nio.file.Files;
-import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 import static io.ballerina.compiler.syntax.tree.AbstractNodeFactory.createEmptyNodeList;
@@ -125,7 +118,6 @@ public class BallerinaUtilGenerator {
     private boolean queryParamsFound = false;
     private boolean requestBodyEncodingFound = false;
     private boolean requestBodyMultipartFormDatafound = false;
-    private static final Logger LOGGER = LoggerFactory.getLogger(BallerinaUtilGenerator.class);
 
     private static final String CREATE_FORM_URLENCODED_REQUEST_BODY = "createFormURLEncodedRequestBody";
     private static final String GET_DEEP_OBJECT_STYLE_REQUEST = "getDeepObjectStyleRequest";
@@ -137,6 +129,8 @@ public class BallerinaUtilGenerator {
     private static final String GET_MAP_FOR_HEADERS = "getMapForHeaders";
     private static final String GET_SERIALIZED_RECORD_ARRAY = "getSerializedRecordArray";
     private static final String CREATE_MULTIPART_BODY_PARTS = "createBodyParts";
+    private static final String UTIL_TEMPLATE = "templates/utils_openapi.bal";
+    private static volatile Map<String, FunctionDefinitionNode> utilFunctions;
 
     /**
      * Set `queryParamsFound` flag to `true` when at least one query parameter found.
@@ -218,24 +212,9 @@ public class BallerinaUtilGenerator {
         List<ModuleMemberDeclarationNode> memberDeclarationNodes = new ArrayList<>();
         getUtilTypeDeclarationNodes(memberDeclarationNodes);
 
-        Path path = getResourceFilePath();
-
-        Project project = ProjectLoader.loadProject(path);
-        Package currentPackage = project.currentPackage();
-        DocumentId docId = currentPackage.getDefaultModule().documentIds().iterator().next();
-        SyntaxTree syntaxTree = currentPackage.getDefaultModule().document(docId).syntaxTree();
-
-        ModulePartNode modulePartNode = syntaxTree.rootNode();
-        NodeList<ModuleMemberDeclarationNode> members = modulePartNode.members();
-        for (ModuleMemberDeclarationNode node : members) {
-            if (node.kind().equals(SyntaxKind.FUNCTION_DEFINITION)) {
-                for (ChildNodeEntry childNodeEntry : node.childEntries()) {
-                    if (childNodeEntry.name().equals("functionName")) {
-                        if (functionNameList.contains(childNodeEntry.node().get().toString())) {
-                            memberDeclarationNodes.add(node);
-                        }
-                    }
-                }
+        for (Map.Entry<String, FunctionDefinitionNode> utilFunction : getUtilFunctions().entrySet()) {
+            if (functionNameList.contains(utilFunction.getKey())) {
+                memberDeclarationNodes.add(utilFunction.getValue());
             }
         }
 
@@ -413,30 +392,44 @@ public class BallerinaUtilGenerator {
     }
 
     /**
-     * Gets the path of the utils_openapi.bal template at the time of execution.
+     * Gets the util functions of the utils_openapi.bal template indexed by the function name, in the order they are
+     * defined in the template. The template is parsed once per JVM and the immutable nodes are shared by all the
+     * generator instances.
      *
-     * @return Path to utils_openapi.bal file in the temporary directory created
+     * @return Map of the util function name to the function definition node
      * @throws IOException When failed to get the templates/utils_openapi.bal file from resources
      */
-    private Path getResourceFilePath() throws IOException {
-        Path path = null;
-        ClassLoader classLoader = getClass().getClassLoader();
-        InputStream inputStream = classLoader.getResourceAsStream("templates/utils_openapi.bal");
-        if (inputStream != null) {
-            String clientSyntaxTreeString = IOUtils.toString(inputStream, StandardCharsets.UTF_8);
-            Path tmpDir = Files.createTempDirectory(".util-tmp" + System.nanoTime());
-            path = tmpDir.resolve("utils.bal");
-            try (PrintWriter writer = new PrintWriter(path.toString(), StandardCharsets.UTF_8)) {
-                writer.print(clientSyntaxTreeString);
+    private static Map<String, FunctionDefinitionNode> getUtilFunctions() throws IOException {
+        Map<String, FunctionDefinitionNode> functions = utilFunctions;
+        if (functions == null) {
+            synchronized (BallerinaUtilGenerator.class) {
+                functions = utilFunctions;
+                if (functions == null) {
+                    functions = loadUtilFunctions();
+                    utilFunctions = functions;
+                }
             }
-            Runtime.getRuntime().addShutdownHook(new Thread(() -> {
-                try {
-                    FileUtils.deleteDirectory(tmpDir.toFile());
-                } catch (IOException ex) {
-                    LOGGER.error("Unable to delete the temporary directory : " + tmpDir, ex);
+        }
+        return functions;
+    }
+
+    private static Map<String, FunctionDefinitionNode> loadUtilFunctions() throws IOException {
+        ClassLoader classLoader = BallerinaUtilGenerator.class.getClassLoader();
+        try (InputStream inputStream = classLoader.getResourceAsStream(UTIL_TEMPLATE)) {
+            if (inputStream == null) {
+                throw new IOException("Unable to find the util template : " + UTIL_TEMPLATE);
+            }
+            String utilTemplate = IOUtils.toString(inputStream, StandardCharsets.UTF_8);
+            SyntaxTree syntaxTree = SyntaxTree.from(TextDocuments.from(utilTemplate));
+            ModulePartNode modulePartNode = syntaxTree.rootNode();
+            Map<String, FunctionDefinitionNode> functions = new LinkedHashMap<>();
+            for (ModuleMemberDeclarationNode node : modulePartNode.members()) {
+                if (node.kind().equals(SyntaxKind.FUNCTION_DEFINITION)) {
+                    FunctionDefinitionNode functionNode = (FunctionDefinitionNode) node;
+                    functions.put(functionNode.functionName().text().trim(), functionNode);
                 }
-            }));
+            }
+            return Collections.unmodifiableMap(functions);
         }
-        return path;
     }
 }
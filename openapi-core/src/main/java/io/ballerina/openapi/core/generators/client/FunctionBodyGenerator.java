@@ -175,6 +175,12 @@ public class FunctionBodyGenerator {
      */
     public FunctionBodyNode getFunctionBodyNode(String path, Map.Entry<PathItem.HttpMethod, Operation> operation)
             throws BallerinaOpenApiException {
+        return ballerinaSchemaGenerator.getGeneratorMetaData().run(() -> generateFunctionBodyNode(path, operation));
+    }
+
+    private FunctionBodyNode generateFunctionBodyNode(String path,
+                                                      Map.Entry<PathItem.HttpMethod, Operation> operation)
+            throws BallerinaOpenApiException {
 
         NodeList<AnnotationNode> annotationNodes = createEmptyNodeList();
         FunctionReturnTypeGenerator functionReturnType = new FunctionReturnTypeGenerator(
@@ -21,6 +21,7 @@ package io.ballerina.openapi.core.generators.client;
 import io.ballerina.compiler.syntax.tree.Node;
 import io.ballerina.compiler.syntax.tree.TypeDefinitionNode;
 import io.ballerina.openapi.core.GeneratorUtils;
+import io.ballerina.openapi.core.TypeDefinitionRegistry;
 import io.ballerina.openapi.core.exception.BallerinaOpenApiException;
 import io.ballerina.openapi.core.generators.document.DocCommentsGenerator;
 import io.ballerina.openapi.core.generators.schema.BallerinaTypesGenerator;
@@ -38,7 +39,6 @@ import io.swagger.v3.oas.models.responses.ApiResponses;
 
 import java.util.ArrayList;
 import java.util.HashSet;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -66,7 +66,7 @@ import static io.ballerina.openapi.core.GeneratorUtils.isValidSchemaName;
 public class FunctionReturnTypeGenerator {
     private OpenAPI openAPI;
     private BallerinaTypesGenerator ballerinaSchemaGenerator;
-    private List<TypeDefinitionNode> typeDefinitionNodeList = new LinkedList<>();
+    private List<TypeDefinitionNode> typeDefinitionNodeList = new TypeDefinitionRegistry();
 
     public FunctionReturnTypeGenerator() {
 
@@ -88,6 +88,13 @@ public class FunctionReturnTypeGenerator {
      * @throws BallerinaOpenApiException - throws exception if creating return type fails.
      */
     public String getReturnType(Operation operation, boolean isSignature) throws BallerinaOpenApiException {
+        if (ballerinaSchemaGenerator == null) {
+            return generateReturnType(operation, isSignature);
+        }
+        return ballerinaSchemaGenerator.getGeneratorMetaData().run(() -> generateReturnType(operation, isSignature));
+    }
+
+    private String generateReturnType(Operation operation, boolean isSignature) throws BallerinaOpenApiException {
         //TODO: Handle multiple media-type
         Set<String> returnTypes = new HashSet<>();
         boolean noContentResponseFound = false;
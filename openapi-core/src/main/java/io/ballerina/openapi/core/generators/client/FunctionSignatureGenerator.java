@@ -143,6 +143,12 @@ public class FunctionSignatureGenerator {
      */
     public FunctionSignatureNode getFunctionSignatureNode(Operation operation, List<Node> remoteFunctionDoc)
             throws BallerinaOpenApiException {
+        return ballerinaSchemaGenerator.getGeneratorMetaData().run(() ->
+                generateFunctionSignatureNode(operation, remoteFunctionDoc));
+    }
+
+    private FunctionSignatureNode generateFunctionSignatureNode(Operation operation, List<Node> remoteFunctionDoc)
+            throws BallerinaOpenApiException {
         // Store the parameters for method.
         List<Node> parameterList = new ArrayList<>();
 
@@ -32,7 +32,7 @@ public class OASClientConfig {
     private final boolean resourceMode;
     private final boolean isPlugin;
     private final String license;
-
+    private final boolean parallel;
 
     private OASClientConfig(Builder clientConfigBuilder) {
         this.openAPI = clientConfigBuilder.openAPI;
@@ -41,6 +41,7 @@ public class OASClientConfig {
         this.isPlugin = clientConfigBuilder.isPlugin;
         this.resourceMode = clientConfigBuilder.resourceMode;
         this.license = clientConfigBuilder.license;
+        this.parallel = clientConfigBuilder.parallel;
     }
 
     public OpenAPI getOpenAPI() {
@@ -67,6 +68,10 @@ public class OASClientConfig {
         return license;
     }
 
+    public boolean isParallel() {
+        return parallel;
+    }
+
     /**
      * Client IDL plugin meta data builder class.
      */
@@ -76,6 +81,7 @@ public class OASClientConfig {
         private boolean nullable = false;
         private boolean resourceMode = true;
         private boolean isPlugin = false;
+        private boolean parallel = false;
 
         private String license = "// AUTO-GENERATED FILE. DO NOT MODIFY.\n\n" +
                 "// This file is auto-generated by the Ballerina OpenAPI tool.\n";
@@ -111,6 +117,14 @@ public class OASClientConfig {
             return this;
         }
 
+        /**
+         * Generates the client functions of the operations in parallel on the common fork-join pool.
+         */
+        public Builder withParallel(boolean parallel) {
+            this.parallel = parallel;
+            return this;
+        }
+
         public OASClientConfig build() {
             return new OASClientConfig(this);
         }
@@ -35,6 +35,7 @@ import io.ballerina.compiler.syntax.tree.TypeDefinitionNode;
 import io.ballerina.compiler.syntax.tree.TypeReferenceNode;
 import io.ballerina.openapi.core.GeneratorConstants;
 import io.ballerina.openapi.core.GeneratorUtils;
+import io.ballerina.openapi.core.TypeDefinitionRegistry;
 import io.ballerina.openapi.core.exception.BallerinaOpenApiException;
 import io.ballerina.openapi.core.generators.schema.ballerinatypegenerators.AllOfRecordTypeGenerator;
 import io.ballerina.openapi.core.generators.schema.ballerinatypegenerators.ArrayTypeGenerator;
@@ -49,9 +50,13 @@ import io.swagger.v3.oas.models.OpenAPI;
 import io.swagger.v3.oas.models.media.Schema;
 
 import java.util.ArrayList;
-import java.util.LinkedList;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
 
 import static io.ballerina.compiler.syntax.tree.AbstractNodeFactory.createEmptyNodeList;
 import static io.ballerina.compiler.syntax.tree.AbstractNodeFactory.createNodeList;
@@ -66,7 +71,12 @@ import static io.ballerina.openapi.core.GeneratorConstants.CONNECTION_CONFIG;
  */
 public class BallerinaTypesGenerator {
 
+    private static final int MIN_PARTITION_SIZE = 16;
+    private static final int PARTITIONS_PER_WORKER = 4;
+
+    private final GeneratorMetaData generatorMetaData;
     private final List<TypeDefinitionNode> typeDefinitionNodeList;
+    private final boolean parallel;
     private boolean hasConstraints;
 
     /**
@@ -76,14 +86,29 @@ public class BallerinaTypesGenerator {
      * @param openAPI    OAS definition
      * @param isNullable nullable value
      * @param  typeDefinitionNodeList list of types generated by earlier generations
+     * @param parallel   whether to generate the types of the component schemas in parallel
      */
     public BallerinaTypesGenerator(OpenAPI openAPI, boolean isNullable,
-                                   List<TypeDefinitionNode> typeDefinitionNodeList) {
-        GeneratorMetaData.createInstance(openAPI, isNullable);
+                                   List<TypeDefinitionNode> typeDefinitionNodeList, boolean parallel) {
+        this.generatorMetaData = new GeneratorMetaData(openAPI, isNullable);
         this.typeDefinitionNodeList = typeDefinitionNodeList;
+        this.parallel = parallel;
         this.hasConstraints = false;
     }
 
+    /**
+     * This public constructor is used to generate record and other relevant data type when the nullable flag is
+     * enabled in the openapi command.
+     *
+     * @param openAPI    OAS definition
+     * @param isNullable nullable value
+     * @param  typeDefinitionNodeList list of types generated by earlier generations
+     */
+    public BallerinaTypesGenerator(OpenAPI openAPI, boolean isNullable,
+                                   List<TypeDefinitionNode> typeDefinitionNodeList) {
+        this(openAPI, isNullable, typeDefinitionNodeList, false);
+    }
+
     /**
      * This public constructor is used to generate record and other relevant data type when the nullable flag is
      * enabled in the openapi command.
@@ -92,7 +117,7 @@ public class BallerinaTypesGenerator {
      * @param isNullable nullable value
      */
     public BallerinaTypesGenerator(OpenAPI openAPI, boolean isNullable) {
-        this(openAPI, isNullable, new LinkedList<>());
+        this(openAPI, isNullable, new TypeDefinitionRegistry());
     }
 
     /**
@@ -102,20 +127,33 @@ public class BallerinaTypesGenerator {
      * @param openAPI OAS definition
      */
     public BallerinaTypesGenerator(OpenAPI openAPI) {
-        this(openAPI, false, new LinkedList<>());
+        this(openAPI, false, new TypeDefinitionRegistry());
     }
 
     /**
      * Generate syntaxTree for component schema.
      */
     public SyntaxTree generateSyntaxTree() throws BallerinaOpenApiException {
-        OpenAPI openAPI = GeneratorMetaData.getInstance().getOpenAPI();
+        return generatorMetaData.run(this::generateTypes);
+    }
+
+    /**
+     * Returns the metadata of the generation run of this generator.
+     */
+    public GeneratorMetaData getGeneratorMetaData() {
+        return generatorMetaData;
+    }
+
+    private SyntaxTree generateTypes() throws BallerinaOpenApiException {
+        OpenAPI openAPI = generatorMetaData.getOpenAPI();
         List<TypeDefinitionNode> typeDefinitionNodeListForSchema = new ArrayList<>();
         if (openAPI.getComponents() != null) {
             // Create typeDefinitionNode
             Components components = openAPI.getComponents();
             Map<String, Schema> schemas = components.getSchemas();
-            if (schemas != null) {
+            if (schemas != null && parallel && schemas.size() > 1) {
+                typeDefinitionNodeListForSchema.addAll(generateSchemaTypesInParallel(schemas));
+            } else if (schemas != null) {
                 for (Map.Entry<String, Schema> schema : schemas.entrySet()) {
                     String schemaKey = schema.getKey().trim();
                     if (!hasConstraints) {
@@ -145,34 +183,37 @@ public class BallerinaTypesGenerator {
     }
 
     private NodeList<ImportDeclarationNode> generateImportNodes() {
-        List<ImportDeclarationNode> imports = new ArrayList<>();
+        Set<String> importedModules = new LinkedHashSet<>();
         if (!typeDefinitionNodeList.isEmpty()) {
-            importsForTypeDefinitions(imports);
+            importsForTypeDefinitions(importedModules);
         }
-        boolean nullable = GeneratorMetaData.getInstance().isNullable();
+        boolean nullable = generatorMetaData.isNullable();
         if (hasConstraints && !nullable) {
             //import for constraint
-            ImportDeclarationNode importForConstraint = GeneratorUtils.getImportDeclarationNode(
-                    GeneratorConstants.BALLERINA,
-                    GeneratorConstants.CONSTRAINT);
-            imports.add(importForConstraint);
+            importedModules.add(GeneratorConstants.CONSTRAINT);
         }
-        if (imports.isEmpty()) {
+        if (importedModules.isEmpty()) {
             return createEmptyNodeList();
         }
+        List<ImportDeclarationNode> imports = new ArrayList<>();
+        for (String module : importedModules) {
+            imports.add(GeneratorUtils.getImportDeclarationNode(GeneratorConstants.BALLERINA, module));
+        }
         return createNodeList(imports);
     }
 
-    private void importsForTypeDefinitions(List<ImportDeclarationNode> imports) {
+    private void importsForTypeDefinitions(Set<String> importedModules) {
         for (TypeDefinitionNode node : typeDefinitionNodeList) {
+            if (importedModules.contains(HTTP)) {
+                // The type inclusions of the records only import the http module
+                return;
+            }
             if (!(node.typeDescriptor() instanceof RecordTypeDescriptorNode)) {
                 continue;
             }
             if (node.typeName().text().equals(CONNECTION_CONFIG)) {
-                ImportDeclarationNode importForHttp = GeneratorUtils.getImportDeclarationNode(
-                        GeneratorConstants.BALLERINA,
-                        HTTP);
-                imports.add(importForHttp);
+                importedModules.add(HTTP);
+                continue;
             }
             RecordTypeDescriptorNode record = (RecordTypeDescriptorNode) node.typeDescriptor();
             for (Node field : record.fields()) {
@@ -182,14 +223,8 @@ public class BallerinaTypesGenerator {
                 }
                 TypeReferenceNode recordField = (TypeReferenceNode) field;
                 QualifiedNameReferenceNode typeInclusion = (QualifiedNameReferenceNode) recordField.typeName();
-                boolean isHttpImportExist = imports.stream().anyMatch(importNode -> importNode.moduleName().stream()
-                        .anyMatch(moduleName -> moduleName.text().equals(HTTP)));
-
-                if (!isHttpImportExist && typeInclusion.modulePrefix().text().equals(HTTP)) {
-                    ImportDeclarationNode importForHttp = GeneratorUtils.getImportDeclarationNode(
-                            GeneratorConstants.BALLERINA,
-                            GeneratorConstants.HTTP);
-                    imports.add(importForHttp);
+                if (typeInclusion.modulePrefix().text().equals(HTTP)) {
+                    importedModules.add(HTTP);
                     break;
                 }
             }
@@ -206,19 +241,35 @@ public class BallerinaTypesGenerator {
      */
     public TypeDefinitionNode getTypeDefinitionNode(Schema schema, String typeName, List<Node> schemaDocs)
             throws BallerinaOpenApiException {
+        SchemaType schemaType = generatorMetaData.run(() -> generateSchemaType(schema, typeName, schemaDocs));
+        // The client generator may generate the types of the operations in parallel
+        synchronized (typeDefinitionNodeList) {
+            addGeneratedTypes(schemaType.typeGenerator);
+        }
+        return schemaType.typeDefinitionNode;
+    }
+
+    private SchemaType generateSchemaType(Schema schema, String typeName, List<Node> schemaDocs)
+            throws BallerinaOpenApiException {
         IdentifierToken typeNameToken = AbstractNodeFactory.createIdentifierToken(GeneratorUtils.getValidName(
                 typeName.trim(), true));
         TypeGenerator typeGenerator = TypeGeneratorUtils.getTypeGenerator(schema, GeneratorUtils.getValidName(
-                typeName.trim(), true), null);
+                typeName.trim(), true), null, generatorMetaData);
         List<AnnotationNode> typeAnnotations = new ArrayList<>();
         AnnotationNode constraintNode = TypeGeneratorUtils.generateConstraintNode(schema);
         if (constraintNode != null) {
             typeAnnotations.add(constraintNode);
         }
-        TypeGeneratorUtils.getRecordDocs(schemaDocs, schema, typeAnnotations);
+        TypeGeneratorUtils.getRecordDocs(schemaDocs, schema, typeAnnotations, generatorMetaData);
         TypeDefinitionNode typeDefinitionNode =
                 typeGenerator.generateTypeDefinitionNode(typeNameToken, schemaDocs, typeAnnotations);
+        return new SchemaType(typeDefinitionNode, typeGenerator);
+    }
 
+    /**
+     * Adds the types which are generated for the nested schemas while generating a type.
+     */
+    private void addGeneratedTypes(TypeGenerator typeGenerator) {
         if (typeGenerator instanceof ArrayTypeGenerator &&
                 ((ArrayTypeGenerator) typeGenerator).getArrayItemWithConstraint() != null) {
             typeDefinitionNodeList.add(((ArrayTypeGenerator) typeGenerator).getArrayItemWithConstraint());
@@ -232,7 +283,57 @@ public class BallerinaTypesGenerator {
                 !((UnionTypeGenerator) typeGenerator).getTypeDefinitionNodeList().isEmpty()) {
             removeDuplicateNode(((UnionTypeGenerator) typeGenerator).getTypeDefinitionNodeList());
         }
-        return typeDefinitionNode;
+    }
+
+    /**
+     * Generates the types of the component schemas on the common fork-join pool. The schemas are partitioned into
+     * contiguous ranges which are generated by the workers, while the generated types are added in the order of the
+     * schemas, hence the types are in the same order as in the serial generation.
+     */
+    private List<TypeDefinitionNode> generateSchemaTypesInParallel(Map<String, Schema> schemas)
+            throws BallerinaOpenApiException {
+        List<Map.Entry<String, Schema>> schemaEntries = new ArrayList<>(schemas.entrySet());
+        int partitionSize = Math.max(MIN_PARTITION_SIZE, (schemaEntries.size() +
+                ForkJoinPool.getCommonPoolParallelism() * PARTITIONS_PER_WORKER - 1) /
+                (ForkJoinPool.getCommonPoolParallelism() * PARTITIONS_PER_WORKER));
+        List<ForkJoinTask<List<SchemaType>>> tasks = new ArrayList<>();
+        for (int start = 0; start < schemaEntries.size(); start += partitionSize) {
+            List<Map.Entry<String, Schema>> partition = schemaEntries.subList(start,
+                    Math.min(start + partitionSize, schemaEntries.size()));
+            Callable<List<SchemaType>> task = () -> generatorMetaData.run(() -> generateSchemaTypes(partition));
+            tasks.add(ForkJoinPool.commonPool().submit(task));
+        }
+        List<TypeDefinitionNode> schemaTypeDefinitionNodes = new ArrayList<>();
+        try {
+            for (ForkJoinTask<List<SchemaType>> task : tasks) {
+                for (SchemaType schemaType : GeneratorUtils.join(task,
+                        "Type generation is interrupted")) {
+                    hasConstraints = hasConstraints || schemaType.hasConstraints;
+                    if (schemaType.typeDefinitionNode != null) {
+                        addGeneratedTypes(schemaType.typeGenerator);
+                        schemaTypeDefinitionNodes.add(schemaType.typeDefinitionNode);
+                    }
+                }
+            }
+        } finally {
+            for (ForkJoinTask<List<SchemaType>> task : tasks) {
+                task.cancel(false);
+            }
+        }
+        return schemaTypeDefinitionNodes;
+    }
+
+    private List<SchemaType> generateSchemaTypes(List<Map.Entry<String, Schema>> partition)
+            throws BallerinaOpenApiException {
+        List<SchemaType> schemaTypes = new ArrayList<>(partition.size());
+        for (Map.Entry<String, Schema> schema : partition) {
+            String schemaKey = schema.getKey().trim();
+            SchemaType schemaType = GeneratorUtils.isValidSchemaName(schemaKey) ?
+                    generateSchemaType(schema.getValue(), schemaKey, new ArrayList<>()) : new SchemaType(null, null);
+            schemaType.hasConstraints = GeneratorUtils.hasConstraints(schema.getValue());
+            schemaTypes.add(schemaType);
+        }
+        return schemaTypes;
     }
 
     /**
@@ -241,16 +342,21 @@ public class BallerinaTypesGenerator {
     private void removeDuplicateNode(List<TypeDefinitionNode> newConstraintNode) {
 
         for (TypeDefinitionNode newNode : newConstraintNode) {
-            boolean isExist = false;
-            for (TypeDefinitionNode oldNode : typeDefinitionNodeList) {
-                if (newNode.typeName().text().equals(oldNode.typeName().text())) {
-                    isExist = true;
-                    break;
-                }
-            }
-            if (!isExist) {
-                typeDefinitionNodeList.add(newNode);
-            }
+            GeneratorUtils.updateTypeDefNodeList(newNode.typeName().text(), newNode, typeDefinitionNodeList);
+        }
+    }
+
+    /**
+     * Type generated for a schema, with the generator which holds the types generated for its nested schemas.
+     */
+    private static class SchemaType {
+        private final TypeDefinitionNode typeDefinitionNode;
+        private final TypeGenerator typeGenerator;
+        private boolean hasConstraints;
+
+        SchemaType(TypeDefinitionNode typeDefinitionNode, TypeGenerator typeGenerator) {
+            this.typeDefinitionNode = typeDefinitionNode;
+            this.typeGenerator = typeGenerator;
         }
     }
 }
@@ -100,25 +100,39 @@ public class TypeGeneratorUtils {
      */
     public static TypeGenerator getTypeGenerator(Schema<?> schemaValue, String typeName, String parentName) {
 
+        return getTypeGenerator(schemaValue, typeName, parentName, GeneratorMetaData.getInstance());
+    }
+
+    /**
+     * Get SchemaType object relevant to the schema given.
+     *
+     * @param schemaValue       Schema object
+     * @param typeName          parameter name
+     * @param generatorMetaData metadata of the generation run
+     * @return Relevant SchemaType object
+     */
+    public static TypeGenerator getTypeGenerator(Schema<?> schemaValue, String typeName, String parentName,
+                                                 GeneratorMetaData generatorMetaData) {
+
         if (schemaValue.get$ref() != null) {
-            return new ReferencedTypeGenerator(schemaValue, typeName);
+            return new ReferencedTypeGenerator(schemaValue, typeName, generatorMetaData);
         } else if (schemaValue instanceof ComposedSchema) {
             ComposedSchema composedSchema = (ComposedSchema) schemaValue;
             if (composedSchema.getAllOf() != null) {
-                return new AllOfRecordTypeGenerator(schemaValue, typeName);
+                return new AllOfRecordTypeGenerator(schemaValue, typeName, generatorMetaData);
             } else {
-                return new UnionTypeGenerator(schemaValue, typeName);
+                return new UnionTypeGenerator(schemaValue, typeName, generatorMetaData);
             }
         } else if ((schemaValue.getType() != null && schemaValue.getType().equals(GeneratorConstants.OBJECT)) ||
                 schemaValue instanceof ObjectSchema || schemaValue.getProperties() != null ||
                 schemaValue instanceof MapSchema) {
-            return new RecordTypeGenerator(schemaValue, typeName);
+            return new RecordTypeGenerator(schemaValue, typeName, generatorMetaData);
         } else if (schemaValue instanceof ArraySchema) {
-            return new ArrayTypeGenerator(schemaValue, typeName, parentName);
+            return new ArrayTypeGenerator(schemaValue, typeName, parentName, generatorMetaData);
         } else if (schemaValue.getType() != null && primitiveTypeList.contains(schemaValue.getType())) {
-            return new PrimitiveTypeGenerator(schemaValue, typeName);
+            return new PrimitiveTypeGenerator(schemaValue, typeName, generatorMetaData);
         } else { // when schemaValue.type == null
-            return new AnyDataTypeGenerator(schemaValue, typeName);
+            return new AnyDataTypeGenerator(schemaValue, typeName, generatorMetaData);
         }
     }
 
@@ -136,8 +150,21 @@ public class TypeGeneratorUtils {
      * @return Final type of the field
      */
     public static TypeDescriptorNode getNullableType(Schema schema, TypeDescriptorNode originalTypeDesc) {
+        return getNullableType(schema, originalTypeDesc, GeneratorMetaData.getInstance());
+    }
+
+    /**
+     * Generate proper type name considering the nullable configuration of the given generation run.
+     *
+     * @param schema            Schema of the property
+     * @param originalTypeDesc  Type name
+     * @param generatorMetaData metadata of the generation run
+     * @return Final type of the field
+     */
+    public static TypeDescriptorNode getNullableType(Schema schema, TypeDescriptorNode originalTypeDesc,
+                                                     GeneratorMetaData generatorMetaData) {
         TypeDescriptorNode nillableType = originalTypeDesc;
-        boolean nullable = GeneratorMetaData.getInstance().isNullable();
+        boolean nullable = generatorMetaData.isNullable();
         if (schema.getNullable() != null) {
             if (schema.getNullable()) {
                 nillableType = createOptionalTypeDescriptorNode(originalTypeDesc, createToken(QUESTION_MARK_TOKEN));
@@ -169,6 +196,20 @@ public class TypeGeneratorUtils {
                                              TypeDescriptorNode fieldTypeName,
                                              PrintStream outStream) {
 
+        updateRecordFieldList(required, recordFieldList, field, fieldSchema, schemaDocNodes, fieldName,
+                fieldTypeName, outStream, GeneratorMetaData.getInstance());
+    }
+
+    public static void updateRecordFieldList(List<String> required,
+                                             List<Node> recordFieldList,
+                                             Map.Entry<String, Schema<?>> field,
+                                             Schema<?> fieldSchema,
+                                             NodeList<Node> schemaDocNodes,
+                                             IdentifierToken fieldName,
+                                             TypeDescriptorNode fieldTypeName,
+                                             PrintStream outStream,
+                                             GeneratorMetaData generatorMetaData) {
+
         MarkdownDocumentationNode documentationNode = createMarkdownDocumentationNode(schemaDocNodes);
         //Generate constraint annotation.
         AnnotationNode constraintNode = generateConstraintNode(fieldSchema);
@@ -177,7 +218,7 @@ public class TypeGeneratorUtils {
                 constraintNode != null && fieldSchema.getNullable() != null && fieldSchema.getNullable() ||
                         (fieldSchema instanceof ComposedSchema && (((ComposedSchema) fieldSchema).getOneOf() != null ||
                                 ((ComposedSchema) fieldSchema).getAnyOf() != null));
-        boolean nullable = GeneratorMetaData.getInstance().isNullable();
+        boolean nullable = generatorMetaData.isNullable();
         if (nullable) {
             constraintNode = null;
         } else if (isConstraintSupport) {
@@ -451,6 +492,17 @@ public class TypeGeneratorUtils {
      * @return Documentation node list
      */
     public static List<Node> getFieldApiDocs(Schema<?> field) {
+        return getFieldApiDocs(field, GeneratorMetaData.getInstance());
+    }
+
+    /**
+     * Creates API documentation for record fields.
+     *
+     * @param field             Schema of the field to generate
+     * @param generatorMetaData metadata of the generation run
+     * @return Documentation node list
+     */
+    public static List<Node> getFieldApiDocs(Schema<?> field, GeneratorMetaData generatorMetaData) {
 
         List<Node> schemaDoc = new ArrayList<>();
         if (field.getDescription() != null) {
@@ -459,7 +511,7 @@ public class TypeGeneratorUtils {
         } else if (field.get$ref() != null) {
             String[] split = field.get$ref().trim().split("/");
             String componentName = GeneratorUtils.getValidName(split[split.length - 1], true);
-            OpenAPI openAPI = GeneratorMetaData.getInstance().getOpenAPI();
+            OpenAPI openAPI = generatorMetaData.getOpenAPI();
             if (openAPI.getComponents().getSchemas().get(componentName) != null) {
                 Schema<?> schema = openAPI.getComponents().getSchemas().get(componentName);
                 if (schema.getDescription() != null) {
@@ -480,6 +532,20 @@ public class TypeGeneratorUtils {
      */
     public static void getRecordDocs(List<Node> documentation, Schema schemaValue,
                                      List<AnnotationNode> typeAnnotations) throws BallerinaOpenApiException {
+        getRecordDocs(documentation, schemaValue, typeAnnotations, GeneratorMetaData.getInstance());
+    }
+
+    /**
+     * Creates record documentation.
+     *
+     * @param documentation     Documentation node list
+     * @param schemaValue       OpenAPI schema
+     * @param typeAnnotations   Annotation list of the record
+     * @param generatorMetaData metadata of the generation run
+     */
+    public static void getRecordDocs(List<Node> documentation, Schema schemaValue,
+                                     List<AnnotationNode> typeAnnotations, GeneratorMetaData generatorMetaData)
+            throws BallerinaOpenApiException {
 
         if (schemaValue.getDescription() != null) {
             documentation.addAll(DocCommentsGenerator.createAPIDescriptionDoc(
@@ -487,7 +553,7 @@ public class TypeGeneratorUtils {
         } else if (schemaValue.get$ref() != null) {
             String typeName = GeneratorUtils.getValidName(GeneratorUtils.extractReferenceType(
                     schemaValue.get$ref()), true);
-            Schema<?> refSchema = GeneratorMetaData.getInstance().getOpenAPI().
+            Schema<?> refSchema = generatorMetaData.getOpenAPI().
                     getComponents().getSchemas().get(typeName);
             if (refSchema.getDescription() != null) {
                 documentation.addAll(DocCommentsGenerator.createAPIDescriptionDoc(
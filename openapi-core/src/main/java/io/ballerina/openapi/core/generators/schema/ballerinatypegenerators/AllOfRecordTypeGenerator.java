@@ -84,6 +84,10 @@ public class AllOfRecordTypeGenerator extends RecordTypeGenerator {
         super(schema, typeName);
     }
 
+    public AllOfRecordTypeGenerator(Schema schema, String typeName, GeneratorMetaData generatorMetaData) {
+        super(schema, typeName, generatorMetaData);
+    }
+
     /**
      * Generates TypeDescriptorNode for allOf schemas.
      */
@@ -100,13 +104,13 @@ public class AllOfRecordTypeGenerator extends RecordTypeGenerator {
         RecordRestDescriptorNode restDescriptorNode = recordMetadata.getRestDescriptorNode();
         if (allOfSchemas.size() == 1 && allOfSchemas.get(0).get$ref() != null) {
             ReferencedTypeGenerator referencedTypeGenerator = new ReferencedTypeGenerator(allOfSchemas.get(0),
-                    typeName);
+                    typeName, generatorMetaData);
             return referencedTypeGenerator.generateTypeDescriptorNode();
         } else {
             List<Node> recordFieldList = generateAllOfRecordFields(allOfSchemas);
             addAdditionalSchemas(schema);
-            restDescriptorNode =
-                    restSchemas.size() > 1 ? getRestDescriptorNodeForAllOf(restSchemas) : restDescriptorNode;
+            restDescriptorNode = restSchemas.size() > 1 ?
+                    getRestDescriptorNodeForAllOf(restSchemas, generatorMetaData) : restDescriptorNode;
 
             NodeList<Node> fieldNodes = AbstractNodeFactory.createNodeList(recordFieldList);
             return NodeFactory.createRecordTypeDescriptorNode(createToken(RECORD_KEYWORD),
@@ -128,7 +132,7 @@ public class AllOfRecordTypeGenerator extends RecordTypeGenerator {
                 TypeReferenceNode recordField = NodeFactory.createTypeReferenceNode(createToken(ASTERISK_TOKEN),
                         typeRef, createToken(SEMICOLON_TOKEN));
                 // check whether given reference schema has additional fields.
-                OpenAPI openAPI = GeneratorMetaData.getInstance().getOpenAPI();
+                OpenAPI openAPI = generatorMetaData.getOpenAPI();
                 Schema<?> refSchema = openAPI.getComponents().getSchemas().get(extractedSchemaName);
                 addAdditionalSchemas(refSchema);
 
@@ -159,9 +163,10 @@ public class AllOfRecordTypeGenerator extends RecordTypeGenerator {
      * ex: string|int...
      * @return
      */
-    private static RecordRestDescriptorNode getRestDescriptorNodeForAllOf(List<Schema<?>> restSchemas)
+    private static RecordRestDescriptorNode getRestDescriptorNodeForAllOf(List<Schema<?>> restSchemas,
+                                                                          GeneratorMetaData generatorMetaData)
             throws BallerinaOpenApiException {
-        TypeDescriptorNode unionType = getUnionType(restSchemas);
+        TypeDescriptorNode unionType = getUnionType(restSchemas, generatorMetaData);
         return NodeFactory.createRecordRestDescriptorNode(unionType, createToken(ELLIPSIS_TOKEN),
                 createToken(SEMICOLON_TOKEN));
     }
@@ -169,17 +174,19 @@ public class AllOfRecordTypeGenerator extends RecordTypeGenerator {
     /**
      * Creates the UnionType done for a given schema list.
      *
-     * @param schemas  List of schemas included in additional fields.
+     * @param schemas           List of schemas included in additional fields.
+     * @param generatorMetaData metadata of the generation run
      * @return Union type
      * @throws BallerinaOpenApiException when unsupported combination of schemas found
      */
-    private static TypeDescriptorNode getUnionType(List<Schema<?>> schemas) throws BallerinaOpenApiException {
+    private static TypeDescriptorNode getUnionType(List<Schema<?>> schemas, GeneratorMetaData generatorMetaData)
+            throws BallerinaOpenApiException {
 
         // TODO: this has issue with generating union type with `string?|int?...
         // this will be tracked via https://github.com/ballerina-platform/openapi-tools/issues/810
         List<TypeDescriptorNode> typeDescriptorNodes = new ArrayList<>();
         for (Schema schema : schemas) {
-            TypeGenerator typeGenerator = getTypeGenerator(schema, null, null);
+            TypeGenerator typeGenerator = getTypeGenerator(schema, null, null, generatorMetaData);
             TypeDescriptorNode typeDescriptorNode = typeGenerator.generateTypeDescriptorNode();
             typeDescriptorNodes.add(typeDescriptorNode);
             // error for rest field unhandled constraint support
@@ -75,6 +75,11 @@ public class ArrayTypeGenerator extends TypeGenerator {
         this.parentType = parentType;
     }
 
+    public ArrayTypeGenerator(Schema schema, String typeName, String parentType, GeneratorMetaData generatorMetaData) {
+        super(schema, typeName, generatorMetaData);
+        this.parentType = parentType;
+    }
+
     public TypeDefinitionNode getArrayItemWithConstraint() {
         return arrayItemWithConstraint;
     }
@@ -89,7 +94,7 @@ public class ArrayTypeGenerator extends TypeGenerator {
         assert schema instanceof ArraySchema;
         ArraySchema arraySchema = (ArraySchema) schema;
         Schema<?> items = arraySchema.getItems();
-        boolean isConstraintsAvailable = !GeneratorMetaData.getInstance().isNullable() && hasConstraints(items);
+        boolean isConstraintsAvailable = !generatorMetaData.isNullable() && hasConstraints(items);
         TypeGenerator typeGenerator;
         if (isConstraintsAvailable) {
             String normalizedTypeName = typeName.replaceAll(GeneratorConstants.SPECIAL_CHARACTER_REGEX, "").trim();
@@ -98,7 +103,7 @@ public class ArrayTypeGenerator extends TypeGenerator {
                             parentType + "-" + normalizedTypeName + "-Items-" + items.getType() :
                             normalizedTypeName + "-Items-" + items.getType(),
                     true);
-            typeGenerator = TypeGeneratorUtils.getTypeGenerator(items, typeName, null);
+            typeGenerator = TypeGeneratorUtils.getTypeGenerator(items, typeName, null, generatorMetaData);
             List<AnnotationNode> typeAnnotations = new ArrayList<>();
             AnnotationNode constraintNode = TypeGeneratorUtils.generateConstraintNode(items);
             if (constraintNode != null) {
@@ -109,7 +114,7 @@ public class ArrayTypeGenerator extends TypeGenerator {
                     new ArrayList<>(),
                     typeAnnotations);
         } else {
-            typeGenerator = TypeGeneratorUtils.getTypeGenerator(items, typeName, null);
+            typeGenerator = TypeGeneratorUtils.getTypeGenerator(items, typeName, null, generatorMetaData);
         }
 
         TypeDescriptorNode typeDescriptorNode;
@@ -148,6 +153,6 @@ public class ArrayTypeGenerator extends TypeGenerator {
         ArrayTypeDescriptorNode arrayTypeDescriptorNode = createArrayTypeDescriptorNode(typeDescriptorNode
                 , arrayDimensions);
 
-        return getNullableType(arraySchema, arrayTypeDescriptorNode);
+        return getNullableType(arraySchema, arrayTypeDescriptorNode, generatorMetaData);
     }
 }
@@ -23,6 +23,7 @@ import io.ballerina.openapi.core.GeneratorConstants;
 import io.ballerina.openapi.core.GeneratorUtils;
 import io.ballerina.openapi.core.exception.BallerinaOpenApiException;
 import io.ballerina.openapi.core.generators.schema.TypeGeneratorUtils;
+import io.ballerina.openapi.core.generators.schema.model.GeneratorMetaData;
 import io.swagger.v3.oas.models.media.Schema;
 
 import static io.ballerina.compiler.syntax.tree.AbstractNodeFactory.createIdentifierToken;
@@ -51,6 +52,10 @@ public class PrimitiveTypeGenerator extends TypeGenerator {
         super(schema, typeName);
     }
 
+    public PrimitiveTypeGenerator(Schema schema, String typeName, GeneratorMetaData generatorMetaData) {
+        super(schema, typeName, generatorMetaData);
+    }
+
     /**
      * Generate TypeDescriptorNode for primitive type schemas.
      * public type PetName string;
@@ -66,6 +71,6 @@ public class PrimitiveTypeGenerator extends TypeGenerator {
         }
         TypeDescriptorNode typeDescriptorNode = createSimpleNameReferenceNode(
                 createIdentifierToken(typeDescriptorName));
-        return TypeGeneratorUtils.getNullableType(schema, typeDescriptorNode);
+        return TypeGeneratorUtils.getNullableType(schema, typeDescriptorNode, generatorMetaData);
     }
 }
@@ -30,6 +30,7 @@ import io.ballerina.compiler.syntax.tree.TypeDescriptorNode;
 import io.ballerina.openapi.core.GeneratorUtils;
 import io.ballerina.openapi.core.exception.BallerinaOpenApiException;
 import io.ballerina.openapi.core.generators.schema.TypeGeneratorUtils;
+import io.ballerina.openapi.core.generators.schema.model.GeneratorMetaData;
 import io.ballerina.openapi.core.generators.schema.model.RecordMetadata;
 import io.swagger.v3.oas.models.media.ArraySchema;
 import io.swagger.v3.oas.models.media.BooleanSchema;
@@ -101,6 +102,10 @@ public class RecordTypeGenerator extends TypeGenerator {
     public RecordTypeGenerator(Schema schema, String typeName) {
         super(schema, typeName);
     }
+
+    public RecordTypeGenerator(Schema schema, String typeName, GeneratorMetaData generatorMetaData) {
+        super(schema, typeName, generatorMetaData);
+    }
     public List<TypeDefinitionNode> getTypeDefinitionNodeList() {
         return typeDefinitionNodeList;
     }
@@ -159,9 +164,9 @@ public class RecordTypeGenerator extends TypeGenerator {
                             "field.");
                 }
                 if (additionalPropSchema.get$ref() != null) {
-                    recordRestDescNode = getRestDescriptorNodeForReference(additionalPropSchema);
+                    recordRestDescNode = getRestDescriptorNodeForReference(additionalPropSchema, generatorMetaData);
                 } else if (additionalPropSchema.getType() != null) {
-                    recordRestDescNode = getRecordRestDescriptorNode(additionalPropSchema);
+                    recordRestDescNode = getRecordRestDescriptorNode(additionalPropSchema, generatorMetaData);
                 } else if (additionalPropSchema instanceof ComposedSchema) {
                     isOpenRecord = true;
                     OUT_STREAM.println("WARNING: generating Ballerina rest record field will be ignored for the " +
@@ -187,7 +192,17 @@ public class RecordTypeGenerator extends TypeGenerator {
      */
     public static RecordRestDescriptorNode getRestDescriptorNodeForReference(Schema<?> additionalPropSchema)
             throws BallerinaOpenApiException {
-        ReferencedTypeGenerator referencedTypeGenerator = new ReferencedTypeGenerator(additionalPropSchema, null);
+        return getRestDescriptorNodeForReference(additionalPropSchema, GeneratorMetaData.getInstance());
+    }
+
+    /**
+     * Creates reference rest node when additional property has reference.
+     */
+    public static RecordRestDescriptorNode getRestDescriptorNodeForReference(Schema<?> additionalPropSchema,
+                                                                             GeneratorMetaData generatorMetaData)
+            throws BallerinaOpenApiException {
+        ReferencedTypeGenerator referencedTypeGenerator = new ReferencedTypeGenerator(additionalPropSchema, null,
+                generatorMetaData);
         TypeDescriptorNode refNode = referencedTypeGenerator.generateTypeDescriptorNode();
         return NodeFactory.createRecordRestDescriptorNode(refNode, createToken(ELLIPSIS_TOKEN),
                 createToken(SEMICOLON_TOKEN));
@@ -203,6 +218,16 @@ public class RecordTypeGenerator extends TypeGenerator {
      */
     public static RecordRestDescriptorNode getRecordRestDescriptorNode(Schema<?> additionalPropSchema)
             throws BallerinaOpenApiException {
+        return getRecordRestDescriptorNode(additionalPropSchema, GeneratorMetaData.getInstance());
+    }
+
+    /**
+     * Generates {@code RecordRestDescriptorNode} for the additional properties in object schema with the metadata of
+     * the given generation run.
+     */
+    public static RecordRestDescriptorNode getRecordRestDescriptorNode(Schema<?> additionalPropSchema,
+                                                                       GeneratorMetaData generatorMetaData)
+            throws BallerinaOpenApiException {
 
         RecordRestDescriptorNode recordRestDescNode = null;
         if (additionalPropSchema instanceof NumberSchema && additionalPropSchema.getFormat() != null) {
@@ -210,23 +235,25 @@ public class RecordTypeGenerator extends TypeGenerator {
             String type = additionalPropSchema.getFormat();
             SimpleNameReferenceNode numberNode = NodeFactory.createSimpleNameReferenceNode(createIdentifierToken(type));
             recordRestDescNode = NodeFactory.createRecordRestDescriptorNode(
-                    TypeGeneratorUtils.getNullableType(additionalPropSchema, numberNode),
+                    TypeGeneratorUtils.getNullableType(additionalPropSchema, numberNode, generatorMetaData),
                     createToken(ELLIPSIS_TOKEN),
                     createToken(SEMICOLON_TOKEN));
         } else if (additionalPropSchema instanceof ObjectSchema || additionalPropSchema instanceof MapSchema) {
-            RecordTypeGenerator record = new RecordTypeGenerator(additionalPropSchema, null);
+            RecordTypeGenerator record = new RecordTypeGenerator(additionalPropSchema, null, generatorMetaData);
             TypeDescriptorNode recordNode = TypeGeneratorUtils.getNullableType(additionalPropSchema,
-                    record.generateTypeDescriptorNode());
+                    record.generateTypeDescriptorNode(), generatorMetaData);
             recordRestDescNode = NodeFactory.createRecordRestDescriptorNode(recordNode, createToken(ELLIPSIS_TOKEN),
                     createToken(SEMICOLON_TOKEN));
         } else if (additionalPropSchema instanceof ArraySchema) {
-            ArrayTypeGenerator arrayTypeGenerator = new ArrayTypeGenerator(additionalPropSchema, null, null);
+            ArrayTypeGenerator arrayTypeGenerator = new ArrayTypeGenerator(additionalPropSchema, null, null,
+                    generatorMetaData);
             TypeDescriptorNode arrayNode = arrayTypeGenerator.generateTypeDescriptorNode();
             recordRestDescNode = NodeFactory.createRecordRestDescriptorNode(arrayNode, createToken(ELLIPSIS_TOKEN),
                     createToken(SEMICOLON_TOKEN));
         } else if (additionalPropSchema instanceof IntegerSchema || additionalPropSchema instanceof StringSchema ||
                 additionalPropSchema instanceof BooleanSchema) {
-            PrimitiveTypeGenerator primitiveTypeGenerator = new PrimitiveTypeGenerator(additionalPropSchema, null);
+            PrimitiveTypeGenerator primitiveTypeGenerator = new PrimitiveTypeGenerator(additionalPropSchema, null,
+                    generatorMetaData);
             TypeDescriptorNode primitiveNode = primitiveTypeGenerator.generateTypeDescriptorNode();
             recordRestDescNode = NodeFactory.createRecordRestDescriptorNode(primitiveNode, createToken(ELLIPSIS_TOKEN),
                     createToken(SEMICOLON_TOKEN));
@@ -248,11 +275,12 @@ public class RecordTypeGenerator extends TypeGenerator {
             String fieldNameStr = GeneratorUtils.escapeIdentifier(field.getKey().trim());
             // API doc generations
             Schema<?> fieldSchema = field.getValue();
-            List<Node> schemaDoc = TypeGeneratorUtils.getFieldApiDocs(fieldSchema);
+            List<Node> schemaDoc = TypeGeneratorUtils.getFieldApiDocs(fieldSchema, generatorMetaData);
             NodeList<Node> schemaDocNodes = createNodeList(schemaDoc);
 
             IdentifierToken fieldName = AbstractNodeFactory.createIdentifierToken(fieldNameStr);
-            TypeGenerator typeGenerator = TypeGeneratorUtils.getTypeGenerator(fieldSchema, fieldNameStr, recordName);
+            TypeGenerator typeGenerator = TypeGeneratorUtils.getTypeGenerator(fieldSchema, fieldNameStr, recordName,
+                    generatorMetaData);
             TypeDescriptorNode fieldTypeName = typeGenerator.generateTypeDescriptorNode();
             if (typeGenerator instanceof ArrayTypeGenerator &&
                     ((ArrayTypeGenerator) typeGenerator).getArrayItemWithConstraint() != null) {
@@ -264,7 +292,7 @@ public class RecordTypeGenerator extends TypeGenerator {
                 typeDefinitionNodeList.addAll(newConstraintNode);
             }
             TypeGeneratorUtils.updateRecordFieldList(required, recordFieldList, field, fieldSchema, schemaDocNodes,
-                    fieldName, fieldTypeName);
+                    fieldName, fieldTypeName, System.err, generatorMetaData);
         }
         return recordFieldList;
     }
@@ -53,6 +53,10 @@ public class ReferencedTypeGenerator extends TypeGenerator {
         super(schema, typeName);
     }
 
+    public ReferencedTypeGenerator(Schema schema, String typeName, GeneratorMetaData generatorMetaData) {
+        super(schema, typeName, generatorMetaData);
+    }
+
     /**
      * Generate TypeDescriptorNode for referenced schemas.
      */
@@ -61,14 +65,14 @@ public class ReferencedTypeGenerator extends TypeGenerator {
 
         String extractName = GeneratorUtils.extractReferenceType(schema.get$ref());
         String typeName = GeneratorUtils.getValidName(extractName, true);
-        Schema<?> refSchema = GeneratorMetaData.getInstance().getOpenAPI().getComponents().getSchemas().get(typeName);
+        Schema<?> refSchema = generatorMetaData.getOpenAPI().getComponents().getSchemas().get(typeName);
         refSchema = refSchema == null ?
-                GeneratorMetaData.getInstance().getOpenAPI().getComponents().getSchemas().get(extractName) : refSchema;
+                generatorMetaData.getOpenAPI().getComponents().getSchemas().get(extractName) : refSchema;
         TypeDescriptorNode typeDescriptorNode = createSimpleNameReferenceNode(createIdentifierToken(typeName));
         if (refSchema == null) {
             throw new BallerinaOpenApiException(String.format("Undefined $ref: '%s' in openAPI contract.",
                     schema.get$ref()));
         }
-        return TypeGeneratorUtils.getNullableType(refSchema, typeDescriptorNode);
+        return TypeGeneratorUtils.getNullableType(refSchema, typeDescriptorNode, generatorMetaData);
     }
 }
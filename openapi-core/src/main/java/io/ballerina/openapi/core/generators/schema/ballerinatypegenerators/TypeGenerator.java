@@ -26,6 +26,7 @@ import io.ballerina.compiler.syntax.tree.Node;
 import io.ballerina.compiler.syntax.tree.TypeDefinitionNode;
 import io.ballerina.compiler.syntax.tree.TypeDescriptorNode;
 import io.ballerina.openapi.core.exception.BallerinaOpenApiException;
+import io.ballerina.openapi.core.generators.schema.model.GeneratorMetaData;
 import io.swagger.v3.oas.models.media.Schema;
 
 import java.util.List;
@@ -48,10 +49,19 @@ public abstract class TypeGenerator {
 
     Schema schema;
     String typeName;
+    final GeneratorMetaData generatorMetaData;
 
+    /**
+     * Creates the generator with the metadata bound to the current thread.
+     */
     public TypeGenerator(Schema schema, String typeName) {
+        this(schema, typeName, GeneratorMetaData.getInstance());
+    }
+
+    public TypeGenerator(Schema schema, String typeName, GeneratorMetaData generatorMetaData) {
         this.schema = schema;
         this.typeName = typeName;
+        this.generatorMetaData = generatorMetaData;
     }
 
     /**
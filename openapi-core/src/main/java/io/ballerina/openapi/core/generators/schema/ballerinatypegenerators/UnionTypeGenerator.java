@@ -64,6 +64,10 @@ public class UnionTypeGenerator extends TypeGenerator {
         super(schema, typeName);
     }
 
+    public UnionTypeGenerator(Schema<?> schema, String typeName, GeneratorMetaData generatorMetaData) {
+        super(schema, typeName, generatorMetaData);
+    }
+
     private final List<TypeDefinitionNode> typeDefinitionNodeList = new ArrayList<>();
 
     public List<TypeDefinitionNode> getTypeDefinitionNodeList() {
@@ -82,7 +86,7 @@ public class UnionTypeGenerator extends TypeGenerator {
             schemas = composedSchema.getAnyOf();
         }
         TypeDescriptorNode unionTypeDesc = getUnionType(schemas, typeName);
-        return TypeGeneratorUtils.getNullableType(schema, unionTypeDesc);
+        return TypeGeneratorUtils.getNullableType(schema, unionTypeDesc, generatorMetaData);
     }
 
     /**
@@ -98,9 +102,9 @@ public class UnionTypeGenerator extends TypeGenerator {
 
         List<TypeDescriptorNode> typeDescriptorNodes = new ArrayList<>();
         for (Schema<?> schema : schemas) {
-            TypeGenerator typeGenerator = getTypeGenerator(schema, typeName, null);
+            TypeGenerator typeGenerator = getTypeGenerator(schema, typeName, null, generatorMetaData);
             TypeDescriptorNode typeDescNode = typeGenerator.generateTypeDescriptorNode();
-            if (typeDescNode instanceof OptionalTypeDescriptorNode && GeneratorMetaData.getInstance().isNullable()) {
+            if (typeDescNode instanceof OptionalTypeDescriptorNode && generatorMetaData.isNullable()) {
                 Node internalTypeDesc = ((OptionalTypeDescriptorNode) typeDescNode).typeDescriptor();
                 typeDescNode = (TypeDescriptorNode) internalTypeDesc;
             }
@@ -18,30 +18,71 @@
 
 package io.ballerina.openapi.core.generators.schema.model;
 
+import io.ballerina.openapi.core.IdentifierNormalizer;
 import io.swagger.v3.oas.models.OpenAPI;
 
 /**
  * Stores metadata related to Ballerina types generation.
+ * <p>
+ * The metadata of a generation run is immutable, so that the independent contracts can be generated concurrently in
+ * the same process. The generators receive the metadata explicitly when they are created. The metadata is bound to
+ * the running thread with {@link #run(Task)} only while generating the syntax trees, to memoize the valid names of
+ * the run and to serve the generators created without metadata. The metadata created with
+ * {@link #createInstance(OpenAPI, boolean)} stays bound to the creating thread, for the callers which create the type
+ * generators directly.
+ * </p>
  *
  * @since 1.3.0
  */
 public class GeneratorMetaData {
 
+    private static final ThreadLocal<GeneratorMetaData> CURRENT = new ThreadLocal<>();
+
     private final OpenAPI openAPI;
     private final boolean nullable;
-    private static GeneratorMetaData generatorMetaData = null;
+    private final IdentifierNormalizer identifierNormalizer;
 
-    private GeneratorMetaData(OpenAPI openAPI, boolean nullable) {
+    public GeneratorMetaData(OpenAPI openAPI, boolean nullable) {
         this.openAPI = openAPI;
         this.nullable = nullable;
+        this.identifierNormalizer = new IdentifierNormalizer();
     }
 
-    public static void createInstance(OpenAPI openAPI, boolean nullable) {
-        generatorMetaData = new GeneratorMetaData(openAPI, nullable);
+    /**
+     * Creates the metadata and binds it to the current thread, so that the type generators created afterwards on the
+     * thread without metadata use it.
+     *
+     * @return created metadata
+     */
+    public static GeneratorMetaData createInstance(OpenAPI openAPI, boolean nullable) {
+        GeneratorMetaData generatorMetaData = new GeneratorMetaData(openAPI, nullable);
+        CURRENT.set(generatorMetaData);
+        return generatorMetaData;
     }
 
+    /**
+     * Returns the metadata bound to the current thread, null when no metadata is bound to the thread.
+     */
     public static GeneratorMetaData getInstance() {
-        return generatorMetaData;
+        return CURRENT.get();
+    }
+
+    /**
+     * Runs the given task with this metadata bound to the current thread and restores the previously bound metadata
+     * afterwards.
+     */
+    public <T, E extends Exception> T run(Task<T, E> task) throws E {
+        GeneratorMetaData previous = CURRENT.get();
+        CURRENT.set(this);
+        try {
+            return task.run();
+        } finally {
+            if (previous == null) {
+                CURRENT.remove();
+            } else {
+                CURRENT.set(previous);
+            }
+        }
     }
 
     public OpenAPI getOpenAPI() {
@@ -51,4 +92,22 @@ public class GeneratorMetaData {
     public boolean isNullable() {
         return nullable;
     }
+
+    /**
+     * Returns the normalizer of the names of the run, which memoizes the valid names of the contract.
+     */
+    public IdentifierNormalizer getIdentifierNormalizer() {
+        return identifierNormalizer;
+    }
+
+    /**
+     * Generation task run with the metadata bound.
+     *
+     * @param <T> result of the task
+     * @param <E> exception thrown by the task
+     */
+    @FunctionalInterface
+    public interface Task<T, E extends Exception> {
+        T run() throws E;
+    }
 }
@@ -42,9 +42,9 @@ import io.ballerina.compiler.syntax.tree.Token;
 import io.ballerina.compiler.syntax.tree.TypeDefinitionNode;
 import io.ballerina.openapi.core.GeneratorConstants;
 import io.ballerina.openapi.core.GeneratorUtils;
+import io.ballerina.openapi.core.TypeDefinitionRegistry;
 import io.ballerina.openapi.core.exception.BallerinaOpenApiException;
 import io.ballerina.openapi.core.generators.schema.BallerinaTypesGenerator;
-import io.ballerina.openapi.core.generators.schema.model.GeneratorMetaData;
 import io.ballerina.openapi.core.generators.service.model.OASServiceMetadata;
 import io.ballerina.openapi.core.model.Filter;
 import io.ballerina.tools.text.TextDocument;
@@ -59,7 +59,6 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.LinkedHashSet;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
@@ -101,8 +100,7 @@ public class BallerinaServiceGenerator {
         this.filter = oasServiceMetadata.getFilters();
         this.isNullableRequired = false;
         this.ballerinaSchemaGenerator = new BallerinaTypesGenerator(openAPI, oasServiceMetadata.isNullable(),
-                new LinkedList<>());
-        GeneratorMetaData.createInstance(openAPI, oasServiceMetadata.isNullable());
+                new TypeDefinitionRegistry());
     }
 
     public List<TypeDefinitionNode> getTypeInclusionRecords() {
@@ -114,6 +112,10 @@ public class BallerinaServiceGenerator {
     }
 
     public SyntaxTree generateSyntaxTree() throws BallerinaOpenApiException {
+        return ballerinaSchemaGenerator.getGeneratorMetaData().run(this::generateService);
+    }
+
+    private SyntaxTree generateService() throws BallerinaOpenApiException {
         // Create imports http and openapi
         NodeList<ImportDeclarationNode> imports = createImportDeclarationNodes();
         // Need to Generate Base path
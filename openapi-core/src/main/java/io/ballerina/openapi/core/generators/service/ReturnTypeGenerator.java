@@ -90,7 +90,7 @@ public class ReturnTypeGenerator {
 
     private final BallerinaTypesGenerator ballerinaSchemaGenerator;
     private final String pathRecord;
-    private static int countForRecord = 0;
+    private int countForRecord = 0;
     private String httpMethod;
 
     private final Map<String, TypeDefinitionNode> typeInclusionRecords = new HashMap<>();
@@ -99,12 +99,8 @@ public class ReturnTypeGenerator {
         return this.typeInclusionRecords;
     }
 
-    public static void setCount(int count) {
-        ReturnTypeGenerator.countForRecord = count;
-    }
-
     public void setCountForRecord(int count) {
-        setCount(count);
+        this.countForRecord = count;
     }
 
     public ReturnTypeGenerator(BallerinaTypesGenerator ballerinaSchemaGenerator, String pathRecord) {
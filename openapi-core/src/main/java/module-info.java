@@ -30,7 +30,9 @@ module io.ballerina.openapi.core {
     requires io.ballerina.openapi.converter;
     requires io.swagger.v3.core;
     requires io.swagger.v3.oas.models;
+    requires java.management;
     requires java.ws.rs;
+    requires jdk.management;
     requires jsr305;
     requires org.apache.commons.io;
     requires org.slf4j;
@@ -148,6 +148,14 @@ public class OpenApiExtensionTest {
         Assert.assertTrue(info.messageFormat().contains("OpenAPI contract does not exist in the given location"));
     }
 
+    @Test
+    public void testGeneratedDocEmbedToServiceConfig() {
+        Package currentPackage = loadPackage("sample_13", false);
+        PackageCompilation compilation = currentPackage.getCompilation();
+        Assert.assertEquals(compilation.diagnosticResult().errorCount(), 0);
+        Assert.assertTrue(noOpenApiWarningAvailable(compilation));
+    }
+
     private Package loadPackage(String path, boolean isSingleFile) {
         Path projectDirPath = RESOURCE_DIRECTORY.resolve(path);
         if (isSingleFile) {
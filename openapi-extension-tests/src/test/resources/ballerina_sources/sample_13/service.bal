@@ -0,0 +1,47 @@
+// Copyright (c) 2022, WSO2 LLC. (http://www.wso2.com) All Rights Reserved.
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/http;
+import ballerina/openapi;
+
+public type Pet record {
+    int id;
+    string name;
+    string tag?;
+};
+
+@openapi:ServiceInfo {
+    embed: true
+}
+@http:ServiceConfig {compression: {enable: http:COMPRESSION_AUTO}}
+service /pets on new http:Listener(9090) {
+    resource function get .() returns Pet[] {
+        return [];
+    }
+
+    resource function get [int id]() returns Pet {
+        return {id: id, name: "Pet"};
+    }
+}
+
+@openapi:ServiceInfo {
+    embed: true
+}
+service /owners on new http:Listener(9091) {
+    resource function get greeting() returns string {
+        return "Hello, World!";
+    }
+}
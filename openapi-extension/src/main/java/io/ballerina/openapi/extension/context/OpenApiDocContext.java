@@ -22,6 +22,9 @@ import io.ballerina.projects.ModuleId;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 
 
 /**
@@ -30,7 +33,7 @@ import java.util.List;
 public class OpenApiDocContext {
     private final ModuleId moduleId;
     private final DocumentId documentId;
-    private final List<OpenApiDefinition> definitions = new ArrayList<>();
+    private final Map<Integer, OpenApiDefinition> definitions = new ConcurrentHashMap<>();
 
     OpenApiDocContext(ModuleId moduleId, DocumentId documentId) {
         this.moduleId = moduleId;
@@ -46,11 +49,19 @@ public class OpenApiDocContext {
     }
 
     public List<OpenApiDefinition> getOpenApiDetails() {
-        return Collections.unmodifiableList(definitions);
+        return Collections.unmodifiableList(new ArrayList<>(definitions.values()));
+    }
+
+    /**
+     * Returns the open-api definition of the service of the given id.
+     */
+    public Optional<OpenApiDefinition> getOpenApiDefinition(int serviceId) {
+        return Optional.ofNullable(definitions.get(serviceId));
     }
 
     void updateOpenApiDetails(OpenApiDefinition definition) {
-        this.definitions.add(definition);
+        // The first definition of a service is kept, as the services are looked up by the first match
+        this.definitions.putIfAbsent(definition.getServiceId(), definition);
     }
 
     /**
@@ -22,19 +22,24 @@ import io.ballerina.projects.ModuleId;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
-import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * {@code OpenApiDocContextHandler} will manage the shared context among compiler plugin tasks.
+ * <p>
+ * The contexts are indexed by their module and document, hence the analysis tasks of the documents which run in
+ * parallel update the contexts of their documents without locking the others.
+ * </p>
  */
 public final class OpenApiDocContextHandler {
     private static OpenApiDocContextHandler INSTANCE;
 
-    private final List<OpenApiDocContext> contexts;
+    private final Map<ContextKey, OpenApiDocContext> contexts;
 
     private OpenApiDocContextHandler() {
-        this.contexts = new ArrayList<>();
+        this.contexts = new ConcurrentHashMap<>();
     }
 
     public static OpenApiDocContextHandler getContextHandler() {
@@ -47,9 +52,7 @@ public final class OpenApiDocContextHandler {
     }
 
     public void addContext(OpenApiDocContext context) {
-        synchronized (this.contexts) {
-            this.contexts.add(context);
-        }
+        this.contexts.putIfAbsent(new ContextKey(context.getModuleId(), context.getDocumentId()), context);
     }
 
     /**
@@ -60,31 +63,41 @@ public final class OpenApiDocContextHandler {
      */
     public void updateContext(ModuleId moduleId, DocumentId documentId,
                               OpenApiDocContext.OpenApiDefinition definition) {
-        Optional<OpenApiDocContext> contextOpt = retrieveContext(moduleId, documentId);
-        if (contextOpt.isPresent()) {
-            OpenApiDocContext context = contextOpt.get();
-            synchronized (context) {
-                context.updateOpenApiDetails(definition);
-            }
-            return;
-        }
-        OpenApiDocContext context = new OpenApiDocContext(moduleId, documentId);
-        context.updateOpenApiDetails(definition);
-        addContext(context);
-    }
-
-    private Optional<OpenApiDocContext> retrieveContext(ModuleId moduleId, DocumentId documentId) {
-        return this.contexts.stream()
-                .filter(ctx -> equals(ctx, moduleId, documentId))
-                .findFirst();
+        this.contexts.computeIfAbsent(new ContextKey(moduleId, documentId),
+                key -> new OpenApiDocContext(moduleId, documentId)).updateOpenApiDetails(definition);
     }
 
     public List<OpenApiDocContext> retrieveAvailableContexts() {
-        return Collections.unmodifiableList(contexts);
+        return Collections.unmodifiableList(new ArrayList<>(contexts.values()));
     }
 
-    private boolean equals(OpenApiDocContext context, ModuleId moduleId, DocumentId documentId) {
-        int hashCodeForCurrentContext = Objects.hash(context.getModuleId(), context.getDocumentId());
-        return hashCodeForCurrentContext == Objects.hash(moduleId, documentId);
+    /**
+     * Key of the context of a document.
+     */
+    private static final class ContextKey {
+        private final ModuleId moduleId;
+        private final DocumentId documentId;
+
+        private ContextKey(ModuleId moduleId, DocumentId documentId) {
+            this.moduleId = moduleId;
+            this.documentId = documentId;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof ContextKey)) {
+                return false;
+            }
+            ContextKey that = (ContextKey) o;
+            return moduleId.equals(that.moduleId) && documentId.equals(that.documentId);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(moduleId, documentId);
+        }
     }
 }
@@ -0,0 +1,89 @@
+/*
+ * Copyright (c) 2022, WSO2 LLC. (http://www.wso2.com). All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.openapi.extension.doc;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import io.ballerina.compiler.syntax.tree.AbstractNodeFactory;
+import io.ballerina.compiler.syntax.tree.ExpressionNode;
+import io.ballerina.compiler.syntax.tree.FunctionArgumentNode;
+import io.ballerina.compiler.syntax.tree.NodeFactory;
+import io.ballerina.compiler.syntax.tree.SyntaxKind;
+import io.swagger.v3.core.util.Json;
+import io.swagger.v3.oas.models.OpenAPI;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.Base64;
+import java.util.Locale;
+
+/**
+ * {@code EmbeddedOpenApiDefinition} contains the utilities to embed the open-api definition of a service to its
+ * {@code http:ServiceConfig} annotation.
+ * <p>
+ * The definition is embedded as compact JSON, without the indentation of the pretty printed form, and the
+ * {@code base64 `...`.cloneReadOnly()} expression is built as syntax nodes instead of being parsed from its source.
+ * </p>
+ *
+ * @since 1.4.0
+ */
+public final class EmbeddedOpenApiDefinition {
+    private static final String JSON_EXTENSION = ".json";
+    private static final String CLONE_READ_ONLY = "cloneReadOnly";
+
+    private EmbeddedOpenApiDefinition() {
+    }
+
+    /**
+     * Serializes the given open-api definition to compact JSON.
+     */
+    public static String serialize(OpenAPI openApi) throws JsonProcessingException {
+        return Json.mapper().writeValueAsString(openApi);
+    }
+
+    /**
+     * Returns the compact form of the given contract, the JSON contracts are written without the whitespaces and the
+     * other contracts are returned as they are.
+     */
+    public static String compact(String contract, Path contractPath) throws JsonProcessingException {
+        if (!contractPath.toString().toLowerCase(Locale.ENGLISH).endsWith(JSON_EXTENSION)) {
+            return contract;
+        }
+        return Json.mapper().writeValueAsString(Json.mapper().readTree(contract));
+    }
+
+    /**
+     * Creates the {@code base64 `...`.cloneReadOnly()} expression of the given definition.
+     */
+    public static ExpressionNode createDefinitionExpression(String openApiDefinition) {
+        String encodedValue = Base64.getEncoder()
+                .encodeToString(openApiDefinition.getBytes(StandardCharsets.UTF_8));
+        ExpressionNode byteArrayLiteral = NodeFactory.createByteArrayLiteralNode(
+                AbstractNodeFactory.createToken(SyntaxKind.BASE64_KEYWORD),
+                AbstractNodeFactory.createToken(SyntaxKind.BACKTICK_TOKEN),
+                AbstractNodeFactory.createLiteralValueToken(SyntaxKind.TEMPLATE_STRING, encodedValue,
+                        AbstractNodeFactory.createEmptyMinutiaeList(), AbstractNodeFactory.createEmptyMinutiaeList()),
+                AbstractNodeFactory.createToken(SyntaxKind.BACKTICK_TOKEN));
+        return NodeFactory.createMethodCallExpressionNode(byteArrayLiteral,
+                AbstractNodeFactory.createToken(SyntaxKind.DOT_TOKEN),
+                NodeFactory.createSimpleNameReferenceNode(AbstractNodeFactory.createIdentifierToken(CLONE_READ_ONLY)),
+                AbstractNodeFactory.createToken(SyntaxKind.OPEN_PAREN_TOKEN),
+                AbstractNodeFactory.<FunctionArgumentNode>createSeparatedNodeList(),
+                AbstractNodeFactory.createToken(SyntaxKind.CLOSE_PAREN_TOKEN));
+    }
+}
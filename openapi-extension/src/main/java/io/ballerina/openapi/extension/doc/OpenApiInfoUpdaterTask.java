@@ -29,7 +29,6 @@ import io.ballerina.compiler.syntax.tree.ModulePartNode;
 import io.ballerina.compiler.syntax.tree.Node;
 import io.ballerina.compiler.syntax.tree.NodeFactory;
 import io.ballerina.compiler.syntax.tree.NodeList;
-import io.ballerina.compiler.syntax.tree.NodeParser;
 import io.ballerina.compiler.syntax.tree.QualifiedNameReferenceNode;
 import io.ballerina.compiler.syntax.tree.SeparatedNodeList;
 import io.ballerina.compiler.syntax.tree.ServiceDeclarationNode;
@@ -49,9 +48,7 @@ import io.ballerina.projects.plugins.SourceModifierContext;
 import io.ballerina.tools.diagnostics.DiagnosticSeverity;
 import io.ballerina.tools.text.TextDocument;
 
-import java.nio.charset.Charset;
 import java.util.ArrayList;
-import java.util.Base64;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Optional;
@@ -83,7 +80,7 @@ public class OpenApiInfoUpdaterTask implements ModifierTask<SourceModifierContex
             SemanticModel semanticModel = context.compilation().getSemanticModel(moduleId);
             ModulePartNode rootNode = currentDoc.syntaxTree().rootNode();
             NodeList<ModuleMemberDeclarationNode> newMembers = updateMemberNodes(
-                    rootNode.members(), openApiContext.getOpenApiDetails(), semanticModel);
+                    rootNode.members(), openApiContext, semanticModel);
             ModulePartNode newModulePart = rootNode.modify(rootNode.imports(), newMembers, rootNode.eofToken());
             SyntaxTree updatedSyntaxTree = currentDoc.syntaxTree().modifyWith(newModulePart);
             TextDocument textDocument = updatedSyntaxTree.textDocument();
@@ -96,7 +93,7 @@ public class OpenApiInfoUpdaterTask implements ModifierTask<SourceModifierContex
     }
 
     private NodeList<ModuleMemberDeclarationNode> updateMemberNodes(NodeList<ModuleMemberDeclarationNode> oldMembers,
-                                                                    List<OpenApiDocContext.OpenApiDefinition> openApi,
+                                                                    OpenApiDocContext openApiContext,
                                                                     SemanticModel semanticModel) {
         List<ModuleMemberDeclarationNode> updatedMembers = new LinkedList<>();
         for (ModuleMemberDeclarationNode memberNode : oldMembers) {
@@ -106,10 +103,7 @@ public class OpenApiInfoUpdaterTask implements ModifierTask<SourceModifierContex
             }
             ServiceDeclarationNode serviceNode = (ServiceDeclarationNode) memberNode;
             Optional<OpenApiDocContext.OpenApiDefinition> openApiDefOpt = semanticModel.symbol(serviceNode)
-                    .flatMap(symbol ->
-                            openApi.stream()
-                                    .filter(service -> service.getServiceId() == symbol.hashCode())
-                                    .findFirst());
+                    .flatMap(symbol -> openApiContext.getOpenApiDefinition(symbol.hashCode()));
             if (openApiDefOpt.isEmpty()) {
                 updatedMembers.add(memberNode);
                 continue;
@@ -212,9 +206,7 @@ public class OpenApiInfoUpdaterTask implements ModifierTask<SourceModifierContex
     private static SpecificFieldNode createOpenApiDefinitionField(String openApiDefinition) {
         IdentifierToken fieldName = AbstractNodeFactory.createIdentifierToken(Constants.OPEN_API_DEFINITION_FIELD);
         Token colonToken = AbstractNodeFactory.createToken(SyntaxKind.COLON_TOKEN);
-        String encodedValue = Base64.getEncoder().encodeToString(openApiDefinition.getBytes(Charset.defaultCharset()));
-        ExpressionNode expressionNode = NodeParser.parseExpression(
-                String.format("base64 `%s`.cloneReadOnly()", encodedValue));
+        ExpressionNode expressionNode = EmbeddedOpenApiDefinition.createDefinitionExpression(openApiDefinition);
         return NodeFactory.createSpecificFieldNode(null, fieldName, colonToken, expressionNode);
     }
 
@@ -31,10 +31,10 @@ import io.ballerina.openapi.converter.utils.ServiceToOpenAPIConverterUtils;
 import io.ballerina.openapi.extension.Constants;
 import io.ballerina.openapi.extension.OpenApiDiagnosticCode;
 import io.ballerina.openapi.extension.context.OpenApiDocContext;
+import io.ballerina.openapi.extension.doc.EmbeddedOpenApiDefinition;
 import io.ballerina.projects.Package;
 import io.ballerina.projects.plugins.SyntaxNodeAnalysisContext;
 import io.ballerina.tools.diagnostics.Diagnostic;
-import io.swagger.v3.core.util.Json;
 import io.swagger.v3.oas.models.OpenAPI;
 
 import java.io.IOException;
@@ -89,7 +89,11 @@ public abstract class AbstractOpenApiDocGenerator implements OpenApiDocGenerator
                     if (resolverResponse.getContractPath().isEmpty()) {
                         return;
                     }
-                    String openApiDefinition = Files.readString(resolverResponse.getContractPath().get());
+                    Path contractPath = resolverResponse.getContractPath().get();
+                    String openApiDefinition = Files.readString(contractPath);
+                    if (embed) {
+                        openApiDefinition = EmbeddedOpenApiDefinition.compact(openApiDefinition, contractPath);
+                    }
                     updateOpenApiContext(context, serviceId, openApiDefinition, embed);
                 } else {
                     // generate open-api doc and update the context if the `contract` configuration is not available
@@ -146,7 +150,7 @@ public abstract class AbstractOpenApiDocGenerator implements OpenApiDocGenerator
     }
 
     private void generateOpenApiDoc(OpenApiDocConfig config, SyntaxNodeAnalysisContext context, NodeLocation location,
-                                    boolean embed) {
+                                    boolean embed) throws IOException {
         if (!embed) {
             return;
         }
@@ -166,7 +170,7 @@ public abstract class AbstractOpenApiDocGenerator implements OpenApiDocGenerator
         if (openApi.getInfo().getTitle() == null || openApi.getInfo().getTitle().equals(SLASH)) {
             openApi.getInfo().setTitle(normalizeTitle(targetFile));
         }
-        String openApiDefinition = Json.pretty(openApi);
+        String openApiDefinition = EmbeddedOpenApiDefinition.serialize(openApi);
         updateOpenApiContext(context, serviceId, openApiDefinition, embed);
     }
 
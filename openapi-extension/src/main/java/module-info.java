@@ -15,6 +15,8 @@
  */
 
 module ballerina.openapi.extension {
+    requires com.fasterxml.jackson.core;
+    requires com.fasterxml.jackson.databind;
     requires io.swagger.v3.core;
     requires io.swagger.v3.oas.models;
     requires io.ballerina.lang;
@@ -26,6 +26,7 @@ package io.ballerina.openapi.extension;
 public class OpenAPIConverterRequest {
 
     private String documentFilePath;
+    private boolean parallel;
 
     public OpenAPIConverterRequest(String documentFilePath) {
         this.documentFilePath = documentFilePath;
@@ -38,4 +39,16 @@ public class OpenAPIConverterRequest {
     public void setDocumentFilePath(String documentFilePath) {
         this.documentFilePath = documentFilePath;
     }
+
+    /**
+     * Returns whether the services of a document are generated in parallel, which is disabled unless the client
+     * requests it.
+     */
+    public boolean isParallel() {
+        return parallel;
+    }
+
+    public void setParallel(boolean parallel) {
+        this.parallel = parallel;
+    }
 }
@@ -24,7 +24,6 @@ import com.google.gson.GsonBuilder;
 import com.google.gson.JsonArray;
 import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
-import com.google.gson.JsonParser;
 import io.ballerina.compiler.api.SemanticModel;
 import io.ballerina.compiler.syntax.tree.SyntaxTree;
 import io.ballerina.openapi.converter.diagnostic.OpenAPIConverterDiagnostic;
@@ -45,6 +44,7 @@ import org.eclipse.lsp4j.jsonrpc.services.JsonRequest;
 import org.eclipse.lsp4j.jsonrpc.services.JsonSegment;
 import org.eclipse.lsp4j.services.LanguageServer;
 
+import java.io.UncheckedIOException;
 import java.net.MalformedURLException;
 import java.net.URISyntaxException;
 import java.net.URL;
@@ -70,11 +70,14 @@ public class OpenAPIConverterService implements ExtendedLanguageServerService {
     private static final String SEVERITY = "severity";
     private static final String LOCATION = "location";
     private static final String FILE = "file";
+    private static final Gson GSON = new GsonBuilder().serializeNulls().create();
+    private final OpenAPISpecCache specCache = new OpenAPISpecCache();
     private WorkspaceManager workspaceManager;
 
     @Override
     public void init(LanguageServer langServer, WorkspaceManager workspaceManager) {
         this.workspaceManager = workspaceManager;
+        this.specCache.clear();
     }
 
     @Override
@@ -146,17 +149,30 @@ public class OpenAPIConverterService implements ExtendedLanguageServerService {
                 return response;
             }
             Module defaultModule = aPackage.getDefaultModule();
+            Path projectRoot = module.get().sourceRoot();
+            Collection<DocumentId> documentIds = defaultModule.documentIds();
+            specCache.retainDocuments(projectRoot, documentIds);
+            // The specs of the documents which are not edited since the last request are reused
+            String declarationsHash = specCache.getDeclarationsHash(aPackage);
 
             JsonArray specs = new JsonArray();
-            for (DocumentId currentDocumentID : defaultModule.documentIds()) {
+            for (DocumentId currentDocumentID : documentIds) {
                 Document document = defaultModule.document(currentDocumentID);
-                Optional<Path> path = defaultModule.project().documentPath(currentDocumentID);
-                Path inputPath = path.orElse(null);
                 SyntaxTree syntaxTree = document.syntaxTree();
-                List<OASResult> oasResults = ServiceToOpenAPIConverterUtils.generateOAS3Definition(
-                        syntaxTree, semanticModel.get(), null, false, inputPath);
-
-                generateServiceJson(response, document.syntaxTree().filePath(), oasResults, specs);
+                Path inputPath = defaultModule.project().documentPath(currentDocumentID).orElse(null);
+                String contractStamps = OpenAPISpecCache.getContractStamps(syntaxTree, inputPath);
+                Optional<OpenAPISpecCache.DocumentSpecs> documentSpecs =
+                        specCache.get(currentDocumentID, syntaxTree, declarationsHash, contractStamps);
+                if (documentSpecs.isEmpty()) {
+                    // Services of a document are independent, hence they are generated in parallel when requested
+                    List<OASResult> oasResults = ServiceToOpenAPIConverterUtils.generateOAS3Definition(
+                            syntaxTree, semanticModel.get(), null, false, inputPath, request.isParallel());
+                    documentSpecs = Optional.of(generateServiceJson(syntaxTree.filePath(), oasResults));
+                    specCache.put(currentDocumentID, projectRoot, syntaxTree, declarationsHash, contractStamps,
+                            documentSpecs.get());
+                }
+                specs.addAll(documentSpecs.get().getSpecs());
+                documentSpecs.get().getError().ifPresent(response::setError);
             }
             response.setContent(specs);
             return response;
@@ -164,25 +180,27 @@ public class OpenAPIConverterService implements ExtendedLanguageServerService {
     }
 
     /**
-     * Generate openAPI json for a service.
+     * Generate openAPI json for the services of a document.
      *
-     * @param response     OpenAPIConverterResponse to set error message
      * @param document     Ballerina document path
      * @param oasResults   OAS Results list
-     * @param specs        Specs array to add the service
+     * @return specs of the services with the error message if the generation of a service failed
      */
-    private void generateServiceJson(OpenAPIConverterResponse response, String document,
-                                     List<OASResult> oasResults, JsonArray specs) {
+    private OpenAPISpecCache.DocumentSpecs generateServiceJson(String document, List<OASResult> oasResults) {
+        JsonArray specs = new JsonArray();
+        String error = null;
         for (OASResult oasResult : oasResults) {
             if (oasResult.getOpenAPI().isEmpty()) {
-                response.setError("Error occurred while generating yaml.");
+                error = "Error occurred while generating yaml.";
                 continue;
             }
-            if (oasResult.getJson().isEmpty()) {
+            JsonElement json;
+            try {
+                json = OpenAPIJsonConverter.toJsonObject(oasResult.getOpenAPI().get());
+            } catch (UncheckedIOException e) {
                 continue;
             }
             JsonObject spec = new JsonObject();
-            JsonElement json = JsonParser.parseString(oasResult.getJson().get()).getAsJsonObject();
             JsonArray diagnosticsJson = getDiagnosticsJson(oasResult);
 
             spec.addProperty(SERVICE_NAME, oasResult.getOpenAPI().get().getInfo().getTitle());
@@ -191,6 +209,7 @@ public class OpenAPIConverterService implements ExtendedLanguageServerService {
             spec.add(DIAGNOSTICS, diagnosticsJson);
             specs.add(spec);
         }
+        return new OpenAPISpecCache.DocumentSpecs(specs, error);
     }
 
     /**
@@ -207,12 +226,8 @@ public class OpenAPIConverterService implements ExtendedLanguageServerService {
             diagnosticJson.addProperty(MESSAGE, diagnostic.getMessage());
             diagnosticJson.addProperty(SEVERITY, diagnostic.getDiagnosticSeverity().name());
             Optional<Location> diagnosticLocation = diagnostic.getLocation();
-            if (diagnosticLocation.isPresent()) {
-                GsonBuilder builder = new GsonBuilder();
-                builder.serializeNulls();
-                Gson gson = builder.create();
-                diagnosticJson.add(LOCATION, gson.toJsonTree(diagnosticLocation.get().lineRange()));
-            }
+            diagnosticLocation.ifPresent(location ->
+                    diagnosticJson.add(LOCATION, GSON.toJsonTree(location.lineRange())));
             diagnosticsJson.add(diagnosticJson);
         }
         return diagnosticsJson;
@@ -0,0 +1,114 @@
+/*
+ * Copyright (c) 2022, WSO2 LLC. (http://www.wso2.com). All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.openapi.extension;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.util.RawValue;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonNull;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonPrimitive;
+import io.swagger.v3.core.util.Json;
+import io.swagger.v3.oas.models.OpenAPI;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Base64;
+
+/**
+ * Converts the OpenAPI model to the Gson tree of the LS extension responses.
+ * <p>
+ * The model is serialized with the shared object mapper of the swagger library, hence with the same serializers as
+ * the JSON form of {@code OASResult}, but into a token buffer instead of a pretty printed string, and the tokens are
+ * read straight into the Gson tree. So the JSON text is neither formatted nor parsed again.
+ * </p>
+ *
+ * @since 1.4.0
+ */
+public final class OpenAPIJsonConverter {
+
+    private OpenAPIJsonConverter() {
+    }
+
+    /**
+     * Returns the JSON tree of the given OpenAPI definition.
+     */
+    public static JsonObject toJsonObject(OpenAPI openAPI) {
+        ObjectMapper mapper = Json.mapper();
+        try (TokenBuffer tokens = new TokenBuffer(mapper, false)) {
+            mapper.writeValue(tokens, openAPI);
+            try (JsonParser parser = tokens.asParser(mapper)) {
+                return readValue(parser, parser.nextToken()).getAsJsonObject();
+            }
+        } catch (IOException e) {
+            // The tokens are buffered in memory, hence only a serializer of the model can fail
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static JsonElement readValue(JsonParser parser, JsonToken token) throws IOException {
+        switch (token) {
+            case START_OBJECT:
+                JsonObject object = new JsonObject();
+                for (token = parser.nextToken(); token == JsonToken.FIELD_NAME; token = parser.nextToken()) {
+                    String fieldName = parser.getCurrentName();
+                    object.add(fieldName, readValue(parser, parser.nextToken()));
+                }
+                return object;
+            case START_ARRAY:
+                JsonArray array = new JsonArray();
+                for (token = parser.nextToken(); token != JsonToken.END_ARRAY; token = parser.nextToken()) {
+                    array.add(readValue(parser, token));
+                }
+                return array;
+            case VALUE_STRING:
+                return new JsonPrimitive(parser.getText());
+            case VALUE_NUMBER_INT:
+            case VALUE_NUMBER_FLOAT:
+                return new JsonPrimitive(parser.getNumberValue());
+            case VALUE_TRUE:
+                return new JsonPrimitive(true);
+            case VALUE_FALSE:
+                return new JsonPrimitive(false);
+            case VALUE_EMBEDDED_OBJECT:
+                return readEmbeddedValue(parser.getEmbeddedObject());
+            default:
+                return JsonNull.INSTANCE;
+        }
+    }
+
+    /**
+     * Reads the values which are buffered as they are written to the generator instead of as tokens.
+     */
+    private static JsonElement readEmbeddedValue(Object embedded) {
+        if (embedded == null) {
+            return JsonNull.INSTANCE;
+        } else if (embedded instanceof byte[]) {
+            // Binary values are written as base64 text
+            return new JsonPrimitive(Base64.getEncoder().encodeToString((byte[]) embedded));
+        } else if (embedded instanceof RawValue) {
+            return com.google.gson.JsonParser.parseString(String.valueOf(((RawValue) embedded).rawValue()));
+        }
+        return new JsonPrimitive(embedded.toString());
+    }
+}
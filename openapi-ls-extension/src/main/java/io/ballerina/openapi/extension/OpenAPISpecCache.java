@@ -0,0 +1,300 @@
+/*
+ * Copyright (c) 2022, WSO2 LLC. (http://www.wso2.com). All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.openapi.extension;
+
+import com.google.gson.JsonArray;
+import io.ballerina.compiler.syntax.tree.AnnotationNode;
+import io.ballerina.compiler.syntax.tree.ImportDeclarationNode;
+import io.ballerina.compiler.syntax.tree.MappingFieldNode;
+import io.ballerina.compiler.syntax.tree.MetadataNode;
+import io.ballerina.compiler.syntax.tree.ModuleMemberDeclarationNode;
+import io.ballerina.compiler.syntax.tree.ModulePartNode;
+import io.ballerina.compiler.syntax.tree.ServiceDeclarationNode;
+import io.ballerina.compiler.syntax.tree.SpecificFieldNode;
+import io.ballerina.compiler.syntax.tree.SyntaxKind;
+import io.ballerina.compiler.syntax.tree.SyntaxTree;
+import io.ballerina.projects.DocumentId;
+import io.ballerina.projects.Module;
+import io.ballerina.projects.ModuleId;
+import io.ballerina.projects.Package;
+import io.ballerina.projects.PackageDescriptor;
+import io.ballerina.projects.ResolvedPackageDependency;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.WeakHashMap;
+
+import static io.ballerina.openapi.converter.Constants.CONTRACT;
+import static io.ballerina.openapi.converter.Constants.OPENAPI_ANNOTATION;
+
+/**
+ * Cache of the OpenAPI specs generated for the documents of the workspace, so that the specs of a package are
+ * regenerated only for the documents which are edited.
+ * <p>
+ * The specs of a document depend on its own syntax tree, on the declarations of the package which the services
+ * refer to, such as the types, the listeners and the constants, on the versions of the dependencies of the package,
+ * and on the contracts which the services refer to by the {@code openapi:ServiceInfo} annotation. Hence an entry is
+ * keyed by the document, and is valid while the syntax tree of the document is the same tree, the hash of the
+ * declarations and the dependencies of the package is the same, and the referred contracts are not modified.
+ * Editing a resource function invalidates only the specs of its document, while editing a type invalidates the
+ * specs of the whole package. The entries of the documents which are removed from a package are evicted when the
+ * specs of the package are requested, and the least recently used entries are evicted when the cache is full.
+ * </p>
+ * <p>
+ * The cache is reconciled with the workspace on each request rather than on the workspace events, since an
+ * {@code ExtendedLanguageServerService} is only given the workspace manager on initialization, and the document and
+ * the file watcher notifications are handled by the language server itself. A stale entry is never served, as the
+ * syntax tree of a changed document is a new tree, and the entries of a closed project are evicted as the least
+ * recently used ones. The hashes of the packages are held weakly, so that the versions of the packages which are
+ * replaced by the workspace are not retained.
+ * </p>
+ *
+ * @since 1.4.0
+ */
+final class OpenAPISpecCache {
+    private static final int DEFAULT_MAX_ENTRIES = 256;
+
+    private final Map<DocumentId, Entry> entries;
+    private final Map<Package, String> declarationsHashes = new WeakHashMap<>();
+
+    OpenAPISpecCache() {
+        this(DEFAULT_MAX_ENTRIES);
+    }
+
+    OpenAPISpecCache(int maxEntries) {
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<DocumentId, Entry> eldest) {
+                return size() > maxEntries;
+            }
+        };
+    }
+
+    /**
+     * Returns the specs generated for the given document, if the document, the declarations of its package and the
+     * contracts referred by its services are not changed since.
+     *
+     * @param documentId       id of the document
+     * @param syntaxTree       current syntax tree of the document
+     * @param declarationsHash current hash of the package, see {@link #getDeclarationsHash(Package)}
+     * @param contractStamps   current stamps of the referred contracts, see {@link #getContractStamps}
+     */
+    synchronized Optional<DocumentSpecs> get(DocumentId documentId, SyntaxTree syntaxTree, String declarationsHash,
+                                             String contractStamps) {
+        Entry entry = entries.get(documentId);
+        if (entry == null) {
+            return Optional.empty();
+        }
+        if (entry.syntaxTree != syntaxTree || !entry.declarationsHash.equals(declarationsHash) ||
+                !entry.contractStamps.equals(contractStamps)) {
+            entries.remove(documentId);
+            return Optional.empty();
+        }
+        return Optional.of(entry.specs);
+    }
+
+    synchronized void put(DocumentId documentId, Path projectRoot, SyntaxTree syntaxTree, String declarationsHash,
+                          String contractStamps, DocumentSpecs specs) {
+        entries.put(documentId, new Entry(projectRoot, syntaxTree, declarationsHash, contractStamps, specs));
+    }
+
+    /**
+     * Evicts the entries of the given project which are not of the given documents, which are the documents of the
+     * project which are removed, renamed or loaded again.
+     */
+    synchronized void retainDocuments(Path projectRoot, Collection<DocumentId> documentIds) {
+        entries.entrySet().removeIf(entry -> entry.getValue().projectRoot.equals(projectRoot) &&
+                !documentIds.contains(entry.getKey()));
+    }
+
+    synchronized void clear() {
+        entries.clear();
+        declarationsHashes.clear();
+    }
+
+    /**
+     * Returns the hash of the declarations of the given package which the specs of its services depend on, together
+     * with the versions of the resolved dependencies of the package. The services and the functions are left out,
+     * since the spec of a service depends only on its own resources. The hash is computed once for a version of the
+     * package, hence the specs of several projects of the workspace can be requested in turn without hashing their
+     * packages again.
+     */
+    synchronized String getDeclarationsHash(Package aPackage) {
+        return declarationsHashes.computeIfAbsent(aPackage, OpenAPISpecCache::hashDeclarations);
+    }
+
+    private static String hashDeclarations(Package aPackage) {
+        MessageDigest digest = getDigest();
+        List<String> dependencies = new ArrayList<>();
+        for (ResolvedPackageDependency dependency : aPackage.getResolution().dependencyGraph().getNodes()) {
+            PackageDescriptor descriptor = dependency.packageInstance().descriptor();
+            dependencies.add(descriptor.org().value() + "/" + descriptor.name().value() + ":" +
+                    descriptor.version().value());
+        }
+        Collections.sort(dependencies);
+        for (String dependency : dependencies) {
+            update(digest, dependency);
+        }
+        for (ModuleId moduleId : aPackage.moduleIds()) {
+            Module module = aPackage.module(moduleId);
+            update(digest, module.moduleName().toString());
+            for (DocumentId documentId : module.documentIds()) {
+                ModulePartNode modulePartNode = module.document(documentId).syntaxTree().rootNode();
+                for (ImportDeclarationNode importDeclaration : modulePartNode.imports()) {
+                    update(digest, importDeclaration.toSourceCode());
+                }
+                for (ModuleMemberDeclarationNode member : modulePartNode.members()) {
+                    if (member.kind() != SyntaxKind.SERVICE_DECLARATION &&
+                            member.kind() != SyntaxKind.FUNCTION_DEFINITION) {
+                        update(digest, member.toSourceCode());
+                    }
+                }
+            }
+        }
+        StringBuilder hex = new StringBuilder();
+        for (byte b : digest.digest()) {
+            hex.append(String.format("%02x", b));
+        }
+        return hex.toString();
+    }
+
+    private static void update(MessageDigest digest, String value) {
+        digest.update(value.getBytes(StandardCharsets.UTF_8));
+        digest.update((byte) 0);
+    }
+
+    private static MessageDigest getDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            // SHA-256 is available in every Java platform
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Returns the paths and the modification times of the contracts which the services of the given document refer
+     * to by the {@code openapi:ServiceInfo} annotation, empty when no contract is referred.
+     *
+     * @param syntaxTree   syntax tree of the document
+     * @param documentPath path of the document, against which the relative contract paths are resolved
+     */
+    static String getContractStamps(SyntaxTree syntaxTree, Path documentPath) {
+        if (documentPath == null || documentPath.getParent() == null) {
+            return "";
+        }
+        StringBuilder stamps = new StringBuilder();
+        ModulePartNode modulePartNode = syntaxTree.rootNode();
+        for (ModuleMemberDeclarationNode member : modulePartNode.members()) {
+            if (member.kind() != SyntaxKind.SERVICE_DECLARATION) {
+                continue;
+            }
+            Optional<MetadataNode> metadata = ((ServiceDeclarationNode) member).metadata();
+            if (metadata.isEmpty()) {
+                continue;
+            }
+            for (AnnotationNode annotation : metadata.get().annotations()) {
+                Optional<String> contract = getContract(annotation);
+                if (contract.isPresent()) {
+                    Path contractPath = documentPath.getParent().resolve(contract.get()).normalize();
+                    stamps.append(contractPath).append('@').append(getModifiedTime(contractPath)).append('\n');
+                }
+            }
+        }
+        return stamps.toString();
+    }
+
+    private static Optional<String> getContract(AnnotationNode annotation) {
+        if (annotation.annotReference().kind() != SyntaxKind.QUALIFIED_NAME_REFERENCE ||
+                !OPENAPI_ANNOTATION.equals(annotation.annotReference().toSourceCode().trim()) ||
+                annotation.annotValue().isEmpty()) {
+            return Optional.empty();
+        }
+        for (MappingFieldNode field : annotation.annotValue().get().fields()) {
+            if (field.kind() != SyntaxKind.SPECIFIC_FIELD) {
+                continue;
+            }
+            SpecificFieldNode specificField = (SpecificFieldNode) field;
+            if (CONTRACT.equals(specificField.fieldName().toSourceCode().trim()) &&
+                    specificField.valueExpr().isPresent()) {
+                String contract = specificField.valueExpr().get().toSourceCode().replaceAll("\"", "").trim();
+                return contract.isBlank() ? Optional.empty() : Optional.of(contract);
+            }
+        }
+        return Optional.empty();
+    }
+
+    private static String getModifiedTime(Path contractPath) {
+        try {
+            return String.valueOf(Files.getLastModifiedTime(contractPath).toMillis());
+        } catch (IOException e) {
+            // A missing contract is stamped too, so that the specs are regenerated when it is created
+            return "missing";
+        }
+    }
+
+    /**
+     * Specs generated for the services of a document, with the error reported while generating them.
+     */
+    static final class DocumentSpecs {
+        private final JsonArray specs;
+        private final String error;
+
+        DocumentSpecs(JsonArray specs, String error) {
+            this.specs = specs;
+            this.error = error;
+        }
+
+        JsonArray getSpecs() {
+            return specs;
+        }
+
+        Optional<String> getError() {
+            return Optional.ofNullable(error);
+        }
+    }
+
+    private static final class Entry {
+        private final Path projectRoot;
+        private final SyntaxTree syntaxTree;
+        private final String declarationsHash;
+        private final String contractStamps;
+        private final DocumentSpecs specs;
+
+        private Entry(Path projectRoot, SyntaxTree syntaxTree, String declarationsHash, String contractStamps,
+                      DocumentSpecs specs) {
+            this.projectRoot = projectRoot;
+            this.syntaxTree = syntaxTree;
+            this.declarationsHash = declarationsHash;
+            this.contractStamps = contractStamps;
+            this.specs = specs;
+        }
+    }
+}
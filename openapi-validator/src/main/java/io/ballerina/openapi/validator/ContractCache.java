@@ -0,0 +1,152 @@
+/*
+ * Copyright (c) 2022 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.openapi.validator;
+
+import io.ballerina.compiler.api.SemanticModel;
+import io.ballerina.openapi.validator.model.Filter;
+import io.ballerina.openapi.validator.model.OpenAPIPathSummary;
+import io.ballerina.projects.plugins.SyntaxNodeAnalysisContext;
+import io.ballerina.tools.diagnostics.Location;
+import io.swagger.v3.oas.models.OpenAPI;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static io.ballerina.openapi.validator.ValidatorUtils.parseOpenAPIFile;
+import static io.ballerina.openapi.validator.ValidatorUtils.summarizeOpenAPI;
+
+/**
+ * This cache keeps the parsed OpenAPI contracts of a compilation, so that the services which refer the same contract
+ * do not re-read and re-parse it. Contracts are keyed by the canonical path and invalidated when the file
+ * modification time or size changes. The path summaries derived from a contract are memoized per filter. The cached
+ * contracts are also indexed by the identity of their parsed {@link OpenAPI}, which is what the validators hold.
+ *
+ * @since 1.4.0
+ */
+class ContractCache {
+    private final Map<Path, CachedContract> contracts = new ConcurrentHashMap<>();
+    private final Map<OpenAPI, CachedContract> contractsByOpenAPI =
+            Collections.synchronizedMap(new IdentityHashMap<>());
+
+    /**
+     * Returns the parsed {@link OpenAPI} for the given contract, parsing it only when it is not already cached or
+     * the contract has changed. Diagnostics are reported to the given context when the contract is invalid.
+     */
+    OpenAPI getOpenAPI(SyntaxNodeAnalysisContext context, Path contractPath, Location location) throws IOException {
+        if (!Files.exists(contractPath)) {
+            return parseOpenAPIFile(context, contractPath.toString(), location);
+        }
+        Path canonicalPath = contractPath.toRealPath();
+        FileTime lastModifiedTime = Files.getLastModifiedTime(canonicalPath);
+        long size = Files.size(canonicalPath);
+        CachedContract cachedContract = contracts.get(canonicalPath);
+        if (cachedContract != null && cachedContract.isUpToDate(lastModifiedTime, size)) {
+            return cachedContract.openAPI;
+        }
+        OpenAPI openAPI = parseOpenAPIFile(context, contractPath.toString(), location);
+        if (openAPI != null) {
+            CachedContract contract = new CachedContract(openAPI, lastModifiedTime, size);
+            contractsByOpenAPI.put(openAPI, contract);
+            CachedContract previousContract = contracts.put(canonicalPath, contract);
+            if (previousContract != null) {
+                contractsByOpenAPI.remove(previousContract.openAPI);
+            }
+        }
+        return openAPI;
+    }
+
+    /**
+     * Returns the path summaries of the given contract for the given filter. Each call returns a fresh copy of the
+     * memoized summaries since the validators remove the matched operations from them.
+     */
+    List<OpenAPIPathSummary> getOpenAPIPathSummaries(OpenAPI openAPI, SyntaxNodeAnalysisContext context,
+                                                     Filter filter) {
+        CachedContract cachedContract = contractsByOpenAPI.get(openAPI);
+        if (cachedContract == null) {
+            return summarizeOpenAPI(openAPI, context, filter);
+        }
+        List<OpenAPIPathSummary> summaries = cachedContract.pathSummaries.computeIfAbsent(filter,
+                key -> summarizeOpenAPI(openAPI, context, key));
+        List<OpenAPIPathSummary> copiedSummaries = new ArrayList<>(summaries.size());
+        for (OpenAPIPathSummary summary : summaries) {
+            copiedSummaries.add(new OpenAPIPathSummary(summary));
+        }
+        return copiedSummaries;
+    }
+
+    /**
+     * Returns the index of the path templates of the given contract, which is built once per contract.
+     */
+    PathTemplateIndex getPathTemplateIndex(OpenAPI openAPI) {
+        CachedContract contract = contractsByOpenAPI.get(openAPI);
+        if (contract == null) {
+            return new PathTemplateIndex(openAPI.getPaths().keySet());
+        }
+        PathTemplateIndex pathTemplateIndex = contract.pathTemplateIndex;
+        if (pathTemplateIndex == null) {
+            pathTemplateIndex = new PathTemplateIndex(openAPI.getPaths().keySet());
+            contract.pathTemplateIndex = pathTemplateIndex;
+        }
+        return pathTemplateIndex;
+    }
+
+    /**
+     * Returns the cache of the record validation results of the given contract for the compilation of the given
+     * semantic model. The results of the earlier compilations are discarded once their semantic models are unused.
+     */
+    RecordValidationCache getRecordValidationCache(OpenAPI openAPI, SemanticModel semanticModel) {
+        CachedContract contract = contractsByOpenAPI.get(openAPI);
+        if (contract == null) {
+            return new RecordValidationCache();
+        }
+        synchronized (contract.recordValidationCaches) {
+            return contract.recordValidationCaches.computeIfAbsent(semanticModel, key -> new RecordValidationCache());
+        }
+    }
+
+    /**
+     * Parsed contract with the file attributes used to detect the changes of the contract.
+     */
+    private static class CachedContract {
+        private final OpenAPI openAPI;
+        private final FileTime lastModifiedTime;
+        private final long size;
+        private final Map<Filter, List<OpenAPIPathSummary>> pathSummaries = new ConcurrentHashMap<>();
+        private final Map<SemanticModel, RecordValidationCache> recordValidationCaches = new WeakHashMap<>();
+        private volatile PathTemplateIndex pathTemplateIndex;
+
+        CachedContract(OpenAPI openAPI, FileTime lastModifiedTime, long size) {
+            this.openAPI = openAPI;
+            this.lastModifiedTime = lastModifiedTime;
+            this.size = size;
+        }
+
+        boolean isUpToDate(FileTime lastModifiedTime, long size) {
+            return this.lastModifiedTime.equals(lastModifiedTime) && this.size == size;
+        }
+    }
+}
@@ -12,6 +12,7 @@ import io.ballerina.projects.plugins.CodeAnalyzer;
 public  class OpenAPICodeAnalyzer extends CodeAnalyzer {
     @Override
     public void init(CodeAnalysisContext codeAnalysisContext) {
-        codeAnalysisContext.addSyntaxNodeAnalysisTask(new ServiceAnalysisTask(), SyntaxKind.SERVICE_DECLARATION);
+        codeAnalysisContext.addSyntaxNodeAnalysisTask(new ServiceAnalysisTask(new ContractCache()),
+                SyntaxKind.SERVICE_DECLARATION);
     }
 }
@@ -0,0 +1,93 @@
+/*
+ * Copyright (c) 2022, WSO2 LLC. (http://www.wso2.com). All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.openapi.validator;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static io.ballerina.openapi.validator.Constants.SLASH;
+
+/**
+ * This trie indexes the path templates of an OpenAPI contract by their segments, so that a resource path is resolved
+ * to its path template in a single walk over its segments. The literal segments are matched by their value and the
+ * parameter segments ({@code {name}}) are matched to any parameter segment, so that a resource path matches the
+ * template even when its parameters are named differently.
+ *
+ * @since 1.4.0
+ */
+class PathTemplateIndex {
+    private final TrieNode root = new TrieNode();
+
+    PathTemplateIndex(Collection<String> pathTemplates) {
+        for (String pathTemplate : pathTemplates) {
+            TrieNode node = root;
+            for (String segment : getSegments(pathTemplate)) {
+                if (!isParameter(segment)) {
+                    node = node.literals.computeIfAbsent(segment, key -> new TrieNode());
+                    continue;
+                }
+                if (node.parameter == null) {
+                    node.parameter = new TrieNode();
+                }
+                node = node.parameter;
+            }
+            if (node.pathTemplate == null) {
+                node.pathTemplate = pathTemplate;
+            }
+        }
+    }
+
+    /**
+     * Returns the path template matching the given resource path.
+     */
+    Optional<String> resolve(String path) {
+        TrieNode node = root;
+        for (String segment : getSegments(path)) {
+            node = isParameter(segment) ? node.parameter : node.literals.get(segment);
+            if (node == null) {
+                return Optional.empty();
+            }
+        }
+        return Optional.ofNullable(node.pathTemplate);
+    }
+
+    private static List<String> getSegments(String path) {
+        List<String> segments = new ArrayList<>();
+        for (String segment : path.split(SLASH)) {
+            if (!segment.isEmpty()) {
+                segments.add(segment);
+            }
+        }
+        return segments;
+    }
+
+    private static boolean isParameter(String segment) {
+        return segment.startsWith("{") && segment.endsWith("}");
+    }
+
+    private static class TrieNode {
+        private final Map<String, TrieNode> literals = new HashMap<>();
+        private TrieNode parameter;
+        private String pathTemplate;
+    }
+}
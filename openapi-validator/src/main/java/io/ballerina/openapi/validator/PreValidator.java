@@ -57,7 +57,6 @@ import static io.ballerina.openapi.validator.Constants.EMBED;
 import static io.ballerina.openapi.validator.Constants.OPENAPI_ANNOTATION;
 import static io.ballerina.openapi.validator.Constants.TRUE;
 import static io.ballerina.openapi.validator.ValidatorUtils.isHttpService;
-import static io.ballerina.openapi.validator.ValidatorUtils.parseOpenAPIFile;
 import static io.ballerina.openapi.validator.ValidatorUtils.reportDiagnostic;
 import static io.ballerina.openapi.validator.error.CompilationError.EMPTY_CONTRACT_PATH;
 import static io.ballerina.openapi.validator.error.CompilationError.NON_HTTP_SERVICE;
@@ -73,6 +72,15 @@ public class PreValidator implements Validator {
     private Filter filter;
     private SyntaxNodeAnalysisContext context;
     private OpenAPI openAPI;
+    private final ContractCache contractCache;
+
+    public PreValidator() {
+        this(new ContractCache());
+    }
+
+    PreValidator(ContractCache contractCache) {
+        this.contractCache = contractCache;
+    }
 
     public void initialize(SyntaxNodeAnalysisContext context) {
         this.context = context;
@@ -246,7 +254,7 @@ public class PreValidator implements Validator {
                 relativePath = Paths.get(openapiContract.getCanonicalPath());
             }
             if (relativePath != null) {
-                return parseOpenAPIFile(context, relativePath.toString(), location);
+                return contractCache.getOpenAPI(context, relativePath, location);
             }
         } catch (IOException e) {
             reportDiagnostic(context, UNEXPECTED_EXCEPTIONS, location, DiagnosticSeverity.ERROR, e.getMessage());
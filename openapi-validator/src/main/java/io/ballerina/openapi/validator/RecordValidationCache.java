@@ -0,0 +1,91 @@
+/*
+ * Copyright (c) 2022, WSO2 LLC. (http://www.wso2.com). All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.openapi.validator;
+
+import io.ballerina.compiler.api.symbols.TypeReferenceTypeSymbol;
+import io.ballerina.compiler.api.symbols.TypeSymbol;
+import io.ballerina.openapi.validator.error.CompilationError;
+import io.ballerina.tools.diagnostics.Location;
+import io.ballerina.tools.text.LineRange;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * This cache keeps the results of validating the Ballerina records against the component schemas of a contract in a
+ * compilation, so that a record shared by many resources is walked only once. A result is the list of the
+ * diagnostics found for a (component schema, record) pair, which is reported again for each later use of the pair.
+ *
+ * @since 1.4.0
+ */
+class RecordValidationCache {
+    private final Map<String, List<RecordDiagnostic>> results = new ConcurrentHashMap<>();
+
+    /**
+     * Returns the key of the given component schema and record, or empty when the record has no location to tell it
+     * apart from the structurally equal records.
+     */
+    static Optional<String> getKey(String oasName, String balRecord, TypeSymbol typeSymbol) {
+        Optional<Location> location = typeSymbol instanceof TypeReferenceTypeSymbol ?
+                ((TypeReferenceTypeSymbol) typeSymbol).definition().getLocation() : typeSymbol.getLocation();
+        if (location.isEmpty()) {
+            return Optional.empty();
+        }
+        LineRange lineRange = location.get().lineRange();
+        return Optional.of(oasName + "|" + balRecord + "|" + typeSymbol.signature() + "|" + lineRange.filePath() +
+                ":" + lineRange.startLine().line() + ":" + lineRange.startLine().offset());
+    }
+
+    Optional<List<RecordDiagnostic>> get(String key) {
+        return Optional.ofNullable(results.get(key));
+    }
+
+    void put(String key, List<RecordDiagnostic> diagnostics) {
+        results.put(key, diagnostics);
+    }
+
+    /**
+     * Diagnostic found while validating a record, the severity is applied when it is reported.
+     */
+    static class RecordDiagnostic {
+        private final CompilationError error;
+        private final Location location;
+        private final Object[] args;
+
+        RecordDiagnostic(CompilationError error, Location location, Object... args) {
+            this.error = error;
+            this.location = location;
+            this.args = args;
+        }
+
+        CompilationError getError() {
+            return error;
+        }
+
+        Location getLocation() {
+            return location;
+        }
+
+        Object[] getArgs() {
+            return args;
+        }
+    }
+}
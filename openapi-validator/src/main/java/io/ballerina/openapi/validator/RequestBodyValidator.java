@@ -182,7 +182,7 @@ public class RequestBodyValidator extends NodeValidator {
                     // validate array record
                     TypeValidatorUtils.validateRecordType(schema, arrayType.memberTypeDescriptor(),
                             balRecordName, validatorContext.getContext(), validatorContext.getOpenAPI(), oasSchemaName,
-                            validatorContext.getSeverity());
+                            validatorContext.getSeverity(), validatorContext.getRecordValidationCache());
                 } else {
                     //TODO inline object schema
                 }
@@ -216,7 +216,8 @@ public class RequestBodyValidator extends NodeValidator {
                 OpenAPI openAPI = validatorContext.getOpenAPI();
                 schema = openAPI.getComponents().getSchemas().get(oasName);
                 TypeValidatorUtils.validateRecordType(schema, typeSymbol, balRecordName,
-                        validatorContext.getContext(), openAPI, oasName, validatorContext.getSeverity());
+                        validatorContext.getContext(), openAPI, oasName, validatorContext.getSeverity(),
+                        validatorContext.getRecordValidationCache());
             } else {
                 reportDiagnostic(validatorContext.getContext(), CompilationError.TYPEMISMATCH_REQUEST_BODY_PAYLOAD,
                         location, validatorContext.getSeverity(), mediaType, oasName,
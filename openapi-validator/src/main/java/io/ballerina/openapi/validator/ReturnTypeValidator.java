@@ -211,7 +211,8 @@ public class ReturnTypeValidator extends NodeValidator {
                                                         schemaName.get()), bodyFieldType,
                                                 ((TypeReferenceTypeSymbol) bodyFieldType).definition().getName().get(),
                                                 validatorContext.getContext(), validatorContext.getOpenAPI(),
-                                                schemaName.get(), validatorContext.getSeverity());
+                                                schemaName.get(), validatorContext.getSeverity(),
+                                                validatorContext.getRecordValidationCache());
                                     }
                                 }
                             }
@@ -247,7 +248,8 @@ public class ReturnTypeValidator extends NodeValidator {
                                     oasSchemas.get(schemaName.get()),
                                     typeSymbol, refType.definition().getName().orElse(null),
                                     validatorContext.getContext(), validatorContext.getOpenAPI(),
-                                    schemaName.orElse(null), validatorContext.getSeverity());
+                                    schemaName.orElse(null), validatorContext.getSeverity(),
+                                    validatorContext.getRecordValidationCache());
                         }
                     }
                 }
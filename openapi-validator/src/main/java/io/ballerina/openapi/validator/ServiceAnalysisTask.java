@@ -36,8 +36,12 @@ public class ServiceAnalysisTask implements AnalysisTask<SyntaxNodeAnalysisConte
     private final PreValidator preValidator;
 
     public ServiceAnalysisTask() {
-        this.preValidator = new PreValidator();
-        this.serviceValidator = new ServiceValidator();
+        this(new ContractCache());
+    }
+
+    ServiceAnalysisTask(ContractCache contractCache) {
+        this.preValidator = new PreValidator(contractCache);
+        this.serviceValidator = new ServiceValidator(contractCache);
     }
     @Override
     public void perform(SyntaxNodeAnalysisContext syntaxContext) {
@@ -36,14 +36,15 @@ import io.swagger.v3.oas.models.parameters.Parameter;
 import io.swagger.v3.oas.models.responses.ApiResponses;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 
 import static io.ballerina.openapi.validator.ValidatorUtils.getNormalizedPath;
 import static io.ballerina.openapi.validator.ValidatorUtils.reportDiagnostic;
-import static io.ballerina.openapi.validator.ValidatorUtils.summarizeOpenAPI;
 import static io.ballerina.openapi.validator.ValidatorUtils.summarizeResources;
 
 /**
@@ -56,6 +57,15 @@ public class ServiceValidator implements Validator {
     private Filter filter;
     private SyntaxNodeAnalysisContext context;
     private OpenAPI openAPI;
+    private final ContractCache contractCache;
+
+    public ServiceValidator() {
+        this(new ContractCache());
+    }
+
+    ServiceValidator(ContractCache contractCache) {
+        this.contractCache = contractCache;
+    }
 
     public void initialize(SyntaxNodeAnalysisContext context, OpenAPI openAPI, Filter filter) {
         this.context = context;
@@ -76,7 +86,8 @@ public class ServiceValidator implements Validator {
         ServiceDeclarationNode serviceNode = (ServiceDeclarationNode) context.node();
 
         // 1. Summaries the OAS operations and return the filtered operations
-        List<OpenAPIPathSummary> openAPIPathSummaries = summarizeOpenAPI(openAPI, context, filter);
+        List<OpenAPIPathSummary> openAPIPathSummaries = contractCache.getOpenAPIPathSummaries(openAPI, context,
+                filter);
         // 2. Summaries the ballerina resource
         NodeList<Node> members = serviceNode.members();
         List<FunctionDefinitionNode> resourceFunctions = new ArrayList<>();
@@ -86,7 +97,8 @@ public class ServiceValidator implements Validator {
             }
         }
         // 3. Summaries the resource functions
-        Map<String, ResourcePathSummary> resourcePathMap = summarizeResources(resourceFunctions, context);
+        Map<String, ResourcePathSummary> resourcePathMap = resolveResourcePaths(
+                summarizeResources(resourceFunctions, context));
 
         // 4. Unimplemented resource in service file (extra resource in openapi spec)
         List<OpenAPIPathSummary> updatedOASPaths = validateMissingBalResources(openAPIPathSummaries,
@@ -100,6 +112,26 @@ public class ServiceValidator implements Validator {
 
     }
 
+    /**
+     * Keys the resources by the OpenAPI path templates they match, so that a resource whose path parameters are named
+     * differently from the contract is validated against its operations. A resource which matches no template, or
+     * whose template is taken by a resource of the exact path, keeps its own path.
+     */
+    private Map<String, ResourcePathSummary> resolveResourcePaths(Map<String, ResourcePathSummary> resources) {
+        PathTemplateIndex pathTemplateIndex = contractCache.getPathTemplateIndex(openAPI);
+        Map<String, ResourcePathSummary> resolvedResources = new HashMap<>();
+        for (Map.Entry<String, ResourcePathSummary> resource : resources.entrySet()) {
+            String path = resource.getKey();
+            Optional<String> pathTemplate = pathTemplateIndex.resolve(path);
+            if (pathTemplate.isPresent() && !resolvedResources.containsKey(pathTemplate.get()) &&
+                    !resources.containsKey(pathTemplate.get())) {
+                path = pathTemplate.get();
+            }
+            resolvedResources.put(path, resource.getValue());
+        }
+        return resolvedResources;
+    }
+
     /**
      * Validate all the resource with operations to check whether there is any missing implementation for operations.
      * OAS-> ballerina validate add
@@ -149,30 +181,26 @@ public class ServiceValidator implements Validator {
         boolean filterEnable = filter.getOperation() != null || filter.getTag() != null ||
                 filter.getExcludeTag() != null || filter.getExcludeOperation() != null;
 
+        Map<String, OpenAPIPathSummary> operationPaths = getOperationPaths(operations);
         Iterator<Map.Entry<String, ResourcePathSummary>> resourcePathIter = resourcePathMap.entrySet().iterator();
         while (resourcePathIter.hasNext()) {
             Map.Entry<String, ResourcePathSummary> resourcePath = resourcePathIter.next();
-            boolean isPathDocumented = false;
-            for (OpenAPIPathSummary operationPath: operations) {
-                if (operationPath.getPath().equals(resourcePath.getKey())) {
-                    isPathDocumented = true;
-                    Set<Map.Entry<String, ResourceMethod>> methods = resourcePath.getValue().getMethods().entrySet();
-                    Iterator<Map.Entry<String, ResourceMethod>> methodsIter = methods.iterator();
-                    while (methodsIter.hasNext()) {
-                        Map.Entry<String, ResourceMethod> method = methodsIter.next();
-                        if (!operationPath.getOperations().containsKey(method.getKey().trim())) {
-                            if (!filterEnable) {
-                                reportDiagnostic(context, CompilationError.UNDEFINED_RESOURCE_FUNCTIONS,
-                                        method.getValue().getLocation(), filter.getKind(), method.getKey(),
-                                        getNormalizedPath(resourcePath.getKey()));
-                            }
-                            methodsIter.remove();
+            OpenAPIPathSummary operationPath = operationPaths.get(resourcePath.getKey());
+            if (operationPath != null) {
+                Set<Map.Entry<String, ResourceMethod>> methods = resourcePath.getValue().getMethods().entrySet();
+                Iterator<Map.Entry<String, ResourceMethod>> methodsIter = methods.iterator();
+                while (methodsIter.hasNext()) {
+                    Map.Entry<String, ResourceMethod> method = methodsIter.next();
+                    if (!operationPath.getOperations().containsKey(method.getKey().trim())) {
+                        if (!filterEnable) {
+                            reportDiagnostic(context, CompilationError.UNDEFINED_RESOURCE_FUNCTIONS,
+                                    method.getValue().getLocation(), filter.getKind(), method.getKey(),
+                                    getNormalizedPath(resourcePath.getKey()));
                         }
+                        methodsIter.remove();
                     }
-                    break;
                 }
-            }
-            if (!isPathDocumented) {
+            } else {
                 if (!filterEnable) {
                     reportDiagnostic(context, CompilationError.UNDEFINED_RESOURCE_PATH, context.node().location(),
                             filter.getKind(),
@@ -184,27 +212,32 @@ public class ServiceValidator implements Validator {
         return resourcePathMap;
     }
 
+    private static Map<String, OpenAPIPathSummary> getOperationPaths(List<OpenAPIPathSummary> operations) {
+        Map<String, OpenAPIPathSummary> operationPaths = new HashMap<>();
+        for (OpenAPIPathSummary operationPath : operations) {
+            operationPaths.putIfAbsent(operationPath.getPath(), operationPath);
+        }
+        return operationPaths;
+    }
+
     /**
      * This validation happens ballerina service against to openapi specification.
      */
     private void validateBalServiceWithOAS(Map<String, ResourcePathSummary> resourcePaths,
                                            List<OpenAPIPathSummary> oasPaths) {
 
+        RecordValidationCache recordValidationCache = contractCache.getRecordValidationCache(openAPI,
+                context.semanticModel());
+        Map<String, OpenAPIPathSummary> operationPaths = getOperationPaths(oasPaths);
         Set<Map.Entry<String, ResourcePathSummary>> paths = resourcePaths.entrySet();
         for (Map.Entry<String, ResourcePathSummary> path : paths) {
             Map<String, ResourceMethod> methods = path.getValue().getMethods();
-            OpenAPIPathSummary oasPath = null;
-            for (OpenAPIPathSummary openAPIPath : oasPaths) {
-                if (path.getKey().equals(openAPIPath.getPath())) {
-                    oasPath = openAPIPath;
-                    break;
-                }
-            }
+            OpenAPIPathSummary oasPath = operationPaths.get(path.getKey());
 
             for (Map.Entry<String, ResourceMethod> method : methods.entrySet()) {
                 assert oasPath != null;
                 ValidatorContext validatorContext = new ValidatorContext(context, openAPI, path.getKey(),
-                        method.getKey(), filter.getKind(), method.getValue().getLocation());
+                        method.getKey(), filter.getKind(), method.getValue().getLocation(), recordValidationCache);
                 Map<String, Operation> operations = oasPath.getOperations();
                 Operation oasOperation = operations.get(method.getKey());
                 // Parameters validation
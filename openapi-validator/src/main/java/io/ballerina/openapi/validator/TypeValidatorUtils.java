@@ -22,6 +22,7 @@ import io.ballerina.compiler.api.symbols.RecordTypeSymbol;
 import io.ballerina.compiler.api.symbols.TypeReferenceTypeSymbol;
 import io.ballerina.compiler.api.symbols.TypeSymbol;
 import io.ballerina.compiler.syntax.tree.SyntaxKind;
+import io.ballerina.openapi.validator.RecordValidationCache.RecordDiagnostic;
 import io.ballerina.openapi.validator.error.CompilationError;
 import io.ballerina.projects.plugins.SyntaxNodeAnalysisContext;
 import io.ballerina.tools.diagnostics.DiagnosticSeverity;
@@ -31,8 +32,13 @@ import io.swagger.v3.oas.models.media.ArraySchema;
 import io.swagger.v3.oas.models.media.ObjectSchema;
 import io.swagger.v3.oas.models.media.Schema;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 
@@ -63,58 +69,109 @@ public class TypeValidatorUtils {
     public static void validateRecordType(Schema<?> schema, TypeSymbol typeSymbol, String balRecord,
                                           SyntaxNodeAnalysisContext context,
                                           OpenAPI openAPI, String oasName, DiagnosticSeverity severity) {
+        validateRecordType(schema, typeSymbol, balRecord, context, openAPI, oasName, severity,
+                new RecordValidationCache());
+    }
 
-        if (typeSymbol instanceof RecordTypeSymbol || typeSymbol instanceof TypeReferenceTypeSymbol) {
-            Map<String, Schema> properties = schema.getProperties();
-            if (schema instanceof ObjectSchema) {
-                properties = schema.getProperties();
+    /**
+     * Validate ballerina record against schema. The result of each (component schema, record) pair is memoized in
+     * the given cache, and the recursive records are walked only once per validation. The result of a record which
+     * reaches a record being walked is not memoized, as it lacks the fields of the records cut by the walk.
+     */
+    static void validateRecordType(Schema<?> schema, TypeSymbol typeSymbol, String balRecord,
+                                   SyntaxNodeAnalysisContext context, OpenAPI openAPI, String oasName,
+                                   DiagnosticSeverity severity, RecordValidationCache cache) {
+        List<RecordDiagnostic> diagnostics = getRecordDiagnostics(schema, typeSymbol, balRecord, openAPI, oasName,
+                cache, new HashSet<>(), new AtomicBoolean(false));
+        for (RecordDiagnostic diagnostic : diagnostics) {
+            reportDiagnostic(context, diagnostic.getError(), diagnostic.getLocation(), severity,
+                    diagnostic.getArgs());
+        }
+    }
+
+    private static List<RecordDiagnostic> getRecordDiagnostics(Schema<?> schema, TypeSymbol typeSymbol,
+                                                               String balRecord, OpenAPI openAPI, String oasName,
+                                                               RecordValidationCache cache, Set<String> visited,
+                                                               AtomicBoolean isRecursive) {
+        if (!(typeSymbol instanceof RecordTypeSymbol || typeSymbol instanceof TypeReferenceTypeSymbol)) {
+            return Collections.emptyList();
+        }
+        Optional<String> key = RecordValidationCache.getKey(oasName, balRecord, typeSymbol);
+        if (key.isPresent()) {
+            Optional<List<RecordDiagnostic>> cachedDiagnostics = cache.get(key.get());
+            if (cachedDiagnostics.isPresent()) {
+                return cachedDiagnostics.get();
             }
-            if (typeSymbol instanceof TypeReferenceTypeSymbol) {
-                typeSymbol = ((TypeReferenceTypeSymbol) typeSymbol).typeDescriptor();
+            if (!visited.add(key.get())) {
+                // Recursive record, its fields are validated by the enclosing walk
+                isRecursive.set(true);
+                return Collections.emptyList();
             }
-            RecordTypeSymbol recordTypeSymbol = (RecordTypeSymbol) typeSymbol;
-            Map<String, RecordFieldSymbol> fieldSymbolList = recordTypeSymbol.fieldDescriptors();
-            for (Map.Entry<String, RecordFieldSymbol> field : fieldSymbolList.entrySet()) {
-                boolean isFieldExist = false;
+        }
+        List<RecordDiagnostic> diagnostics = new ArrayList<>();
+        AtomicBoolean isFieldRecursive = new AtomicBoolean(false);
+        collectRecordDiagnostics(schema, typeSymbol, balRecord, openAPI, oasName, cache, visited, isFieldRecursive,
+                diagnostics);
+        if (isFieldRecursive.get()) {
+            isRecursive.set(true);
+        }
+        if (key.isPresent()) {
+            visited.remove(key.get());
+            if (!isFieldRecursive.get()) {
+                cache.put(key.get(), diagnostics);
+            }
+        }
+        return diagnostics;
+    }
+
+    private static void collectRecordDiagnostics(Schema<?> schema, TypeSymbol typeSymbol, String balRecord,
+                                                 OpenAPI openAPI, String oasName, RecordValidationCache cache,
+                                                 Set<String> visited, AtomicBoolean isRecursive,
+                                                 List<RecordDiagnostic> diagnostics) {
+        Map<String, Schema> properties = schema.getProperties();
+        if (typeSymbol instanceof TypeReferenceTypeSymbol) {
+            typeSymbol = ((TypeReferenceTypeSymbol) typeSymbol).typeDescriptor();
+        }
+        RecordTypeSymbol recordTypeSymbol = (RecordTypeSymbol) typeSymbol;
+        Map<String, RecordFieldSymbol> fieldSymbolList = recordTypeSymbol.fieldDescriptors();
+        for (Map.Entry<String, RecordFieldSymbol> field : fieldSymbolList.entrySet()) {
+            Schema<?> schemaValue = properties.get(field.getKey().trim());
+            if (schemaValue == null) {
                 for (Map.Entry<String, Schema> property : properties.entrySet()) {
                     if (field.getKey().trim().equals(property.getKey().trim())) {
-                        isFieldExist = true;
-                        String fieldType = field.getValue().typeDescriptor().signature();
-                        if (field.getValue().typeDescriptor() instanceof TypeReferenceTypeSymbol) {
-                            TypeReferenceTypeSymbol typeRef =
-                                    (TypeReferenceTypeSymbol) field.getValue().typeDescriptor();
-                            fieldType = typeRef.definition().getName().get();
-                        }
-
-                        Schema<?> schemaValue = property.getValue();
-                        String oas = getNumberFormatType(schemaValue);
-                        Optional<String> oasType = convertOpenAPITypeToBallerina(oas);
-                        if (schemaValue instanceof ArraySchema) {
-                            ArraySchema arraySchema = (ArraySchema) schemaValue;
-                            validateArrayTypeMismatch(balRecord, context, field, arraySchema, severity);
-                        } else if (schemaValue.get$ref() != null) {
-                            Schema<?> componentSchema = openAPI.getComponents().getSchemas()
-                                    .get(extractReferenceType(schemaValue.get$ref()).orElse(null));
-                            validateRecordType(componentSchema, field.getValue().typeDescriptor(), fieldType, context
-                                    , openAPI, extractReferenceType(schemaValue.get$ref()).orElse(null), severity);
-                        } else if (schemaValue instanceof ObjectSchema) {
-                            // Todo: inline record validation ex: record {|int id; string name;|}
-                            return;
-                        } else if (oasType.isEmpty() || !fieldType.equals(oasType.get())) {
-                            // type mismatch field
-                            reportDiagnostic(context, CompilationError.TYPE_MISMATCH_FIELD,
-                                    field.getValue().getLocation().orElse(null), severity, oas, fieldType,
-                                    field.getKey(), balRecord);
-                        }
+                        schemaValue = property.getValue();
                         break;
                     }
                 }
-                if (!isFieldExist) {
-                    // Undefine record field.
-                    reportDiagnostic(context, CompilationError.UNDEFINED_BRECORD_FIELD,
-                            field.getValue().getLocation().orElse(null), severity, field.getKey(), balRecord,
-                            oasName);
-                }
+            }
+            if (schemaValue == null) {
+                // Undefine record field.
+                diagnostics.add(new RecordDiagnostic(CompilationError.UNDEFINED_BRECORD_FIELD,
+                        field.getValue().getLocation().orElse(null), field.getKey(), balRecord, oasName));
+                continue;
+            }
+            String fieldType = field.getValue().typeDescriptor().signature();
+            if (field.getValue().typeDescriptor() instanceof TypeReferenceTypeSymbol) {
+                TypeReferenceTypeSymbol typeRef = (TypeReferenceTypeSymbol) field.getValue().typeDescriptor();
+                fieldType = typeRef.definition().getName().get();
+            }
+            String oas = getNumberFormatType(schemaValue);
+            Optional<String> oasType = convertOpenAPITypeToBallerina(oas);
+            if (schemaValue instanceof ArraySchema) {
+                ArraySchema arraySchema = (ArraySchema) schemaValue;
+                validateArrayTypeMismatch(balRecord, field, arraySchema, diagnostics);
+            } else if (schemaValue.get$ref() != null) {
+                String refName = extractReferenceType(schemaValue.get$ref()).orElse(null);
+                Schema<?> componentSchema = openAPI.getComponents().getSchemas().get(refName);
+                diagnostics.addAll(getRecordDiagnostics(componentSchema, field.getValue().typeDescriptor(),
+                        fieldType, openAPI, refName, cache, visited, isRecursive));
+            } else if (schemaValue instanceof ObjectSchema) {
+                // Todo: inline record validation ex: record {|int id; string name;|}
+                return;
+            } else if (oasType.isEmpty() || !fieldType.equals(oasType.get())) {
+                // type mismatch field
+                diagnostics.add(new RecordDiagnostic(CompilationError.TYPE_MISMATCH_FIELD,
+                        field.getValue().getLocation().orElse(null), oas, fieldType, field.getKey(), balRecord));
             }
         }
     }
@@ -122,9 +179,8 @@ public class TypeValidatorUtils {
     /**
      * This function is used to validate type for array fields.
      */
-    private static void validateArrayTypeMismatch(String balRecord, SyntaxNodeAnalysisContext context,
-                                                  Map.Entry<String, RecordFieldSymbol> field, ArraySchema arraySchema,
-                                                  DiagnosticSeverity severity) {
+    private static void validateArrayTypeMismatch(String balRecord, Map.Entry<String, RecordFieldSymbol> field,
+                                                  ArraySchema arraySchema, List<RecordDiagnostic> diagnostics) {
         Optional<String> oasType;
         String messageOasType;
         String balFieldType = field.getValue().typeDescriptor().signature();
@@ -161,9 +217,9 @@ public class TypeValidatorUtils {
         messageOasType = oasArrayItems + arrayBuilder.toString();
         if (!balFieldType.equals(oasType.get())) {
             // type mismatch error
-            reportDiagnostic(context, CompilationError.TYPE_MISMATCH_FIELD,
-                    field.getValue().getLocation().orElse(null), severity, messageOasType, balFieldType,
-                    field.getKey(), balRecord);
+            diagnostics.add(new RecordDiagnostic(CompilationError.TYPE_MISMATCH_FIELD,
+                    field.getValue().getLocation().orElse(null), messageOasType, balFieldType, field.getKey(),
+                    balRecord));
         }
     }
 
@@ -35,17 +35,27 @@ class ValidatorContext {
     private final DiagnosticSeverity severity;
     // This default location is map to relevant resource function
     private final Location location;
+    private final RecordValidationCache recordValidationCache;
 
     public ValidatorContext(SyntaxNodeAnalysisContext compilerPluginContext,
                             OpenAPI openAPI,
                             String path, String method,
                             DiagnosticSeverity severity, Location location) {
+        this(compilerPluginContext, openAPI, path, method, severity, location, new RecordValidationCache());
+    }
+
+    public ValidatorContext(SyntaxNodeAnalysisContext compilerPluginContext,
+                            OpenAPI openAPI,
+                            String path, String method,
+                            DiagnosticSeverity severity, Location location,
+                            RecordValidationCache recordValidationCache) {
         this.compilerPluginContext = compilerPluginContext;
         this.openAPI = openAPI;
         this.path = path;
         this.method = method;
         this.severity = severity;
         this.location = location;
+        this.recordValidationCache = recordValidationCache;
     }
 
     public SyntaxNodeAnalysisContext getContext() {
@@ -71,4 +81,8 @@ class ValidatorContext {
     public Location getLocation() {
         return location;
     }
+
+    public RecordValidationCache getRecordValidationCache() {
+        return recordValidationCache;
+    }
 }
@@ -20,6 +20,7 @@ package io.ballerina.openapi.validator.model;
 import io.ballerina.tools.diagnostics.DiagnosticSeverity;
 
 import java.util.List;
+import java.util.Objects;
 
 /**
  * This for model the all tag, operations, excludeTags and excludeOperations filters.
@@ -61,6 +62,25 @@ public class Filter {
         return kind;
     }
 
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        Filter filter = (Filter) o;
+        return Objects.equals(tag, filter.tag) && Objects.equals(excludeTag, filter.excludeTag) &&
+                Objects.equals(operation, filter.operation) &&
+                Objects.equals(excludeOperation, filter.excludeOperation) && kind == filter.kind;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(tag, excludeTag, operation, excludeOperation, kind);
+    }
+
     /**
      * This is the builder class for the {@link Filter}.
      */
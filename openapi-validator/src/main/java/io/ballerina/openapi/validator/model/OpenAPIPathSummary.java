@@ -39,6 +39,12 @@ public class OpenAPIPathSummary {
         this.path = null;
     }
 
+    public OpenAPIPathSummary(OpenAPIPathSummary pathSummary) {
+        this.availableOperations = new ArrayList<>(pathSummary.availableOperations);
+        this.operations = new HashMap<>(pathSummary.operations);
+        this.path = pathSummary.path;
+    }
+
     public String getPath() {
         return path;
     }
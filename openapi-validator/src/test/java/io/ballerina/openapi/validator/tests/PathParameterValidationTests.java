@@ -49,4 +49,22 @@ public class PathParameterValidationTests {
                 "that associated with the path '/pets/{petId}/owner/{owner-id}'.";
         Assert.assertEquals(error, errors[0].toString());
     }
+
+    @Test(description = "Path parameter named differently from the contract")
+    public void renamedPathParameter() {
+        Path path = RES_DIR.resolve("renamed_path_parameter.bal");
+        Project project = getProject(path);
+        DiagnosticResult diagnostic = getCompilation(project);
+        Object[] errors =
+                diagnostic.diagnostics().stream().filter(d -> DiagnosticSeverity.ERROR == d.diagnosticInfo().severity())
+                        .toArray();
+        // The resource is matched with the path template, so that only the parameter name mismatch is reported
+        Assert.assertTrue(errors.length > 0);
+        for (Object error : errors) {
+            Assert.assertFalse(error.toString().contains("undefined resource path"), error.toString());
+            Assert.assertFalse(error.toString().contains("missing Ballerina service resource"), error.toString());
+        }
+        Assert.assertTrue(errors[0].toString().contains("petId") || errors[0].toString().contains("'id'"),
+                errors[0].toString());
+    }
 }
@@ -81,6 +81,15 @@ public class PreValidationTests {
         Assert.assertEquals(errors.length, 2);
     }
 
+    @Test(description = "Multiple services refer the same contract")
+    public void servicesWithSharedContract() {
+        Path path = RES_DIR.resolve("shared_contract.bal");
+        Project project = getProject(path);
+        DiagnosticResult diagnostic = getCompilation(project);
+        // Each service reports its own unimplemented path and operation
+        Assert.assertEquals(getDiagnostics(diagnostic).length, 4);
+    }
+
     @Test(description = "Given ballerina file has extra resources")
     public void undocumentedPathAndOperations() {
         Path path = RES_DIR.resolve("undocumented_resources.bal");
@@ -24,6 +24,11 @@ import org.testng.annotations.Test;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 import static io.ballerina.openapi.validator.tests.ValidatorTest.getCompilation;
 import static io.ballerina.openapi.validator.tests.ValidatorTest.getDiagnostics;
@@ -79,6 +84,30 @@ public class RecordValidationTests {
         Assert.assertEquals(typeMismatch01, errors[0].toString());
     }
 
+    @Test(description = "Type mismatch field in a recursive record")
+    public void typeMisMatchRecursiveRecord() {
+        Path path = RES_DIR.resolve("recursive_record.bal");
+        Project project = getProject(path);
+        DiagnosticResult diagnostic = getCompilation(project);
+        Object[] errors = getDiagnostics(diagnostic);
+        Assert.assertEquals(errors.length, 1);
+        String typeMismatch = "ERROR [recursive_record.bal:(5:9,5:11)] implementation type does not " +
+                "match with OpenAPI contract type (expected 'string', found 'int') for the field 'id' of type 'Pet'.";
+        Assert.assertEquals(typeMismatch, errors[0].toString());
+    }
+
+    @Test(description = "Type mismatch fields in mutually recursive records used by several resources")
+    public void typeMisMatchMutuallyRecursiveRecords() {
+        List<String> petFirstErrors = getErrorMessages("mutual_recursive_records_pet_first.bal");
+        List<String> ownerFirstErrors = getErrorMessages("mutual_recursive_records_owner_first.bal");
+        String petMismatch = "ERROR [(5:9,5:11)] implementation type does not match with OpenAPI contract type " +
+                "(expected 'string', found 'int') for the field 'id' of type 'Pet'.";
+        String ownerMismatch = "ERROR [(10:9,10:13)] implementation type does not match with OpenAPI contract type " +
+                "(expected 'string', found 'int') for the field 'name' of type 'Owner'.";
+        Assert.assertEquals(new HashSet<>(petFirstErrors), Set.of(petMismatch, ownerMismatch));
+        Assert.assertEquals(petFirstErrors, ownerFirstErrors);
+    }
+
     @Test(description = "Undocumented record field in record")
     public void undocumentedRecordField() {
         Path path = RES_DIR.resolve("undocumented_field.bal");
@@ -108,6 +137,18 @@ public class RecordValidationTests {
         // TODO: res:ResRecord
     }
 
+    /**
+     * Returns the sorted error messages of the given file without the file name.
+     */
+    private static List<String> getErrorMessages(String fileName) {
+        Project project = getProject(RES_DIR.resolve(fileName));
+        DiagnosticResult diagnostic = getCompilation(project);
+        return Arrays.stream(getDiagnostics(diagnostic))
+                .map(error -> error.toString().replace(fileName + ":", ""))
+                .sorted()
+                .collect(Collectors.toList());
+    }
+
     //TODO: unimplemented record in ballerina
     //TODO: undocumented object schema in ballerina
 }
@@ -0,0 +1,10 @@
+import ballerina/openapi;
+import ballerina/http;
+
+@openapi:ServiceInfo {
+    contract:"renamed_path_parameter.yaml"
+}
+service /v1 on new http:Listener(9090) {
+    resource function get pet/[int id]() {
+    }
+}
@@ -0,0 +1,18 @@
+import ballerina/openapi;
+import ballerina/http;
+
+@openapi:ServiceInfo{
+    contract: "unimplemented_resources.yaml"
+}
+service /v4 on new http:Listener(9090) {
+    resource function post pet() {
+    }
+}
+
+@openapi:ServiceInfo{
+    contract: "unimplemented_resources.yaml"
+}
+service /v5 on new http:Listener(9091) {
+    resource function post pet() {
+    }
+}
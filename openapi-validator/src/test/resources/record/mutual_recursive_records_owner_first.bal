@@ -0,0 +1,29 @@
+import ballerina/openapi;
+import ballerina/http;
+
+type Pet record {
+    int id;
+    Owner owner?;
+};
+
+type Owner record {
+    int name;
+    Pet pet?;
+};
+
+type Shelter record {
+    string name;
+    Pet pet;
+};
+
+@openapi:ServiceInfo {
+    contract:"mutual_recursive_records.yaml"
+}
+service on new http:Listener(9090) {
+    resource function post owner(@http:Payload Owner payload) {
+    }
+    resource function post pet(@http:Payload Pet payload) {
+    }
+    resource function post shelter(@http:Payload Shelter payload) {
+    }
+}
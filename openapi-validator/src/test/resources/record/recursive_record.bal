@@ -0,0 +1,15 @@
+import ballerina/openapi;
+import ballerina/http;
+
+type Pet record {
+    int id;
+    Pet parent?;
+};
+
+@openapi:ServiceInfo {
+    contract:"recursive_record.yaml"
+}
+service on new http:Listener(9090) {
+    resource function post pet(@http:Payload Pet payload) {
+    }
+}